@@ -20,8 +20,10 @@ import it.pintux.life.bedwarsaddon.action.UpgradeBuyAction;
 import it.pintux.life.bedwarsaddon.api.BedrockPlayerDetector;
 import it.pintux.life.bedwarsaddon.command.BedwarsAddonCommand;
 import it.pintux.life.bedwarsaddon.config.BedwarsAddonConfiguration;
-import it.pintux.life.bedwarsaddon.listener.BedwarsCommandListener;
+import it.pintux.life.bedwarsaddon.listener.BedwarsCommandHandler;
+import it.pintux.life.bedwarsaddon.listener.CurrencySnapshotListener;
 import it.pintux.life.bedwarsaddon.listener.MenuInterceptListener;
+import it.pintux.life.bedwarsaddon.listener.ShopBackingListener;
 import it.pintux.life.bedwarsaddon.listener.ShopOpenListener;
 import it.pintux.life.bedwarsaddon.listener.ShopOpenListener1058;
 import it.pintux.life.bedwarsaddon.provider.BedWars2023ArenaProvider;
@@ -38,6 +40,7 @@ import it.pintux.life.bedwarsaddon.provider.BedWars2023SpectatorProvider;
 import it.pintux.life.bedwarsaddon.provider.BedWars2023StatsProvider;
 import it.pintux.life.bedwarsaddon.provider.BedWars2023UpgradeProvider;
 import it.pintux.life.bedwarsaddon.provider.BedWarsApiAccess;
+import it.pintux.life.bedwarsaddon.provider.CurrencySnapshots;
 import it.pintux.life.bedwarsaddon.provider.FloodgateBedrockPlayerDetector;
 import it.pintux.life.bedwarsaddon.provider.SbwApiAccess;
 import it.pintux.life.bedwarsaddon.provider.SbwArenaProvider;
@@ -59,6 +62,7 @@ import it.pintux.life.bedwarsaddon.service.StatsCatalogService;
 import it.pintux.life.bedwarsaddon.service.UpgradeCatalogService;
 import it.pintux.life.bedwarsaddon.util.BedrockSoundFeedback;
 import it.pintux.life.common.api.BedrockGUIApi;
+import it.pintux.life.common.api.CommandDispatcher;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.bukkit.event.HandlerList;
@@ -84,9 +88,9 @@ public final class BedrockBedwarsAddonPlugin extends JavaPlugin {
     private BedrockPartyService bedrockPartyService;
     private BedWars1058ApiAccess apiAccess1058;
     private SbwApiAccess sbwAccess;
+    private CurrencySnapshots currencySnapshots;
 
     private MenuInterceptListener menuInterceptListener;
-    private BedwarsCommandListener bedwarsCommandListener;
 
     @Override
     public void onEnable() {
@@ -118,10 +122,17 @@ public final class BedrockBedwarsAddonPlugin extends JavaPlugin {
         boolean bw1058 = "BedWars1058".equals(backend);
         boolean sbw = "ScreamingBedWars".equals(backend);
 
+        if (bw2023 && (configuration.moduleShop() || configuration.moduleUpgrades())) {
+            currencySnapshots = new CurrencySnapshots();
+            pm.registerEvents(new CurrencySnapshotListener(currencySnapshots), this);
+        }
+
         if (configuration.moduleShop()) {
             shopCatalogService = new ShopCatalogService(getLogger());
             if (bw2023) {
-                shopCatalogService.setProvider(new BedWars2023ShopProvider(getLogger(), apiAccess));
+                BedWars2023ShopProvider shopProvider = new BedWars2023ShopProvider(getLogger(), apiAccess, currencySnapshots);
+                shopCatalogService.setProvider(shopProvider);
+                pm.registerEvents(new ShopBackingListener(shopProvider), this);
             } else if (bw1058) {
                 shopCatalogService.setProvider(new BedWars1058ShopProvider(getLogger(), apiAccess1058));
             }
@@ -140,7 +151,7 @@ public final class BedrockBedwarsAddonPlugin extends JavaPlugin {
         if (configuration.moduleUpgrades()) {
             upgradeCatalogService = new UpgradeCatalogService(getLogger());
             if (bw2023) {
-                upgradeCatalogService.setProvider(new BedWars2023UpgradeProvider(getLogger(), apiAccess));
+                upgradeCatalogService.setProvider(new BedWars2023UpgradeProvider(getLogger(), apiAccess, currencySnapshots));
             } else if (bw1058) {
                 upgradeCatalogService.setProvider(new BedWars1058UpgradeProvider(getLogger(), apiAccess1058));
             }
@@ -241,6 +252,11 @@ public final class BedrockBedwarsAddonPlugin extends JavaPlugin {
 
     @Override
     public void onDisable() {
+        CommandDispatcher.shared().unregisterAll(this);
+        if (currencySnapshots != null) {
+            currencySnapshots.clear();
+            currencySnapshots = null;
+        }
         shopCatalogService = null;
         bedrockShopService = null;
         upgradeCatalogService = null;
@@ -348,16 +364,13 @@ public final class BedrockBedwarsAddonPlugin extends JavaPlugin {
      * service instance from the previous config.
      */
     private void registerInterceptListeners(PluginManager pm) {
-        // Only these two are re-registered on reload; the backend event listeners registered in
-        // onEnable stay as they are, so they must not be torn down here.
+        // Only the menu listener and the command handler are re-registered on reload; the backend
+        // event listeners registered in onEnable stay as they are, so they must not be torn down here.
         if (menuInterceptListener != null) {
             HandlerList.unregisterAll(menuInterceptListener);
             menuInterceptListener = null;
         }
-        if (bedwarsCommandListener != null) {
-            HandlerList.unregisterAll(bedwarsCommandListener);
-            bedwarsCommandListener = null;
-        }
+        CommandDispatcher.shared().unregisterAll(this);
 
         // Menu interception is part of the integrated GUI experience.
         if (configuration.integratedGui() && (bedrockArenaService != null || bedrockUpgradeService != null
@@ -367,12 +380,12 @@ public final class BedrockBedwarsAddonPlugin extends JavaPlugin {
             pm.registerEvents(menuInterceptListener, this);
         }
 
-        BedwarsCommandListener commandListener = new BedwarsCommandListener(this, configuration,
+        BedwarsCommandHandler commandHandler = new BedwarsCommandHandler(this, configuration,
                 bedrockArenaService, bedrockStatsService, bedrockPartyService, bedrockShopService,
                 bedrockUpgradeService, bedrockSpectatorService);
-        if (configuration.integratedGui() && commandListener.hasAnyCommand()) {
-            bedwarsCommandListener = commandListener;
-            pm.registerEvents(commandListener, this);
+        if (configuration.integratedGui() && commandHandler.hasAnyCommand()) {
+            CommandDispatcher.shared().register(this, CommandDispatcher.Priority.HIGH,
+                    commandHandler.roots(), commandHandler::handle);
         }
     }
 
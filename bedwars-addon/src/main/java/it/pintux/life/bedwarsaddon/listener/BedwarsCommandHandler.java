@@ -8,14 +8,14 @@ import it.pintux.life.bedwarsaddon.service.BedrockSpectatorService;
 import it.pintux.life.bedwarsaddon.service.BedrockStatsService;
 import it.pintux.life.bedwarsaddon.service.BedrockUpgradeService;
 import it.pintux.life.bedwarsaddon.util.CommandAliases;
+import it.pintux.life.common.api.CommandDispatcher;
 import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.EventPriority;
-import org.bukkit.event.Listener;
-import org.bukkit.event.player.PlayerCommandPreprocessEvent;
 import org.bukkit.plugin.Plugin;
 
-public final class BedwarsCommandListener implements Listener {
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+public final class BedwarsCommandHandler {
     private final Plugin plugin;
     private final BedrockArenaService arenaService;
     private final BedrockStatsService statsService;
@@ -31,11 +31,11 @@ public final class BedwarsCommandListener implements Listener {
     private final CommandAliases upgradeCommands;
     private final CommandAliases spectatorCommands;
 
-    public BedwarsCommandListener(Plugin plugin, BedwarsAddonConfiguration configuration,
-                                  BedrockArenaService arenaService, BedrockStatsService statsService,
-                                  BedrockPartyService partyService, BedrockShopService shopService,
-                                  BedrockUpgradeService upgradeService,
-                                  BedrockSpectatorService spectatorService) {
+    public BedwarsCommandHandler(Plugin plugin, BedwarsAddonConfiguration configuration,
+                                 BedrockArenaService arenaService, BedrockStatsService statsService,
+                                 BedrockPartyService partyService, BedrockShopService shopService,
+                                 BedrockUpgradeService upgradeService,
+                                 BedrockSpectatorService spectatorService) {
         this.plugin = plugin;
         this.arenaService = arenaService;
         this.statsService = statsService;
@@ -56,40 +56,50 @@ public final class BedwarsCommandListener implements Listener {
                 || !shopCommands.isEmpty() || !upgradeCommands.isEmpty() || !spectatorCommands.isEmpty();
     }
 
-    @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
-    public void onCommand(PlayerCommandPreprocessEvent event) {
-        Player player = event.getPlayer();
-        String root = CommandAliases.rootOf(event.getMessage());
-        if (root == null || CommandAliases.argsOf(event.getMessage()).length > 0) {
-            return;
+    public Set<String> roots() {
+        Set<String> roots = new LinkedHashSet<>(arenaCommands.roots());
+        roots.addAll(statsCommands.roots());
+        roots.addAll(partyCommands.roots());
+        roots.addAll(shopCommands.roots());
+        roots.addAll(upgradeCommands.roots());
+        roots.addAll(spectatorCommands.roots());
+        return roots;
+    }
+
+    public boolean handle(CommandDispatcher.Command command) {
+        Player player = command.player(Player.class);
+        if (player == null || command.args().length > 0) {
+            return false;
         }
 
+        String root = command.root();
         if (arenaCommands.matches(root)) {
-            open(event, arenaService == null || !arenaService.shouldHandle(player) ? null
+            return open(arenaService == null || !arenaService.shouldHandle(player) ? null
                     : () -> arenaService.openMain(player));
         } else if (statsCommands.matches(root)) {
-            open(event, statsService == null || !statsService.shouldHandle(player) ? null
+            return open(statsService == null || !statsService.shouldHandle(player) ? null
                     : () -> statsService.openStats(player));
         } else if (partyCommands.matches(root)) {
-            open(event, partyService == null || !partyService.shouldHandle(player) ? null
+            return open(partyService == null || !partyService.shouldHandle(player) ? null
                     : () -> partyService.openMain(player));
         } else if (shopCommands.matches(root)) {
-            open(event, shopService == null || !shopService.shouldHandle(player) ? null
+            return open(shopService == null || !shopService.shouldHandle(player) ? null
                     : () -> shopService.openMain(player));
         } else if (upgradeCommands.matches(root)) {
-            open(event, upgradeService == null || !upgradeService.shouldHandle(player) ? null
+            return open(upgradeService == null || !upgradeService.shouldHandle(player) ? null
                     : () -> upgradeService.openMain(player));
         } else if (spectatorCommands.matches(root)) {
-            open(event, spectatorService == null || !spectatorService.shouldHandle(player) ? null
+            return open(spectatorService == null || !spectatorService.shouldHandle(player) ? null
                     : () -> spectatorService.openTeleporter(player));
         }
+        return false;
     }
 
-    private void open(PlayerCommandPreprocessEvent event, Runnable action) {
+    private boolean open(Runnable action) {
         if (action == null) {
-            return;
+            return false;
         }
-        event.setCancelled(true);
         plugin.getServer().getScheduler().runTask(plugin, action);
+        return true;
     }
 }
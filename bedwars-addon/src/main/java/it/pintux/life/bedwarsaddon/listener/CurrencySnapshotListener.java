@@ -0,0 +1,36 @@
+package it.pintux.life.bedwarsaddon.listener;
+
+import it.pintux.life.bedwarsaddon.provider.CurrencySnapshots;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityPickupItemEvent;
+import org.bukkit.event.player.PlayerDropItemEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+/** Drops a player's counted currency whenever their inventory gains or loses items. */
+public final class CurrencySnapshotListener implements Listener {
+    private final CurrencySnapshots currencies;
+
+    public CurrencySnapshotListener(CurrencySnapshots currencies) {
+        this.currencies = currencies;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPickup(EntityPickupItemEvent event) {
+        if (event.getEntity() instanceof Player player) {
+            currencies.invalidate(player.getUniqueId());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onDrop(PlayerDropItemEvent event) {
+        currencies.invalidate(event.getPlayer().getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        currencies.invalidate(event.getPlayer().getUniqueId());
+    }
+}
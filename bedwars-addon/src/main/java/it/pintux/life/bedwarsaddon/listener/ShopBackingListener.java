@@ -0,0 +1,21 @@
+package it.pintux.life.bedwarsaddon.listener;
+
+import it.pintux.life.bedwarsaddon.provider.BedWars2023ShopProvider;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+/** Drops a player's purchase backing inventory when they quit. */
+public final class ShopBackingListener implements Listener {
+    private final BedWars2023ShopProvider provider;
+
+    public ShopBackingListener(BedWars2023ShopProvider provider) {
+        this.provider = provider;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        provider.forget(event.getPlayer().getUniqueId());
+    }
+}
@@ -18,7 +18,11 @@ import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
 
 /**
@@ -29,14 +33,30 @@ import java.util.logging.Logger;
  * {@code tiers.get(0)} when the item is not yet cached, {@code tiers.get(currentTier)} otherwise,
  * capped at the max tier. Purchasing delegates to {@code execute(player, cache, slot)} which performs
  * the affordability check, currency deduction and item grant internally and returns success.
+ * <p>
+ * Categories and contents are looked up through a hash index built once per loaded {@link IShopIndex}.
+ * The 54-slot backing inventory {@code execute} writes into is held by the buying player, so anything
+ * checking the open inventory's holder still sees that player. It is kept per player: cleared after
+ * each purchase, reused for the next one and dropped when the player quits (see {@link #forget}).
  */
 public final class BedWars2023ShopProvider implements ShopProvider {
     private final Logger logger;
     private final BedWarsApiAccess access;
+    private final CurrencySnapshots currencies;
+    private volatile ContentIndex contentIndex;
+
+    private static final int BACKING_SIZE = 54;
+    private final Map<UUID, Inventory> backings = new ConcurrentHashMap<>();
+
+    /** Lookups for one loaded shop; first match wins, as the linear category scan did. */
+    private record ContentIndex(IShopIndex shop, Map<String, IShopCategory> categories,
+                                Map<String, ICategoryContent> contents) {
+    }
 
-    public BedWars2023ShopProvider(Logger logger, BedWarsApiAccess access) {
+    public BedWars2023ShopProvider(Logger logger, BedWarsApiAccess access, CurrencySnapshots currencies) {
         this.logger = logger;
         this.access = access;
+        this.currencies = currencies;
     }
 
     @Override public String getProviderId() { return "BedWars2023"; }
@@ -70,7 +90,7 @@ public final class BedWars2023ShopProvider implements ShopProvider {
         BedWars api = access.get();
         if (index == null || api == null) return List.of();
 
-        IShopCategory category = findCategory(index, categoryId);
+        IShopCategory category = contentIndex(index).categories().get(categoryId);
         if (category == null) return List.of();
 
         IShopCache cache = playerCache(api, player);
@@ -82,7 +102,7 @@ public final class BedWars2023ShopProvider implements ShopProvider {
             IContentTier ct = selectTier(content, cache, tiers);
             int price = ct.getPrice();
             Material currency = ct.getCurrency();
-            int money = api.getShopUtil().calculateMoney(player, currency);
+            int money = currencies.money(player, currency, c -> api.getShopUtil().calculateMoney(player, c));
             boolean affordable = money >= price;
 
             int currentTier = cache.getContentTier(content.getIdentifier());
@@ -100,30 +120,29 @@ public final class BedWars2023ShopProvider implements ShopProvider {
         BedWars api = access.get();
         if (index == null || api == null) return PurchaseResult.fail("provider unavailable");
 
+        ICategoryContent content = contentIndex(index).contents().get(contentId);
+        if (content == null) return PurchaseResult.fail("item not found");
+
         IShopCache cache = playerCache(api, player);
-        for (IShopCategory category : index.getCategoryList()) {
-            ICategoryContent content = category.getCategoryContent(contentId, index);
-            if (content != null) {
-                // execute() does the full buy (money check, takeMoney, giveItems, BedWars' own
-                // messages/sounds, tier upgrade) and returns false on denial. BUT it also writes the
-                // bought item into player.getOpenInventory().getTopInventory().setItem(slot, ...).
-                // We cancelled the chest, so without a backing inventory of adequate size that throws
-                // AIOOBE *after* takeMoney (charge with no item). Open a throwaway 54-slot inventory so
-                // the GUI write lands harmlessly; the Bedrock player only ever sees the Cumulus form.
-                Inventory backing = Bukkit.createInventory(player, 54);
-                try {
-                    player.openInventory(backing);
-                    boolean ok = content.execute(player, cache, content.getSlot());
-                    return ok ? PurchaseResult.ok() : PurchaseResult.fail("denied");
-                } catch (Exception e) {
-                    logger.warning("Purchase failed for " + contentId + ": " + e.getClass().getSimpleName());
-                    return PurchaseResult.fail("error");
-                } finally {
-                    player.closeInventory();
-                }
-            }
+        // execute() does the full buy (money check, takeMoney, giveItems, BedWars' own
+        // messages/sounds, tier upgrade) and returns false on denial. BUT it also writes the
+        // bought item into player.getOpenInventory().getTopInventory().setItem(slot, ...).
+        // We cancelled the chest, so without a backing inventory of adequate size that throws
+        // AIOOBE *after* takeMoney (charge with no item). Open the player's own 54-slot inventory
+        // so the GUI write lands harmlessly; the Bedrock player only ever sees the Cumulus form.
+        Inventory backing = borrowBacking(player);
+        try {
+            player.openInventory(backing);
+            boolean ok = content.execute(player, cache, content.getSlot());
+            return ok ? PurchaseResult.ok() : PurchaseResult.fail("denied");
+        } catch (Exception e) {
+            logger.warning("Purchase failed for " + contentId + ": " + e.getClass().getSimpleName());
+            return PurchaseResult.fail("error");
+        } finally {
+            player.closeInventory();
+            returnBacking(player, backing);
+            currencies.invalidate(player.getUniqueId());
         }
-        return PurchaseResult.fail("item not found");
     }
 
     @Override
@@ -134,11 +153,39 @@ public final class BedWars2023ShopProvider implements ShopProvider {
 
     // --- helpers -----------------------------------------------------------
 
-    private IShopCategory findCategory(IShopIndex index, String categoryId) {
-        for (IShopCategory c : index.getCategoryList()) {
-            if (c.getName().equals(categoryId)) return c;
+    /** The lookup index for the loaded shop, rebuilt when BedWars2023 loads a new shop index. */
+    private ContentIndex contentIndex(IShopIndex index) {
+        ContentIndex cached = contentIndex;
+        if (cached != null && cached.shop() == index) return cached;
+        Map<String, IShopCategory> categories = new HashMap<>();
+        Map<String, ICategoryContent> contents = new HashMap<>();
+        for (IShopCategory category : index.getCategoryList()) {
+            categories.putIfAbsent(category.getName(), category);
+            for (ICategoryContent content : category.getCategoryContentList()) {
+                contents.putIfAbsent(content.getIdentifier(), content);
+            }
         }
-        return null;
+        ContentIndex built = new ContentIndex(index, categories, contents);
+        contentIndex = built;
+        return built;
+    }
+
+    /** Drops the player's backing inventory; called when they quit. */
+    public void forget(UUID playerId) {
+        backings.remove(playerId);
+    }
+
+    /** The player's backing inventory, held by the player; a stale holder (rejoined player) gets a new one. */
+    private Inventory borrowBacking(Player player) {
+        Inventory pooled = backings.remove(player.getUniqueId());
+        if (pooled != null && pooled.getHolder() == player) return pooled;
+        return Bukkit.createInventory(player, BACKING_SIZE);
+    }
+
+    private void returnBacking(Player player, Inventory backing) {
+        if (!backing.getViewers().isEmpty() || !player.isOnline()) return; // still open or gone; let it go
+        backing.clear();
+        backings.put(player.getUniqueId(), backing);
     }
 
     /** Mirrors CategoryContent.execute tier selection. */
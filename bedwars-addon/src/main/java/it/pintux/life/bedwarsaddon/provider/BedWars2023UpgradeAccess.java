@@ -0,0 +1,199 @@
+package it.pintux.life.bedwarsaddon.provider;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.logging.Logger;
+
+/**
+ * Method handles for the BedWars2023 upgrade internals {@link BedWars2023UpgradeProvider} reads.
+ *
+ * <p>Each handle is looked up once per runtime class and kept for as long as that class lives, so
+ * a reloaded BedWars2023 (new classes) is looked up again. When an upgrade or trap class lacks a
+ * member this addon relies on, that is logged once with the missing member, and its prices are shown
+ * as free instead of failing on every render.
+ */
+final class BedWars2023UpgradeAccess {
+    private static final String MAIN_CLASS = "com.tomkeuper.bedwars.BedWars";
+
+    private final Logger logger;
+
+    /** Member handles of a menu content class; a null handle means the member is absent. */
+    record ContentLayout(MethodHandle children, MethodHandle tiers, MethodHandle cost, MethodHandle currency) {
+    }
+
+    /** Getters of one upgrade tier class. */
+    record TierLayout(MethodHandle cost, MethodHandle currency) {
+    }
+
+    /** The static BedWars.getUpgradeManager() of one BedWars2023 class loader; null when absent. */
+    private record UpgradeManagerHandle(ClassLoader loader, MethodHandle handle) {
+    }
+
+    private final ClassValue<ContentLayout> contents = new ClassValue<>() {
+        @Override
+        protected ContentLayout computeValue(Class<?> type) {
+            return contentLayout(type);
+        }
+    };
+
+    private final ClassValue<TierLayout> tiers = new ClassValue<>() {
+        @Override
+        protected TierLayout computeValue(Class<?> type) {
+            return tierLayout(type);
+        }
+    };
+
+    // Resolved on the runtime class of the object each step returned, not on a declared return type.
+    private final ClassValue<MethodHandle> configurations = new ClassValue<>() {
+        @Override
+        protected MethodHandle computeValue(Class<?> type) {
+            return ymlStep(type, "getConfiguration");
+        }
+    };
+
+    private final ClassValue<MethodHandle> ymls = new ClassValue<>() {
+        @Override
+        protected MethodHandle computeValue(Class<?> type) {
+            return ymlStep(type, "getYml");
+        }
+    };
+
+    private volatile UpgradeManagerHandle upgradeManager;
+
+    BedWars2023UpgradeAccess(Logger logger) {
+        this.logger = logger;
+    }
+
+    ContentLayout content(Class<?> type) {
+        return contents.get(type);
+    }
+
+    TierLayout tier(Class<?> type) {
+        return tiers.get(type);
+    }
+
+    private ContentLayout contentLayout(Class<?> type) {
+        String name = type.getSimpleName();
+        MethodHandle children = getter(type, "menuContentBySlot");
+        MethodHandle tierList = null;
+        MethodHandle cost = null;
+        MethodHandle currency = null;
+        if (name.equals("MenuUpgrade")) {
+            tierList = getter(type, "tiers");
+            if (tierList == null) {
+                layoutChanged(type, "field 'tiers'");
+            }
+        } else if (name.equals("MenuBaseTrap")) {
+            cost = getter(type, "cost");
+            currency = getter(type, "currency");
+            if (cost == null || currency == null) {
+                layoutChanged(type, "fields 'cost' and 'currency'");
+            }
+        }
+        return new ContentLayout(children, tierList, cost, currency);
+    }
+
+    private TierLayout tierLayout(Class<?> type) {
+        MethodHandle cost = method(type, "getCost");
+        MethodHandle currency = method(type, "getCurrency");
+        if (cost == null || currency == null) {
+            layoutChanged(type, "methods getCost() and getCurrency()");
+        }
+        return new TierLayout(cost, currency);
+    }
+
+    /**
+     * Reads BedWars.getUpgradeManager().getConfiguration().getYml(). The static getter is resolved once
+     * per BedWars2023 class loader, each following getter once per runtime class it is called on.
+     *
+     * @param anchor any BedWars2023 object, used to find the plugin's class loader
+     * @return the upgrades YamlConfiguration, or null when it cannot be read
+     */
+    Object upgradesYml(Object anchor) {
+        ClassLoader loader = anchor.getClass().getClassLoader();
+        UpgradeManagerHandle manager = upgradeManager;
+        if (manager == null || manager.loader() != loader) {
+            manager = resolveUpgradeManager(loader);
+            upgradeManager = manager;
+        }
+        try {
+            if (manager.handle() == null) return null;
+            Object upgrades = manager.handle().invoke();
+            if (upgrades == null) return null;
+            MethodHandle configurationGetter = configurations.get(upgrades.getClass());
+            if (configurationGetter == null) return null;
+            Object configuration = configurationGetter.invoke(upgrades);
+            if (configuration == null) return null;
+            MethodHandle ymlGetter = ymls.get(configuration.getClass());
+            return ymlGetter == null ? null : ymlGetter.invoke(configuration);
+        } catch (Throwable t) {
+            return null;
+        }
+    }
+
+    private UpgradeManagerHandle resolveUpgradeManager(ClassLoader loader) {
+        try {
+            Class<?> main = Class.forName(MAIN_CLASS, true, loader);
+            return new UpgradeManagerHandle(loader, unreflect(main.getMethod("getUpgradeManager")));
+        } catch (Throwable t) {
+            ymlUnreachable(MAIN_CLASS + ".getUpgradeManager()", t);
+            return new UpgradeManagerHandle(loader, null);
+        }
+    }
+
+    private MethodHandle ymlStep(Class<?> type, String name) {
+        for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+            try {
+                return unreflect(c.getDeclaredMethod(name));
+            } catch (NoSuchMethodException e) {
+                // declared higher up, or behind an interface default
+            } catch (IllegalAccessException | RuntimeException e) {
+                ymlUnreachable(type.getName() + "." + name + "()", e);
+                return null;
+            }
+        }
+        try {
+            return unreflect(type.getMethod(name));
+        } catch (NoSuchMethodException | IllegalAccessException | RuntimeException e) {
+            ymlUnreachable(type.getName() + "." + name + "()", e);
+            return null;
+        }
+    }
+
+    private void ymlUnreachable(String member, Throwable cause) {
+        logger.warning("BedWars2023 upgrade layout changed: cannot reach " + member + " on the way to "
+                + "BedWars.getUpgradeManager().getConfiguration().getYml() (" + cause.getClass().getSimpleName()
+                + "); trap prices fall back to the trap's own cost.");
+    }
+
+    private void layoutChanged(Class<?> type, String missing) {
+        logger.warning("BedWars2023 upgrade layout changed: " + type.getName() + " has no " + missing
+                + "; its prices are shown as free.");
+    }
+
+    private static MethodHandle getter(Class<?> type, String field) {
+        try {
+            Field f = type.getDeclaredField(field);
+            f.setAccessible(true);
+            return MethodHandles.lookup().unreflectGetter(f);
+        } catch (NoSuchFieldException | IllegalAccessException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static MethodHandle method(Class<?> type, String name) {
+        try {
+            Method m = type.getDeclaredMethod(name);
+            return unreflect(m);
+        } catch (NoSuchMethodException | IllegalAccessException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static MethodHandle unreflect(Method m) throws IllegalAccessException {
+        m.setAccessible(true);
+        return MethodHandles.lookup().unreflect(m);
+    }
+}
@@ -14,12 +14,15 @@ import org.bukkit.entity.Player;
 import org.bukkit.event.inventory.ClickType;
 import org.bukkit.inventory.ItemStack;
 
-import java.lang.reflect.Field;
+import java.lang.invoke.MethodHandle;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.WeakHashMap;
 import java.util.logging.Logger;
 
 /**
@@ -27,22 +30,33 @@ import java.util.logging.Logger;
  * <p>
  * Buyable leaves are MenuUpgrade entries (top level) and MenuUpgrade/MenuBaseTrap entries nested inside
  * categories (e.g. the "Traps" category); category children are read from the private
- * {@code menuContentBySlot} map via reflection. Decorative entries (trap-queue slots, separators,
- * back arrows inside sub-menus) are excluded.
+ * {@code menuContentBySlot} map through {@link BedWars2023UpgradeAccess}. Decorative entries
+ * (trap-queue slots, separators, back arrows inside sub-menus) are excluded. The flattened leaves are
+ * indexed once per {@link UpgradesIndex} and rebuilt when BedWars2023 reloads its upgrade menus.
  * <p>
  * Cost of the NEXT tier comes from MenuUpgrade's private {@code tiers} list
  * (mirroring its onClick: {@code tiers.get(team.getTeamUpgradeTiers().get(name) + 1)}), with
- * affordability via {@code ShopUtil.calculateMoney}. Purchasing calls
+ * affordability from the player's {@link CurrencySnapshots} entry. Purchasing calls
  * {@code onClick(player, LEFT, team, forFree=false, announce=true, announceUnlocked=true, openInv=false)}
  * — openInv=false skips the chest refresh that would otherwise throw with no chest open.
  */
 public final class BedWars2023UpgradeProvider implements UpgradeProvider {
     private final Logger logger;
     private final BedWarsApiAccess access;
+    private final CurrencySnapshots currencies;
+    private final BedWars2023UpgradeAccess internals;
+    private final Map<UpgradesIndex, LeafIndex> leafIndexes = Collections.synchronizedMap(new WeakHashMap<>());
 
-    public BedWars2023UpgradeProvider(Logger logger, BedWarsApiAccess access) {
+    /** Buyable leaves of one upgrades menu, with lookups by qualified id ("i|name") and by name. */
+    private record LeafIndex(Map<Integer, MenuContent> source, List<MenuContent> leaves,
+                             Map<String, MenuContent> byId, Map<String, MenuContent> byName) {
+    }
+
+    public BedWars2023UpgradeProvider(Logger logger, BedWarsApiAccess access, CurrencySnapshots currencies) {
         this.logger = logger;
         this.access = access;
+        this.currencies = currencies;
+        this.internals = new BedWars2023UpgradeAccess(logger);
     }
 
     @Override public String getProviderId() { return "BedWars2023"; }
@@ -73,7 +87,7 @@ public final class BedWars2023UpgradeProvider implements UpgradeProvider {
         if (index == null) return List.of();
         ITeam team = arena.getTeam(player);
 
-        List<MenuContent> leaves = buyableLeaves(index);
+        List<MenuContent> leaves = leafIndex(index).leaves();
         List<UpgradeContent> out = new ArrayList<>();
         for (int i = 0; i < leaves.size(); i++) {
             MenuContent mc = leaves.get(i);
@@ -106,16 +120,34 @@ public final class BedWars2023UpgradeProvider implements UpgradeProvider {
         } catch (Exception e) {
             logger.warning("Upgrade purchase failed for " + upgradeId + ": " + e.getClass().getSimpleName());
             return PurchaseResult.fail("error");
+        } finally {
+            currencies.invalidate(player.getUniqueId());
         }
     }
 
     // --- leaf enumeration ---------------------------------------------------
 
-    /** Buyable leaves in deterministic slot order (top level, categories flattened). */
-    private List<MenuContent> buyableLeaves(UpgradesIndex index) {
-        List<MenuContent> out = new ArrayList<>();
-        collect(new TreeMap<>(index.getMenuContentBySlot()).values(), false, out);
-        return out;
+    /**
+     * Buyable leaves in deterministic slot order (top level, categories flattened), built once per
+     * menu and again only when the menu's slot map is replaced.
+     */
+    private LeafIndex leafIndex(UpgradesIndex index) {
+        Map<Integer, MenuContent> source = index.getMenuContentBySlot();
+        LeafIndex cached = leafIndexes.get(index);
+        if (cached != null && cached.source() == source) return cached;
+
+        List<MenuContent> leaves = new ArrayList<>();
+        collect(new TreeMap<>(source).values(), false, leaves);
+        Map<String, MenuContent> byId = new HashMap<>();
+        Map<String, MenuContent> byName = new HashMap<>();
+        for (int i = 0; i < leaves.size(); i++) {
+            MenuContent mc = leaves.get(i);
+            byId.put(i + "|" + mc.getName(), mc);
+            byName.putIfAbsent(mc.getName(), mc); // first in slot order wins, as the old linear search did
+        }
+        LeafIndex built = new LeafIndex(source, List.copyOf(leaves), byId, byName);
+        leafIndexes.put(index, built);
+        return built;
     }
 
     private void collect(Collection<MenuContent> contents, boolean fromCategory, List<MenuContent> out) {
@@ -135,12 +167,12 @@ public final class BedWars2023UpgradeProvider implements UpgradeProvider {
         }
     }
 
-    /** Reads a category's private menuContentBySlot via reflection (slot-sorted); null if not a category. */
+    /** Reads a category's private menuContentBySlot (slot-sorted); null if not a category. */
     private List<MenuContent> childrenOf(MenuContent mc) {
+        MethodHandle children = internals.content(mc.getClass()).children();
+        if (children == null) return null;
         try {
-            Field f = mc.getClass().getDeclaredField("menuContentBySlot");
-            f.setAccessible(true);
-            Object map = f.get(mc);
+            Object map = children.invoke(mc);
             if (map instanceof Map<?, ?> m) {
                 TreeMap<Integer, MenuContent> sorted = new TreeMap<>();
                 for (Map.Entry<?, ?> e : m.entrySet()) {
@@ -150,8 +182,6 @@ public final class BedWars2023UpgradeProvider implements UpgradeProvider {
                 }
                 return new ArrayList<>(sorted.values());
             }
-        } catch (NoSuchFieldException notACategory) {
-            return null;
         } catch (Throwable t) {
             logger.warning("Upgrade category flatten failed: " + t.getClass().getSimpleName());
         }
@@ -160,26 +190,18 @@ public final class BedWars2023UpgradeProvider implements UpgradeProvider {
 
     /** Resolve an index-qualified id ("i|name"), falling back to a name search. */
     private MenuContent resolve(UpgradesIndex index, String id) {
-        List<MenuContent> leaves = buyableLeaves(index);
+        LeafIndex leaves = leafIndex(index);
+        MenuContent exact = leaves.byId().get(id);
+        if (exact != null) return exact;
         int sep = id.indexOf('|');
         if (sep > 0) {
             try {
-                int idx = Integer.parseInt(id.substring(0, sep));
-                String name = id.substring(sep + 1);
-                if (idx >= 0 && idx < leaves.size() && leaves.get(idx).getName().equals(name)) {
-                    return leaves.get(idx);
-                }
-                for (MenuContent mc : leaves) {
-                    if (mc.getName().equals(name)) return mc;
-                }
-                return null;
+                Integer.parseInt(id.substring(0, sep));
+                return leaves.byName().get(id.substring(sep + 1));
             } catch (NumberFormatException ignored) {
             }
         }
-        for (MenuContent mc : leaves) {
-            if (mc.getName().equals(id)) return mc;
-        }
-        return null;
+        return leaves.byName().get(id);
     }
 
     // --- cost ----------------------------------------------------------------
@@ -198,10 +220,10 @@ public final class BedWars2023UpgradeProvider implements UpgradeProvider {
         String cls = mc.getClass().getSimpleName();
         if (cls.equals("MenuBaseTrap")) return trapCost(api, player, team, mc);
         if (!cls.equals("MenuUpgrade")) return Cost.plain();
+        MethodHandle tierList = internals.content(mc.getClass()).tiers();
+        if (tierList == null) return Cost.plain();
         try {
-            Field f = mc.getClass().getDeclaredField("tiers");
-            f.setAccessible(true);
-            List<?> tiers = (List<?>) f.get(mc);
+            List<?> tiers = (List<?>) tierList.invoke(mc);
             if (tiers == null || tiers.isEmpty()) return Cost.plain();
 
             int tier = -1;
@@ -212,16 +234,14 @@ public final class BedWars2023UpgradeProvider implements UpgradeProvider {
             if (tier + 1 >= tiers.size()) return Cost.maxedOut();
 
             Object next = tiers.get(tier + 1);
-            var costMethod = next.getClass().getDeclaredMethod("getCost");
-            costMethod.setAccessible(true);
-            int cost = (int) costMethod.invoke(next);
-            var currencyMethod = next.getClass().getDeclaredMethod("getCurrency");
-            currencyMethod.setAccessible(true);
-            Object cur = currencyMethod.invoke(next);
+            BedWars2023UpgradeAccess.TierLayout layout = internals.tier(next.getClass());
+            if (layout.cost() == null || layout.currency() == null) return Cost.plain();
+            int cost = (int) layout.cost().invoke(next);
+            Object cur = layout.currency().invoke(next);
             if (!(cur instanceof Material currency) || currency == Material.AIR) {
                 return new Cost(cost, "", true, false); // vault/unknown currency: show cost, no afford check
             }
-            boolean affordable = api.getShopUtil().calculateMoney(player, currency) >= cost;
+            boolean affordable = currencies.money(player, currency, c -> api.getShopUtil().calculateMoney(player, c)) >= cost;
             return new Cost(cost, currencyName(currency), affordable, false);
         } catch (Throwable t) {
             return Cost.plain();
@@ -234,17 +254,15 @@ public final class BedWars2023UpgradeProvider implements UpgradeProvider {
      * upgrades configuration (group-keyed), currency falling back to {@code trap-currency}.
      */
     private Cost trapCost(BedWars api, Player player, ITeam team, MenuContent mc) {
+        BedWars2023UpgradeAccess.ContentLayout layout = internals.content(mc.getClass());
+        if (layout.cost() == null || layout.currency() == null) return Cost.plain();
         try {
-            Field costField = mc.getClass().getDeclaredField("cost");
-            costField.setAccessible(true);
-            int cost = costField.getInt(mc);
-            Field currencyField = mc.getClass().getDeclaredField("currency");
-            currencyField.setAccessible(true);
-            Material currency = currencyField.get(mc) instanceof Material m ? m : null;
+            int cost = (int) layout.cost().invoke(mc);
+            Material currency = layout.currency().invoke(mc) instanceof Material m ? m : null;
 
             String group = team.getArena() != null && team.getArena().getGroup() != null
                     ? team.getArena().getGroup().toLowerCase() : "default";
-            Object yml = upgradesYml("com.tomkeuper.bedwars.BedWars");
+            Object yml = internals.upgradesYml(api);
             if (yml instanceof org.bukkit.configuration.ConfigurationSection cfg) {
                 if (cost == 0) {
                     int start = cfg.getInt(group + "-upgrades-settings.trap-start-price");
@@ -259,25 +277,13 @@ public final class BedWars2023UpgradeProvider implements UpgradeProvider {
             }
             if (cost <= 0) return Cost.plain();
             if (currency == null || currency == Material.AIR) return new Cost(cost, "", true, false);
-            boolean affordable = api.getShopUtil().calculateMoney(player, currency) >= cost;
+            boolean affordable = currencies.money(player, currency, c -> api.getShopUtil().calculateMoney(player, c)) >= cost;
             return new Cost(cost, currencyName(currency), affordable, false);
         } catch (Throwable t) {
             return Cost.plain();
         }
     }
 
-    /** Reflectively reads the internal upgrades YamlConfiguration: BedWars.getUpgradeManager().getConfiguration().getYml(). */
-    private Object upgradesYml(String mainClass) {
-        try {
-            Class<?> main = Class.forName(mainClass);
-            Object manager = main.getMethod("getUpgradeManager").invoke(null);
-            Object configuration = manager.getClass().getMethod("getConfiguration").invoke(manager);
-            return configuration.getClass().getMethod("getYml").invoke(configuration);
-        } catch (Throwable t) {
-            return null;
-        }
-    }
-
     // --- display helpers -------------------------------------------------------
 
     private ItemStack safeDisplay(MenuContent mc, Player player, ITeam team) {
@@ -0,0 +1,83 @@
+package it.pintux.life.bedwarsaddon.provider;
+
+import org.bukkit.Material;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToIntFunction;
+
+/**
+ * How much iron, gold, diamond and emerald each player carries, counted in one inventory pass and
+ * reused for every price of a shop or upgrade form.
+ *
+ * <p>A snapshot is dropped when the player picks up, drops or buys something. Team chests and other
+ * plugins move items without those events, so a snapshot also expires after
+ * {@link #MAX_AGE_MILLIS} milliseconds. Other currencies (Vault, custom materials) are always asked
+ * of the Bedwars plugin.
+ */
+public final class CurrencySnapshots {
+    static final long MAX_AGE_MILLIS = 2000;
+    private static final long MAX_AGE_NANOS = TimeUnit.MILLISECONDS.toNanos(MAX_AGE_MILLIS);
+
+    private final Map<UUID, Snapshot> snapshots = new ConcurrentHashMap<>();
+
+    private record Snapshot(int iron, int gold, int diamond, int emerald, long takenAt) {
+    }
+
+    /**
+     * @param fallback counts a currency the snapshot does not track, e.g. {@code ShopUtil.calculateMoney}
+     */
+    public int money(Player player, Material currency, ToIntFunction<Material> fallback) {
+        if (currency == null) {
+            return fallback.applyAsInt(currency);
+        }
+        switch (currency) {
+            case IRON_INGOT: return snapshot(player).iron();
+            case GOLD_INGOT: return snapshot(player).gold();
+            case DIAMOND: return snapshot(player).diamond();
+            case EMERALD: return snapshot(player).emerald();
+            default: return fallback.applyAsInt(currency);
+        }
+    }
+
+    private Snapshot snapshot(Player player) {
+        long now = System.nanoTime();
+        Snapshot snapshot = snapshots.get(player.getUniqueId());
+        if (snapshot != null && now - snapshot.takenAt() < MAX_AGE_NANOS) {
+            return snapshot;
+        }
+        snapshot = count(player, now);
+        snapshots.put(player.getUniqueId(), snapshot);
+        return snapshot;
+    }
+
+    private static Snapshot count(Player player, long now) {
+        int iron = 0;
+        int gold = 0;
+        int diamond = 0;
+        int emerald = 0;
+        for (ItemStack item : player.getInventory().getContents()) {
+            if (item == null) continue;
+            switch (item.getType()) {
+                case IRON_INGOT: iron += item.getAmount(); break;
+                case GOLD_INGOT: gold += item.getAmount(); break;
+                case DIAMOND: diamond += item.getAmount(); break;
+                case EMERALD: emerald += item.getAmount(); break;
+                default: break;
+            }
+        }
+        return new Snapshot(iron, gold, diamond, emerald, now);
+    }
+
+    public void invalidate(UUID playerId) {
+        snapshots.remove(playerId);
+    }
+
+    public void clear() {
+        snapshots.clear();
+    }
+}
@@ -1,17 +1,12 @@
 package it.pintux.life.bedwarsaddon.provider;
 
+import it.pintux.life.common.utils.BedrockPlayerRegistry;
 import it.pintux.life.bedwarsaddon.api.BedrockPlayerDetector;
 import org.bukkit.entity.Player;
-import org.geysermc.floodgate.api.FloodgateApi;
 
 public final class FloodgateBedrockPlayerDetector implements BedrockPlayerDetector {
     @Override
     public boolean isBedrockPlayer(Player player) {
-        try {
-            return player != null && FloodgateApi.getInstance() != null
-                    && FloodgateApi.getInstance().isFloodgatePlayer(player.getUniqueId());
-        } catch (Exception ignored) {
-            return false;
-        }
+        return player != null && BedrockPlayerRegistry.isBedrockPlayer(player.getUniqueId());
     }
 }
@@ -3,17 +3,24 @@ package it.pintux.life.bungee;
 import it.pintux.life.common.api.BedrockGUIApi;
 import it.pintux.life.common.form.FormMenuUtil;
 import it.pintux.life.common.utils.AssetServer;
+import it.pintux.life.common.utils.BedrockPlayerRegistry;
+import it.pintux.life.common.utils.FormFileCache;
 import it.pintux.life.common.utils.FormSender;
 import it.pintux.life.common.utils.MessageConfig;
 import it.pintux.life.common.utils.MessageData;
 import it.pintux.life.bungee.platform.*;
 import it.pintux.life.bungee.utils.*;
 import net.md_5.bungee.api.ProxyServer;
+import net.md_5.bungee.api.event.PlayerDisconnectEvent;
+import net.md_5.bungee.api.event.PostLoginEvent;
+import net.md_5.bungee.api.plugin.Listener;
 import net.md_5.bungee.api.plugin.Plugin;
+import net.md_5.bungee.event.EventHandler;
 
 import java.io.File;
+import java.util.concurrent.CompletableFuture;
 
-public class BedrockGUI extends Plugin {
+public class BedrockGUI extends Plugin implements Listener {
 
     private FormMenuUtil formMenuUtil;
     private MessageData messageData;
@@ -32,11 +39,13 @@ public class BedrockGUI extends Plugin {
         }
         reloadData();
         ProxyServer.getInstance().getPluginManager().registerCommand(this, new BungeeCommand(this));
+        ProxyServer.getInstance().getPluginManager().registerListener(this, this);
         new Metrics(this, 23364);
     }
 
     @Override
     public void onDisable() {
+        FormFileCache.clear();
         if (api != null) {
             try {
                 api.shutdown();
@@ -49,6 +58,19 @@ public class BedrockGUI extends Plugin {
         }
     }
 
+    @EventHandler
+    public void onPostLogin(PostLoginEvent event) {
+        BedrockPlayerRegistry.join(event.getPlayer().getUniqueId());
+    }
+
+    @EventHandler
+    public void onDisconnect(PlayerDisconnectEvent event) {
+        BedrockPlayerRegistry.quit(event.getPlayer().getUniqueId());
+        if (formMenuUtil != null) {
+            formMenuUtil.invalidatePlayer(event.getPlayer().getUniqueId());
+        }
+    }
+
     public void reloadData() {
         File dataFolder = getDataFolder();
         config = new BungeeConfig(dataFolder);
@@ -67,20 +89,53 @@ public class BedrockGUI extends Plugin {
         BungeeTitleManager titleManager = new BungeeTitleManager();
         BungeePluginManager pluginManager = new BungeePluginManager(getProxy());
         BungeePlayerManager playerManager = new BungeePlayerManager(getProxy());
-        if (assetServer != null) {
-            assetServer.shutdown();
-        }
-        assetServer = AssetServer.fromConfig(config, getProxy().getConfig().getListeners().stream().findFirst().map(s -> s.getHost().getHostString()).orElse("127.0.0.1"), 8193, dataFolder);
-        if (assetServer != null) {
-            assetServer.start();
-        }
+        restartAssetServer();
 
         api = new BedrockGUIApi(config, messageData, commandExecutor, null, null,
                 formSender, titleManager, pluginManager, playerManager, new it.pintux.life.bungee.platform.BungeeScheduler(this));
 
         formMenuUtil = api.getFormMenuUtil();
         formMenuUtil.setAssetServer(assetServer);
+        registerFormCommands();
+    }
+
+    /**
+     * What {@code /bedrockgui reload} runs: the config and messages are read fresh, the menus are built
+     * from them on the action executor, and only once that succeeds are the config, messages, asset
+     * server and form commands swapped, through the scheduler. Before the first load this is
+     * {@link #reloadData()}.
+     *
+     * @return completes once the new menus are live, or exceptionally when they could not be built (the
+     * old config, messages and menus then all stay loaded)
+     */
+    public CompletableFuture<Void> reloadDataAsync() {
+        if (api == null) {
+            reloadData();
+            return CompletableFuture.completedFuture(null);
+        }
+        File dataFolder = getDataFolder();
+        BungeeConfig freshConfig = new BungeeConfig(dataFolder);
+        MessageData freshMessageData = new MessageData(new BungeeMessageConfig(dataFolder, "messages.yml"));
+        return api.reloadConfigurationAsync(freshConfig, freshMessageData).thenRun(() -> {
+            config = freshConfig;
+            messageData = freshMessageData;
+            restartAssetServer();
+            formMenuUtil.setAssetServer(assetServer);
+            registerFormCommands();
+        });
+    }
+
+    private void restartAssetServer() {
+        if (assetServer != null) {
+            assetServer.shutdown();
+        }
+        assetServer = AssetServer.fromConfig(config, getProxy().getConfig().getListeners().stream().findFirst().map(s -> s.getHost().getHostString()).orElse("127.0.0.1"), 8193, getDataFolder());
+        if (assetServer != null) {
+            assetServer.start();
+        }
+    }
 
+    private void registerFormCommands() {
         try {
             formMenuUtil.getFormMenus().forEach((key, formMenu) -> {
                 String formCmd = formMenu.getFormCommand();
@@ -96,8 +96,13 @@ public class BungeeCommand extends Command implements TabExecutor {
                 sender.sendMessage(TextComponent.fromLegacyText(plugin.getMessageData().getValue(MessageData.NO_PEX, null, null)));
                 return;
             }
-            plugin.reloadData();
-            sender.sendMessage(TextComponent.fromLegacyText(plugin.getMessageData().getValue(MessageData.COMMAND_RELOAD_SUCCESS, null, null)));
+            plugin.reloadDataAsync().whenComplete((ignored, error) -> {
+                if (error == null) {
+                    sender.sendMessage(TextComponent.fromLegacyText(plugin.getMessageData().getValue(MessageData.COMMAND_RELOAD_SUCCESS, null, null)));
+                } else {
+                    sender.sendMessage(TextComponent.fromLegacyText(plugin.getMessageData().getValue(MessageData.COMMAND_RELOAD_FAILED, null, null)));
+                }
+            });
             return;
         }
         
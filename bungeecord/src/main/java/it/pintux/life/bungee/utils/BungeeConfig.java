@@ -1,6 +1,7 @@
 package it.pintux.life.bungee.utils;
 
 import it.pintux.life.common.utils.FormConfig;
+import it.pintux.life.common.utils.FormFileCache;
 import org.yaml.snakeyaml.Yaml;
 
 import java.io.*;
@@ -91,13 +92,15 @@ public class BungeeConfig implements FormConfig {
     @Override
     public FormConfig loadFormFile(String relativePath) {
         File formsDir = new File(dataFolder, "forms");
-        File file = new File(formsDir, relativePath);
-        try (InputStream in = new FileInputStream(file)) {
-            Map<String, Object> root = normalizeRootMap(yaml.load(in));
-            return new BungeeConfig(dataFolder, root);
-        } catch (IOException e) {
-            throw new RuntimeException("Failed to load form file: " + relativePath, e);
-        }
+        return FormFileCache.load(new File(formsDir, relativePath), file -> {
+            // Form files are parsed in parallel, and a Yaml instance is not thread-safe.
+            try (InputStream in = new FileInputStream(file)) {
+                Map<String, Object> root = normalizeRootMap(new Yaml().load(in));
+                return new BungeeConfig(dataFolder, root);
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to load form file: " + relativePath, e);
+            }
+        });
     }
 
     private Map<String, Object> normalizeRootMap(Object loaded) {
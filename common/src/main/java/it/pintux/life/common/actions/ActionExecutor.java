@@ -4,13 +4,14 @@ import it.pintux.life.common.actions.ActionSystem;
 import it.pintux.life.common.platform.PlatformScheduler;
 import it.pintux.life.common.utils.FormPlayer;
 import it.pintux.life.common.utils.Logger;
+import it.pintux.life.common.utils.TaskExecutor;
 import it.pintux.life.common.utils.ValidationUtils;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
 import java.util.regex.Pattern;
 import java.util.regex.Matcher;
 
@@ -19,7 +20,7 @@ public class ActionExecutor {
 
     private static final Logger logger = Logger.getLogger(ActionExecutor.class.getSimpleName());
     private final ActionRegistry registry;
-    private final ExecutorService executorService;
+    private volatile TaskExecutor taskExecutor;
     private PlatformScheduler scheduler;
 
 
@@ -33,12 +34,12 @@ public class ActionExecutor {
     );
 
     public ActionExecutor(ActionRegistry registry) {
+        this(registry, TaskExecutor.fromConfig(null));
+    }
+
+    public ActionExecutor(ActionRegistry registry, TaskExecutor taskExecutor) {
         this.registry = registry;
-        this.executorService = Executors.newCachedThreadPool(r -> {
-            Thread thread = new Thread(r, "ActionExecutor-" + System.currentTimeMillis());
-            thread.setDaemon(true);
-            return thread;
-        });
+        this.taskExecutor = taskExecutor;
     }
 
     /**
@@ -122,7 +123,7 @@ public class ActionExecutor {
      * @return CompletableFuture with the action result
      */
     public CompletableFuture<ActionSystem.ActionResult> executeActionAsync(FormPlayer player, ActionSystem.ActionDefinition action, ActionSystem.ActionContext context) {
-        return CompletableFuture.supplyAsync(() -> executeAction(player, action, context), executorService);
+        return CompletableFuture.supplyAsync(() -> executeAction(player, action, context), taskExecutor);
     }
 
     /**
@@ -158,6 +159,25 @@ public class ActionExecutor {
             ActionSystem.ActionResult result = executeAction(player, action.getActionDefinition(), context);
             results.add(result);
 
+            CompletableFuture<?> pending = pendingSteps(result);
+            if (pending != null) {
+                // Spaced steps are still running; the rest of the chain follows their last step.
+                List<ActionSystem.Action> remaining = new ArrayList<>(actions.subList(i + 1, actions.size()));
+                pending.whenComplete((done, error) -> {
+                    ActionSystem.ActionResult completed = error != null
+                            ? ActionSystem.ActionResult.failure("Scheduled steps failed: " + error.getMessage(), error)
+                            : done instanceof ActionSystem.ActionResult r ? r : result;
+                    if (completed.isFailure() && action.isCritical()) {
+                        logger.warn("Critical action failed, stopping execution chain");
+                        return;
+                    }
+                    if (!remaining.isEmpty()) {
+                        executeActions(player, remaining, context);
+                    }
+                });
+                return results;
+            }
+
             if (result.isFailure() && action.isCritical()) {
                 logger.warn("Critical action failed, stopping execution chain");
                 break;
@@ -167,6 +187,16 @@ public class ActionExecutor {
         return results;
     }
 
+    /**
+     * @return the future a handler returned for its spaced steps, or null when it ran everything inline
+     */
+    private static CompletableFuture<?> pendingSteps(ActionSystem.ActionResult result) {
+        if (result != null && result.data() instanceof CompletableFuture<?> future) {
+            return future;
+        }
+        return null;
+    }
+
     /**
      * @return the pause a lone "delay" action asks for, or null when this action is anything else
      */
@@ -183,6 +213,77 @@ public class ActionExecutor {
                 value != null ? value.toString() : null);
     }
 
+    /**
+     * Runs steps in order, spacing them with the platform scheduler instead of sleeping.
+     *
+     * <p>The first step runs on the calling thread; each later step is scheduled {@code spacingMillis}
+     * after the previous one, so no thread is held between steps. Without a scheduler every step runs
+     * immediately and the returned future is already complete.
+     *
+     * @param stopOnFailure stop at the first failed step
+     * @return completes with the results of the steps that ran, in order
+     */
+    public CompletableFuture<List<ActionSystem.ActionResult>> executeSpaced(List<Supplier<ActionSystem.ActionResult>> steps,
+                                                                           long spacingMillis, boolean stopOnFailure) {
+        CompletableFuture<List<ActionSystem.ActionResult>> completion = new CompletableFuture<>();
+        List<ActionSystem.ActionResult> results = new ArrayList<>(steps.size());
+        runSpacedStep(steps, 0, spacingMillis, stopOnFailure, results, completion);
+        return completion;
+    }
+
+    private void runSpacedStep(List<Supplier<ActionSystem.ActionResult>> steps, int index, long spacingMillis, boolean stopOnFailure,
+                               List<ActionSystem.ActionResult> results, CompletableFuture<List<ActionSystem.ActionResult>> completion) {
+        PlatformScheduler current = scheduler;
+        for (int i = index; i < steps.size(); i++) {
+            ActionSystem.ActionResult result;
+            try {
+                result = steps.get(i).get();
+            } catch (Exception e) {
+                logger.error("Error executing step " + (i + 1) + "/" + steps.size(), e);
+                result = ActionSystem.ActionResult.failure(e.getMessage(), e);
+            }
+            results.add(result);
+
+            if ((result.isFailure() && stopOnFailure) || i + 1 >= steps.size()) {
+                break;
+            }
+            if (current != null && spacingMillis > 0) {
+                int next = i + 1;
+                current.runLaterSync(spacingMillis, () -> runSpacedStep(steps, next, spacingMillis, stopOnFailure, results, completion));
+                return;
+            }
+        }
+        completion.complete(results);
+    }
+
+    /**
+     * @return the shared executor that async action work runs on
+     */
+    public TaskExecutor getTaskExecutor() {
+        return taskExecutor;
+    }
+
+    /**
+     * Moves async action work onto a new executor, as after a reload changed the executor settings.
+     * The old executor finishes its queued tasks and is shut down on the new one, so the caller never
+     * waits for it.
+     */
+    public void replaceTaskExecutor(TaskExecutor replacement) {
+        if (replacement == null) {
+            return;
+        }
+        TaskExecutor previous = taskExecutor;
+        taskExecutor = replacement;
+        if (previous == null || previous == replacement || previous.isShutdown()) {
+            return;
+        }
+        try {
+            replacement.execute(previous::shutdown);
+        } catch (RejectedExecutionException e) {
+            previous.shutdown();
+        }
+    }
+
     public void setScheduler(PlatformScheduler scheduler) {
         this.scheduler = scheduler;
     }
@@ -196,7 +297,7 @@ public class ActionExecutor {
      * @return CompletableFuture with list of action results
      */
     public CompletableFuture<List<ActionSystem.ActionResult>> executeActionsAsync(FormPlayer player, List<ActionSystem.Action> actions, ActionSystem.ActionContext context) {
-        return CompletableFuture.supplyAsync(() -> executeActions(player, actions, context), executorService);
+        return CompletableFuture.supplyAsync(() -> executeActions(player, actions, context), taskExecutor);
     }
 
     /**
@@ -263,11 +364,11 @@ public class ActionExecutor {
     }
 
     /**
-     * Shuts down the executor service
+     * Shuts down the task executor
      */
     public void shutdown() {
-        if (executorService != null && !executorService.isShutdown()) {
-            executorService.shutdown();
+        if (taskExecutor != null && !taskExecutor.isShutdown()) {
+            taskExecutor.shutdown();
             logger.info("ActionExecutor shutdown completed");
         }
     }
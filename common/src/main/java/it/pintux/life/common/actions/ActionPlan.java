@@ -0,0 +1,221 @@
+package it.pintux.life.common.actions;
+
+import it.pintux.life.common.utils.PlaceholderTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.UnaryOperator;
+import java.util.regex.Pattern;
+
+/**
+ * An onClick string parsed once, when the menu loads.
+ *
+ * <p>Each step keeps its action type and the value text a click has to render. Steps without
+ * placeholder or color tokens carry a ready {@link ActionSystem.Action}, so a click only renders
+ * the steps that need it and dispatches them; no splitting or regex parsing happens per click.
+ */
+public final class ActionPlan {
+
+    private static final Pattern BRACE_TOKEN = Pattern.compile("\\{[^\\s{}]+\\}");
+
+    private final String source;
+    private final boolean sequence;
+    private final List<Step> steps;
+    private final String invalidStep;
+
+    private ActionPlan(String source, boolean sequence, List<Step> steps, String invalidStep) {
+        this.source = source;
+        this.sequence = sequence;
+        this.steps = steps;
+        this.invalidStep = invalidStep;
+    }
+
+    /**
+     * Compiles an onClick string, either a single action or a "[a, b, ...]" sequence.
+     *
+     * @return the compiled plan, or null when the string is null or blank
+     */
+    public static ActionPlan compile(String onClick, ActionExecutor executor) {
+        if (onClick == null || onClick.trim().isEmpty()) {
+            return null;
+        }
+
+        String normalized = onClick.trim().replaceAll("\\s+", " ");
+        boolean sequence = normalized.startsWith("[") && normalized.endsWith("]");
+
+        List<String> pieces = new ArrayList<>();
+        if (sequence) {
+            for (String piece : splitSequence(normalized.substring(1, normalized.length() - 1))) {
+                String trimmed = piece.trim();
+                if (!trimmed.isEmpty()) {
+                    pieces.add(trimmed);
+                }
+            }
+        } else {
+            pieces.add(normalized);
+        }
+
+        List<Step> steps = new ArrayList<>(pieces.size());
+        for (String piece : pieces) {
+            Step step = Step.compile(piece, executor);
+            if (step == null) {
+                return new ActionPlan(normalized, sequence, Collections.emptyList(), piece);
+            }
+            steps.add(step);
+        }
+        return new ActionPlan(normalized, sequence, Collections.unmodifiableList(steps), null);
+    }
+
+    /**
+     * Splits the inside of a "[...]" action sequence on top-level commas.
+     *
+     * <p>Commas inside braces or quoted values belong to the action they appear in.
+     */
+    public static List<String> splitSequence(String actionsString) {
+        List<String> out = new ArrayList<>();
+        if (actionsString == null || actionsString.isEmpty()) return out;
+
+        StringBuilder current = new StringBuilder();
+        int braceDepth = 0;
+        boolean inQuotes = false;
+        boolean escaped = false;
+
+        for (int i = 0; i < actionsString.length(); i++) {
+            char c = actionsString.charAt(i);
+
+            if (escaped) {
+                current.append(c);
+                escaped = false;
+                continue;
+            }
+
+            if (inQuotes && c == '\\') {
+                current.append(c);
+                escaped = true;
+                continue;
+            }
+
+            if (c == '"') {
+                current.append(c);
+                inQuotes = !inQuotes;
+                continue;
+            }
+
+            if (!inQuotes) {
+                if (c == '{') {
+                    current.append(c);
+                    braceDepth++;
+                    continue;
+                }
+                if (c == '}') {
+                    current.append(c);
+                    if (braceDepth > 0) braceDepth--;
+                    continue;
+                }
+                if (c == ',' && braceDepth == 0) {
+                    out.add(current.toString());
+                    current.setLength(0);
+                    continue;
+                }
+            }
+
+            current.append(c);
+        }
+
+        if (current.length() > 0) out.add(current.toString());
+        return out;
+    }
+
+    /**
+     * Produces the actions for one click.
+     *
+     * @param renderer substitutes placeholders and colors; only called for steps that contain them
+     */
+    public List<ActionSystem.Action> resolve(UnaryOperator<String> renderer) {
+        List<ActionSystem.Action> actions = new ArrayList<>(steps.size());
+        for (Step step : steps) {
+            actions.add(step.resolve(renderer));
+        }
+        return actions;
+    }
+
+    /** @return the normalized onClick text this plan was compiled from */
+    public String getSource() {
+        return source;
+    }
+
+    /** @return true when the onClick was written as a "[...]" sequence */
+    public boolean isSequence() {
+        return sequence;
+    }
+
+    public boolean isValid() {
+        return invalidStep == null;
+    }
+
+    /** @return the first action text that failed to parse, or null when every step compiled */
+    public String getInvalidStep() {
+        return invalidStep;
+    }
+
+    public boolean isEmpty() {
+        return steps.isEmpty();
+    }
+
+    public int size() {
+        return steps.size();
+    }
+
+    @Override
+    public String toString() {
+        return "ActionPlan{source='" + source + "', steps=" + steps.size() + ", valid=" + isValid() + "}";
+    }
+
+    private static final class Step {
+        private final String type;
+        private final String template;
+        private final ActionSystem.Action compiled;
+
+        private Step(String type, String template, ActionSystem.Action compiled) {
+            this.type = type;
+            this.template = template;
+            this.compiled = compiled;
+        }
+
+        static Step compile(String piece, ActionExecutor executor) {
+            ActionSystem.Action parsed = executor.parseAction(piece);
+            if (parsed == null || parsed.getActionDefinition() == null || parsed.getActionDefinition().isEmpty()) {
+                return null;
+            }
+            ActionSystem.ActionDefinition definition = parsed.getActionDefinition();
+            String type = definition.getActionTypes().iterator().next();
+            Object value = definition.getAction(type);
+            String template = value != null ? value.toString() : "";
+            if (!needsRendering(template)) {
+                return new Step(type, template, parsed);
+            }
+            PlaceholderTemplate.precompile(template);
+            return new Step(type, template, null);
+        }
+
+        ActionSystem.Action resolve(UnaryOperator<String> renderer) {
+            if (compiled != null) {
+                return compiled;
+            }
+            String rendered = renderer != null ? renderer.apply(template) : template;
+            return new ActionSystem.Action(ActionSystem.ActionDefinition.simple(type, rendered));
+        }
+
+        /** @return true when the text holds a $key, {key}, %papi% or color token */
+        private static boolean needsRendering(String text) {
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (c == '$' || c == '%' || c == '&' || c == '<') {
+                    return true;
+                }
+            }
+            return BRACE_TOKEN.matcher(text).find();
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package it.pintux.life.common.actions;
 
+import it.pintux.life.common.utils.BuiltinPlaceholders;
 import it.pintux.life.common.utils.FormPlayer;
 
 import java.util.*;
@@ -98,7 +99,11 @@ public class ActionSystem {
     // ==================== CONTEXT CLASS ====================
 
     /**
-     * Context information for action execution
+     * Context information for action execution.
+     *
+     * <p>Immutable: the maps returned by the getters are read-only views, not copies, so handlers can
+     * read them freely. A {@link #child()} context layers its own entries over its parent's without
+     * copying the parent.
      */
     public static class ActionContext {
         private final Map<String, String> placeholders;
@@ -108,31 +113,45 @@ public class ActionSystem {
         private final String formType;
 
         private ActionContext(Builder builder) {
-            this.placeholders = new HashMap<>(builder.placeholders);
-            this.formResults = new HashMap<>(builder.formResults);
-            this.metadata = new HashMap<>(builder.metadata);
+            ActionContext parent = builder.parent;
+            this.placeholders = layer(builder.placeholders, parent != null ? parent.placeholders : null);
+            this.formResults = layer(builder.formResults, parent != null ? parent.formResults : null);
+            this.metadata = layer(builder.metadata, parent != null ? parent.metadata : null);
             this.menuName = builder.menuName;
             this.formType = builder.formType;
         }
 
+        private static <V> Map<String, V> layer(Map<String, V> own, Map<String, V> parent) {
+            if (parent == null || parent.isEmpty()) {
+                return own.isEmpty() ? Collections.emptyMap() : Collections.unmodifiableMap(own);
+            }
+            if (own.isEmpty()) {
+                return parent;
+            }
+            return new LayeredMap<>(own, parent);
+        }
+
+        /** @return a read-only view of the placeholders */
         public Map<String, String> getPlaceholders() {
-            return new HashMap<>(placeholders);
+            return placeholders;
         }
 
         public String getPlaceholder(String key) {
             return placeholders.get(key);
         }
 
+        /** @return a read-only view of the form results */
         public Map<String, Object> getFormResults() {
-            return new HashMap<>(formResults);
+            return formResults;
         }
 
         public Object getFormResult(String key) {
             return formResults.get(key);
         }
 
+        /** @return a read-only view of the metadata */
         public Map<String, Object> getMetadata() {
-            return new HashMap<>(metadata);
+            return metadata;
         }
 
         public Object getMetadata(String key) {
@@ -147,49 +166,85 @@ public class ActionSystem {
             return formType;
         }
 
+        /**
+         * Starts a context scoped under this one: its entries shadow this context's, everything else
+         * is read through from here. Menu name and form type are inherited unless set.
+         */
+        public Builder child() {
+            Builder builder = new Builder(this);
+            builder.menuName = menuName;
+            builder.formType = formType;
+            return builder;
+        }
+
+        /**
+         * @return a child context with the given placeholders shadowing this context's
+         */
+        public ActionContext withPlaceholders(Map<String, String> overrides) {
+            if (overrides == null || overrides.isEmpty()) {
+                return this;
+            }
+            return child().placeholders(overrides).build();
+        }
+
         public static Builder builder() {
-            return new Builder();
+            return new Builder(null);
         }
 
         public static class Builder {
+            private final ActionContext parent;
             private Map<String, String> placeholders = new HashMap<>();
             private Map<String, Object> formResults = new HashMap<>();
             private Map<String, Object> metadata = new HashMap<>();
             private String menuName;
             private String formType;
+            private boolean built;
+
+            private Builder(ActionContext parent) {
+                this.parent = parent;
+            }
 
             public Builder placeholders(Map<String, String> placeholders) {
-                if (placeholders != null) {
+                if (placeholders instanceof BuiltinPlaceholders && this.placeholders.isEmpty()) {
+                    writable();
+                    this.placeholders = ((BuiltinPlaceholders) placeholders).copy();
+                } else if (placeholders != null) {
+                    writable();
                     this.placeholders.putAll(placeholders);
                 }
                 return this;
             }
 
             public Builder placeholder(String key, String value) {
+                writable();
                 this.placeholders.put(key, value);
                 return this;
             }
 
             public Builder formResults(Map<String, Object> formResults) {
                 if (formResults != null) {
+                    writable();
                     this.formResults.putAll(formResults);
                 }
                 return this;
             }
 
             public Builder formResult(String key, Object value) {
+                writable();
                 this.formResults.put(key, value);
                 return this;
             }
 
             public Builder metadata(Map<String, Object> metadata) {
                 if (metadata != null) {
+                    writable();
                     this.metadata.putAll(metadata);
                 }
                 return this;
             }
 
             public Builder metadata(String key, Object value) {
+                writable();
                 this.metadata.put(key, value);
                 return this;
             }
@@ -204,9 +259,25 @@ public class ActionSystem {
                 return this;
             }
 
+            /**
+             * Hands the builder's maps to the context; a later change to this builder copies them first.
+             */
             public ActionContext build() {
+                built = true;
                 return new ActionContext(this);
             }
+
+            private void writable() {
+                if (!built) {
+                    return;
+                }
+                placeholders = placeholders instanceof BuiltinPlaceholders
+                        ? ((BuiltinPlaceholders) placeholders).copy()
+                        : new HashMap<>(placeholders);
+                formResults = new HashMap<>(formResults);
+                metadata = new HashMap<>(metadata);
+                built = false;
+            }
         }
 
         @Override
@@ -219,6 +290,43 @@ public class ActionSystem {
                    ", formType='" + formType + '\'' +
                    '}';
         }
+
+        /**
+         * Read-only map whose own entries shadow a parent map; lookups never copy either side.
+         */
+        private static final class LayeredMap<V> extends AbstractMap<String, V> {
+            private final Map<String, V> own;
+            private final Map<String, V> parent;
+            private Set<Entry<String, V>> entries;
+
+            LayeredMap(Map<String, V> own, Map<String, V> parent) {
+                this.own = own;
+                this.parent = parent;
+            }
+
+            @Override
+            public V get(Object key) {
+                V value = own.get(key);
+                return value != null || own.containsKey(key) ? value : parent.get(key);
+            }
+
+            @Override
+            public boolean containsKey(Object key) {
+                return own.containsKey(key) || parent.containsKey(key);
+            }
+
+            @Override
+            public Set<Entry<String, V>> entrySet() {
+                Set<Entry<String, V>> result = entries;
+                if (result == null) {
+                    Map<String, V> merged = new LinkedHashMap<>(parent);
+                    merged.putAll(own);
+                    result = Collections.unmodifiableMap(merged).entrySet();
+                    entries = result;
+                }
+                return result;
+            }
+        }
     }
 
     // ==================== DEFINITION CLASS ====================
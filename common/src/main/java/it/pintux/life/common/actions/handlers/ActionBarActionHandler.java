@@ -12,9 +12,12 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 
 public class ActionBarActionHandler extends BaseActionHandler {
+    private static final long MESSAGE_SPACING_MS = 500L;
+
     private final PlatformTitleManager titleManager;
 
     public ActionBarActionHandler(PlatformTitleManager titleManager) {
@@ -95,42 +98,42 @@ public class ActionBarActionHandler extends BaseActionHandler {
 
 
     private ActionSystem.ActionResult executeMultipleActionBarsFromList(List<String> messages, FormPlayer player) {
-        int successCount = 0;
-        int totalCount = messages.size();
-        StringBuilder results = new StringBuilder();
-
+        List<Supplier<ActionSystem.ActionResult>> steps = new ArrayList<>(messages.size());
         for (int i = 0; i < messages.size(); i++) {
             String message = messages.get(i);
+            int index = i;
+            steps.add(() -> {
+                try {
+                    return executeSingleActionBar(player, message, null);
+                } catch (Exception e) {
+                    logger.error("Error sending action bar " + (index + 1) + " to player " + player.getName(), e);
+                    return ActionSystem.ActionResult.failure(e.getMessage(), e);
+                }
+            });
+        }
 
-            try {
-                //logger.info("Sending action bar " + (i + 1) + "/" + totalCount + " to player " + player.getName() + ": " + message);
+        return executeSpaced(steps, MESSAGE_SPACING_MS, false, results -> summarize(messages.size(), results, player));
+    }
 
-                ActionSystem.ActionResult result = executeSingleActionBar(player, message, null);
 
-                if (result.isSuccess()) {
-                    successCount++;
-                    results.append("âś“ Action Bar ").append(i + 1).append(": Sent successfully");
-                } else {
-                    results.append("âś— Action Bar ").append(i + 1).append(": Failed to send");
-                }
+    private ActionSystem.ActionResult summarize(int totalCount, List<ActionSystem.ActionResult> sendResults, FormPlayer player) {
+        int successCount = 0;
+        StringBuilder results = new StringBuilder();
 
-                if (i < messages.size() - 1) {
-                    results.append("\n");
+        for (int i = 0; i < sendResults.size(); i++) {
+            ActionSystem.ActionResult result = sendResults.get(i);
 
-                    try {
-                        Thread.sleep(500);
-                    } catch (InterruptedException e) {
-                        Thread.currentThread().interrupt();
-                        break;
-                    }
-                }
+            if (result.isSuccess()) {
+                successCount++;
+                results.append("âś“ Action Bar ").append(i + 1).append(": Sent successfully");
+            } else if (result.exception() != null) {
+                results.append("âś— Action Bar ").append(i + 1).append(": Error - ").append(result.message());
+            } else {
+                results.append("âś— Action Bar ").append(i + 1).append(": Failed to send");
+            }
 
-            } catch (Exception e) {
-                results.append("âś— Action Bar ").append(i + 1).append(": Error - ").append(e.getMessage());
-                logger.error("Error sending action bar " + (i + 1) + " to player " + player.getName(), e);
-                if (i < messages.size() - 1) {
-                    results.append("\n");
-                }
+            if (i < sendResults.size() - 1) {
+                results.append("\n");
             }
         }
 
@@ -1,5 +1,6 @@
 package it.pintux.life.common.actions.handlers;
 
+import it.pintux.life.common.actions.ActionExecutor;
 import it.pintux.life.common.actions.ActionSystem;
 import it.pintux.life.common.api.BedrockGUIApi;
 import it.pintux.life.common.utils.FormPlayer;
@@ -8,8 +9,12 @@ import it.pintux.life.common.utils.MessageData;
 import it.pintux.life.common.utils.PlaceholderUtil;
 import it.pintux.life.common.utils.ValidationUtils;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 
@@ -137,6 +142,55 @@ public abstract class BaseActionHandler implements ActionSystem.ActionHandler {
         }
     }
 
+    /**
+     * Runs the steps {@code spacingMillis} apart through {@link ActionExecutor#executeSpaced} without
+     * blocking the calling thread.
+     *
+     * <p>When every step has already run (no scheduler, or an early failure) the summary is returned
+     * directly. Otherwise the result is a success whose data is a {@code CompletableFuture<ActionResult>}
+     * that completes with the summary after the last step.
+     */
+    protected ActionSystem.ActionResult executeSpaced(List<Supplier<ActionSystem.ActionResult>> steps, long spacingMillis, boolean stopOnFailure,
+                                                     Function<List<ActionSystem.ActionResult>, ActionSystem.ActionResult> summary) {
+        CompletableFuture<List<ActionSystem.ActionResult>> completion;
+        ActionExecutor executor = currentActionExecutor();
+        if (executor != null) {
+            completion = executor.executeSpaced(steps, spacingMillis, stopOnFailure);
+        } else {
+            List<ActionSystem.ActionResult> results = new ArrayList<>(steps.size());
+            for (Supplier<ActionSystem.ActionResult> step : steps) {
+                ActionSystem.ActionResult result = step.get();
+                results.add(result);
+                if (result.isFailure() && stopOnFailure) {
+                    break;
+                }
+            }
+            completion = CompletableFuture.completedFuture(results);
+        }
+
+        if (completion.isDone()) {
+            return summary.apply(completion.join());
+        }
+
+        CompletableFuture<ActionSystem.ActionResult> handle = completion.thenApply(summary);
+        handle.whenComplete((result, error) -> {
+            if (error != null) {
+                logger.error("Error completing " + getActionType() + " steps", error);
+            } else if (result.isFailure()) {
+                logger.warn("Scheduled " + getActionType() + " steps failed: " + result.message());
+            }
+        });
+        return ActionSystem.ActionResult.success("Scheduled " + steps.size() + " " + getActionType() + " steps", handle);
+    }
+
+    private ActionExecutor currentActionExecutor() {
+        try {
+            return BedrockGUIApi.getInstance().getActionExecutor();
+        } catch (IllegalStateException e) {
+            return null;
+        }
+    }
+
     protected boolean isNewCurlyBraceFormat(String actionData, String actionType) {
         if (actionData == null || actionData.trim().isEmpty()) {
             return false;
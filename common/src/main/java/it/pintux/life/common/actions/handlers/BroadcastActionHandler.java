@@ -12,11 +12,14 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import it.pintux.life.common.platform.PlatformCommandExecutor;
 
 
 public class BroadcastActionHandler extends BaseActionHandler {
+    private static final long MESSAGE_SPACING_MS = 500L;
+
     private final PlatformCommandExecutor commandExecutor;
 
     public BroadcastActionHandler(PlatformCommandExecutor commandExecutor) {
@@ -95,42 +98,42 @@ public class BroadcastActionHandler extends BaseActionHandler {
 
 
     private ActionSystem.ActionResult executeMultipleBroadcastsFromList(List<String> broadcasts, FormPlayer player) {
-        int successCount = 0;
-        int totalCount = broadcasts.size();
-        StringBuilder results = new StringBuilder();
-
+        List<Supplier<ActionSystem.ActionResult>> steps = new ArrayList<>(broadcasts.size());
         for (int i = 0; i < broadcasts.size(); i++) {
             String broadcast = broadcasts.get(i);
+            int index = i;
+            steps.add(() -> {
+                try {
+                    return executeSingleBroadcast(player, broadcast, null);
+                } catch (Exception e) {
+                    logger.error("Error sending broadcast " + (index + 1) + " from player " + player.getName(), e);
+                    return ActionSystem.ActionResult.failure(e.getMessage(), e);
+                }
+            });
+        }
 
-            try {
-                //logger.info("Sending broadcast " + (i + 1) + "/" + totalCount + " from player " + player.getName() + ": " + broadcast);
+        return executeSpaced(steps, MESSAGE_SPACING_MS, false, results -> summarize(broadcasts.size(), results, player));
+    }
 
-                ActionSystem.ActionResult result = executeSingleBroadcast(player, broadcast, null);
 
-                if (result.isSuccess()) {
-                    successCount++;
-                    results.append(" Broadcast ").append(i + 1).append(": Sent successfully");
-                } else {
-                    results.append(" Broadcast ").append(i + 1).append(": Failed to send");
-                }
+    private ActionSystem.ActionResult summarize(int totalCount, List<ActionSystem.ActionResult> sendResults, FormPlayer player) {
+        int successCount = 0;
+        StringBuilder results = new StringBuilder();
 
-                if (i < broadcasts.size() - 1) {
-                    results.append("\n");
+        for (int i = 0; i < sendResults.size(); i++) {
+            ActionSystem.ActionResult result = sendResults.get(i);
 
-                    try {
-                        Thread.sleep(500);
-                    } catch (InterruptedException e) {
-                        Thread.currentThread().interrupt();
-                        break;
-                    }
-                }
+            if (result.isSuccess()) {
+                successCount++;
+                results.append(" Broadcast ").append(i + 1).append(": Sent successfully");
+            } else if (result.exception() != null) {
+                results.append(" Broadcast ").append(i + 1).append(": Error - ").append(result.message());
+            } else {
+                results.append(" Broadcast ").append(i + 1).append(": Failed to send");
+            }
 
-            } catch (Exception e) {
-                results.append(" Broadcast ").append(i + 1).append(": Error - ").append(e.getMessage());
-                logger.error("Error sending broadcast " + (i + 1) + " from player " + player.getName(), e);
-                if (i < broadcasts.size() - 1) {
-                    results.append("\n");
-                }
+            if (i < sendResults.size() - 1) {
+                results.append("\n");
             }
         }
 
@@ -216,24 +219,20 @@ public class BroadcastActionHandler extends BaseActionHandler {
         String listContent = multiValue.trim().substring(1, multiValue.trim().length() - 1);
         String[] broadcasts = listContent.split(",\\s*");
 
+        List<Supplier<ActionSystem.ActionResult>> steps = new ArrayList<>(broadcasts.length);
         for (String broadcast : broadcasts) {
-            ActionSystem.ActionResult result = executeSingleBroadcast(player, broadcast.trim(), context);
-            if (result.isFailure()) {
-                return result;
-            }
-
-
-            try {
-                Thread.sleep(500);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                break;
-            }
+            steps.add(() -> executeSingleBroadcast(player, broadcast.trim(), context));
         }
 
-        logSuccess("broadcast", "Sent " + broadcasts.length + " broadcasts", player);
-        return createSuccessResult("ACTION_BROADCAST_SUCCESS",
-                createReplacements("message", "Sent " + broadcasts.length + " broadcasts"), player);
+        return executeSpaced(steps, MESSAGE_SPACING_MS, true, results -> {
+            ActionSystem.ActionResult last = results.get(results.size() - 1);
+            if (last.isFailure()) {
+                return last;
+            }
+            logSuccess("broadcast", "Sent " + broadcasts.length + " broadcasts", player);
+            return createSuccessResult("ACTION_BROADCAST_SUCCESS",
+                    createReplacements("message", "Sent " + broadcasts.length + " broadcasts"), player);
+        });
     }
 
     @Override
@@ -13,9 +13,12 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 
 public class CommandActionHandler extends BaseActionHandler {
+    private static final long COMMAND_SPACING_MS = 200L;
+
     private final PlatformCommandExecutor commandExecutor;
 
     public CommandActionHandler() {
@@ -135,42 +138,44 @@ public class CommandActionHandler extends BaseActionHandler {
 
 
     private ActionSystem.ActionResult executeMultipleCommands(List<String> commands, FormPlayer player) {
-        int successCount = 0;
-        int totalCount = commands.size();
-        StringBuilder results = new StringBuilder();
-
+        List<Supplier<ActionSystem.ActionResult>> steps = new ArrayList<>(commands.size());
         for (int i = 0; i < commands.size(); i++) {
             String command = commands.get(i);
+            int index = i;
+            steps.add(() -> {
+                try {
+                    return executeSingleCommand(command, player);
+                } catch (Exception e) {
+                    logger.error("Error executing command " + (index + 1) + " for player " + player.getName(), e);
+                    return ActionSystem.ActionResult.failure(e.getMessage(), e);
+                }
+            });
+        }
 
-            try {
-                //logger.info("Executing command " + (i + 1) + "/" + totalCount + " for player " + player.getName() + ": " + command);
+        return executeSpaced(steps, COMMAND_SPACING_MS, false, results -> summarizeCommands(commands, results, player));
+    }
 
-                ActionSystem.ActionResult result = executeSingleCommand(command, player);
 
-                if (result.isSuccess()) {
-                    successCount++;
-                    results.append(" Command ").append(i + 1).append(": ").append(command).append(" - Success");
-                } else {
-                    results.append(" Command ").append(i + 1).append(": ").append(command).append(" - Failed");
-                }
-
-                if (i < commands.size() - 1) {
-                    results.append("\n");
+    private ActionSystem.ActionResult summarizeCommands(List<String> commands, List<ActionSystem.ActionResult> commandResults, FormPlayer player) {
+        int successCount = 0;
+        int totalCount = commands.size();
+        StringBuilder results = new StringBuilder();
 
-                    try {
-                        Thread.sleep(200);
-                    } catch (InterruptedException e) {
-                        Thread.currentThread().interrupt();
-                        break;
-                    }
-                }
+        for (int i = 0; i < commandResults.size(); i++) {
+            String command = commands.get(i);
+            ActionSystem.ActionResult result = commandResults.get(i);
+
+            if (result.isSuccess()) {
+                successCount++;
+                results.append(" Command ").append(i + 1).append(": ").append(command).append(" - Success");
+            } else if (result.exception() != null) {
+                results.append(" Command ").append(i + 1).append(": ").append(command).append(" - Error: ").append(result.message());
+            } else {
+                results.append(" Command ").append(i + 1).append(": ").append(command).append(" - Failed");
+            }
 
-            } catch (Exception e) {
-                results.append(" Command ").append(i + 1).append(": ").append(command).append(" - Error: ").append(e.getMessage());
-                logger.error("Error executing command " + (i + 1) + " for player " + player.getName(), e);
-                if (i < commands.size() - 1) {
-                    results.append("\n");
-                }
+            if (i < commandResults.size() - 1) {
+                results.append("\n");
             }
         }
 
@@ -5,7 +5,7 @@ import it.pintux.life.common.actions.ActionSystem;
 
 import it.pintux.life.common.actions.*;
 import it.pintux.life.common.actions.ActionRegistry;
-import it.pintux.life.common.utils.ConditionEvaluator;
+import it.pintux.life.common.utils.CompiledCondition;
 import it.pintux.life.common.api.BedrockGUIApi;
 import it.pintux.life.common.utils.FormPlayer;
 import it.pintux.life.common.utils.MessageData;
@@ -272,8 +272,7 @@ public class ConditionalActionHandler extends BaseActionHandler {
         }
 
         try {
-            String processedData = processPlaceholders(actionData.trim(), context, player);
-            return executeNewFormat(player, processedData, context);
+            return executeNewFormat(player, actionData.trim(), context);
 
         } catch (Exception e) {
             logger.error("Error executing conditional action for player " + player.getName() + ": " + e.getMessage());
@@ -290,8 +289,10 @@ public class ConditionalActionHandler extends BaseActionHandler {
                 return createFailureResult(MessageData.EXECUTION_ERROR, createReplacements("error", "No check condition found in conditional"), player);
             }
 
+            // Compiled from the check as written; each atom resolves placeholders when it is evaluated.
             String checkCondition = branches.check;
-            boolean conditionMet = evaluateExpression(player, checkCondition.trim(), context);
+            boolean conditionMet = CompiledCondition.ofCheck(checkCondition.trim())
+                    .evaluate(player, context, BedrockGUIApi.getInstance().getMessageData());
 
             List<String> actionsToExecute;
             if (conditionMet) {
@@ -308,7 +309,10 @@ public class ConditionalActionHandler extends BaseActionHandler {
 
 
             ActionSystem.ActionResult lastResult = null;
-            for (String action : actionsToExecute) {
+            for (String entry : actionsToExecute) {
+                // A nested conditional resolves its own check per atom, so only other actions are resolved here.
+                String action = isNewCurlyBraceFormat(entry.trim(), "conditional")
+                        ? entry : processPlaceholders(entry, context, player);
                 ActionSystem.Action parsed = actionExecutor.parseAction(action);
                 ActionSystem.ActionDefinition actionDef = parsed != null ? parsed.getActionDefinition() : parseActionString(action);
                 ActionSystem.ActionResult result = actionExecutor.executeAction(player, actionDef, context);
@@ -333,164 +337,6 @@ public class ConditionalActionHandler extends BaseActionHandler {
     }
 
 
-    private boolean evaluateComplexCondition(FormPlayer player, String condition, ActionSystem.ActionContext context) {
-
-        if (condition.contains("||")) {
-            String[] orParts = condition.split("\\|\\|");
-            for (String orPart : orParts) {
-                if (evaluateComplexCondition(player, orPart.trim(), context)) {
-                    return true;
-                }
-            }
-            return false;
-        }
-
-        if (condition.contains("&&")) {
-            String[] andParts = condition.split("&&");
-            for (String andPart : andParts) {
-                if (!evaluateComplexCondition(player, andPart.trim(), context)) {
-                    return false;
-                }
-            }
-            return true;
-        }
-
-        return evaluateSingleCondition(player, condition.trim(), context);
-    }
-
-    private boolean evaluateExpression(FormPlayer player, String expr, ActionSystem.ActionContext context) {
-        java.util.List<String> tokens = tokenize(expr);
-        java.util.Deque<String> output = new java.util.ArrayDeque<>();
-        java.util.Deque<String> ops = new java.util.ArrayDeque<>();
-        java.util.Map<String, Integer> prec = java.util.Map.of("||", 1, "&&", 2);
-        for (String t : tokens) {
-            if ("(".equals(t)) {
-                ops.push(t);
-            } else if (")".equals(t)) {
-                while (!ops.isEmpty() && !"(".equals(ops.peek())) {
-                    output.push(ops.pop());
-                }
-                if (!ops.isEmpty() && "(".equals(ops.peek())) ops.pop();
-            } else if ("||".equals(t) || "&&".equals(t)) {
-                while (!ops.isEmpty() && prec.getOrDefault(ops.peek(), 0) >= prec.getOrDefault(t, 0)) {
-                    output.push(ops.pop());
-                }
-                ops.push(t);
-            } else {
-                output.push(t);
-            }
-        }
-        while (!ops.isEmpty()) output.push(ops.pop());
-        java.util.Deque<Boolean> stack = new java.util.ArrayDeque<>();
-        java.util.List<String> rpn = new java.util.ArrayList<>(output);
-        java.util.Collections.reverse(rpn);
-        for (String t : rpn) {
-            if ("||".equals(t)) {
-                boolean b = stack.pop() | stack.pop();
-                stack.push(b);
-            } else if ("&&".equals(t)) {
-                boolean b = stack.pop() & stack.pop();
-                stack.push(b);
-            } else {
-                stack.push(evaluateComplexCondition(player, t.trim(), context));
-            }
-        }
-        return stack.isEmpty() ? false : stack.pop();
-    }
-
-    private java.util.List<String> tokenize(String s) {
-        java.util.List<String> tokens = new java.util.ArrayList<>();
-        int i = 0;
-        while (i < s.length()) {
-            char c = s.charAt(i);
-            if (Character.isWhitespace(c)) { i++; continue; }
-            if (c == '(' || c == ')') { tokens.add(String.valueOf(c)); i++; continue; }
-            if (i + 1 < s.length()) {
-                String two = s.substring(i, i + 2);
-                if ("||".equals(two) || "&&".equals(two)) { tokens.add(two); i += 2; continue; }
-            }
-            if (s.startsWith("placeholder:", i) || s.startsWith("permission:", i)) {
-                int j = i;
-                while (j < s.length()) {
-                    if (j + 1 < s.length()) {
-                        String two = s.substring(j, j + 2);
-                        if ("||".equals(two) || "&&".equals(two)) break;
-                    }
-                    char cj = s.charAt(j);
-                    if (cj == ')') break;
-                    j++;
-                }
-                tokens.add(s.substring(i, j).trim());
-                i = j;
-                continue;
-            }
-            int j = i;
-            while (j < s.length()) {
-                char cj = s.charAt(j);
-                if (cj == '(' || cj == ')' || Character.isWhitespace(cj)) break;
-                if (j + 1 < s.length()) {
-                    String two = s.substring(j, j + 2);
-                    if ("||".equals(two) || "&&".equals(two)) break;
-                }
-                j++;
-            }
-            tokens.add(s.substring(i, j));
-            i = j;
-        }
-        return tokens;
-    }
-
-    private boolean evaluateSingleCondition(FormPlayer player, String condition, ActionSystem.ActionContext context) {
-
-        if (condition.startsWith("placeholder:")) {
-            return evaluatePlaceholderCondition(player, condition, context);
-        } else if (condition.startsWith("permission:")) {
-            return evaluatePermissionCondition(player, condition, context);
-        } else {
-            logger.warn("Unknown condition type in: " + condition);
-            return false;
-        }
-    }
-
-
-    private boolean evaluatePlaceholderCondition(FormPlayer player, String condition, ActionSystem.ActionContext context) {
-
-        String conditionPart = condition.substring("placeholder:".length());
-
-
-        String[] operators = {">=", "<=", "==", "!=", ">", "<"};
-        String operator = null;
-        String[] parts = null;
-
-        for (String op : operators) {
-            if (conditionPart.contains(" " + op + " ")) {
-                operator = op;
-                parts = conditionPart.split(" " + Pattern.quote(op) + " ", 2);
-                break;
-            }
-        }
-
-        if (operator == null || parts == null || parts.length != 2) {
-            logger.warn("Invalid placeholder condition format: " + condition);
-            return false;
-        }
-
-        String placeholder = parts[0].trim();
-        String expectedValue = parts[1].trim();
-
-
-        String conditionString = "placeholder:" + placeholder + ":" + operator + ":" + expectedValue;
-        return ConditionEvaluator.evaluateCondition(player, conditionString, context, BedrockGUIApi.getInstance().getMessageData());
-    }
-
-
-    private boolean evaluatePermissionCondition(FormPlayer player, String condition, ActionSystem.ActionContext context) {
-        String permission = condition.substring("permission:".length()).trim();
-        String conditionString = "permission:" + permission;
-        return ConditionEvaluator.evaluateCondition(player, conditionString, context, BedrockGUIApi.getInstance().getMessageData());
-    }
-
-
     private List<String> parseActionList(String actionData, Pattern pattern) {
         List<String> actions = new ArrayList<>();
         Matcher matcher = pattern.matcher(actionData);
@@ -10,8 +10,6 @@ import it.pintux.life.common.utils.FormPlayer;
 import it.pintux.life.common.utils.MessageData;
 
 
-import java.util.concurrent.CompletableFuture;
-
 
 public class DelayActionHandler extends BaseActionHandler {
 
@@ -171,17 +169,12 @@ public class DelayActionHandler extends BaseActionHandler {
                     logger.error("Error executing chained action after delay for player " + player.getName() + ": " + e.getMessage());
                 }
             });
-        } else {
-            CompletableFuture.runAsync(() -> {
-                try {
-                    Thread.sleep(delayMs);
-                    if (chainedAction != null && !chainedAction.trim().isEmpty()) {
-                        executeChainedAction(player, chainedAction, context);
-                    }
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                }
-            });
+        } else if (chainedAction != null && !chainedAction.trim().isEmpty()) {
+            actionExecutor.getTaskExecutor().runLater(delayMs, () -> executeChainedAction(player, chainedAction, context))
+                    .exceptionally(e -> {
+                        logger.error("Error executing chained action after delay for player " + player.getName() + ": " + e.getMessage());
+                        return null;
+                    });
         }
 
         String message = "Delay of " + delayMs + "ms scheduled";
@@ -15,9 +15,12 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 
 public class EconomyActionHandler extends BaseActionHandler {
+    private static final long OPERATION_SPACING_MS = 50L;
+
     private final PlatformEconomyManager economyManager;
 
     public EconomyActionHandler(PlatformEconomyManager economyManager) {
@@ -96,24 +99,20 @@ public class EconomyActionHandler extends BaseActionHandler {
 
 
     private ActionSystem.ActionResult executeMultipleOperationsFromList(List<String> operations, FormPlayer player, ActionSystem.ActionContext context) {
+        List<Supplier<ActionSystem.ActionResult>> steps = new ArrayList<>(operations.size());
         for (String operation : operations) {
-            ActionSystem.ActionResult result = executeSingleOperation(player, operation.trim(), context);
-            if (result.isFailure()) {
-                return result;
-            }
-
-
-            try {
-                Thread.sleep(50);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                break;
-            }
+            steps.add(() -> executeSingleOperation(player, operation.trim(), context));
         }
 
-        logSuccess("economy", "Executed " + operations.size() + " operations", player);
-        return createSuccessResult("ACTION_ECONOMY_SUCCESS",
-                createReplacements("message", "Executed " + operations.size() + " economy operations"), player);
+        return executeSpaced(steps, OPERATION_SPACING_MS, true, results -> {
+            ActionSystem.ActionResult last = results.get(results.size() - 1);
+            if (last.isFailure()) {
+                return last;
+            }
+            logSuccess("economy", "Executed " + operations.size() + " operations", player);
+            return createSuccessResult("ACTION_ECONOMY_SUCCESS",
+                    createReplacements("message", "Executed " + operations.size() + " economy operations"), player);
+        });
     }
 
 
@@ -151,24 +150,7 @@ public class EconomyActionHandler extends BaseActionHandler {
         String listContent = multiValue.trim().substring(1, multiValue.trim().length() - 1);
         String[] operations = listContent.split(",\\s*");
 
-        for (String operation : operations) {
-            ActionSystem.ActionResult result = executeSingleOperation(player, operation.trim(), context);
-            if (result.isFailure()) {
-                return result;
-            }
-
-
-            try {
-                Thread.sleep(50);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                break;
-            }
-        }
-
-        logSuccess("economy", "Executed " + operations.length + " operations", player);
-        return createSuccessResult("ACTION_ECONOMY_SUCCESS",
-                createReplacements("message", "Executed " + operations.length + " economy operations"), player);
+        return executeMultipleOperationsFromList(java.util.Arrays.asList(operations), player, context);
     }
 
     private ActionSystem.ActionResult handleAdd(FormPlayer player, String[] parts) {
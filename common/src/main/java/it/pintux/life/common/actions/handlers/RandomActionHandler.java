@@ -16,8 +16,6 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
 
 public class RandomActionHandler extends BaseActionHandler {
@@ -30,11 +28,6 @@ public class RandomActionHandler extends BaseActionHandler {
 
     private final ActionExecutor actionExecutor;
     private final Random random;
-    private static final ExecutorService executorService = Executors.newCachedThreadPool(r -> {
-        Thread thread = new Thread(r, "RandomActionHandler-" + System.currentTimeMillis());
-        thread.setDaemon(true);
-        return thread;
-    });
 
     public RandomActionHandler(ActionExecutor actionExecutor) {
         this.actionExecutor = actionExecutor;
@@ -86,17 +79,7 @@ public class RandomActionHandler extends BaseActionHandler {
     }
 
     public void shutdown() {
-        if (executorService != null && !executorService.isShutdown()) {
-            executorService.shutdown();
-            try {
-                if (!executorService.awaitTermination(5, java.util.concurrent.TimeUnit.SECONDS)) {
-                    executorService.shutdownNow();
-                }
-            } catch (InterruptedException e) {
-                executorService.shutdownNow();
-                Thread.currentThread().interrupt();
-            }
-        }
+        // no-op: async work runs on the shared TaskExecutor
     }
 
     private static class WeightedAction {
@@ -13,10 +13,14 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 
 public class SoundActionHandler extends BaseActionHandler {
+    private static final int MAX_CACHED_SPECS = 1024;
+
     private final PlatformSoundManager soundManager;
+    private final Map<String, SoundSpec> specs = new ConcurrentHashMap<>();
 
     public SoundActionHandler(PlatformSoundManager soundManager) {
         this.soundManager = soundManager;
@@ -158,7 +162,36 @@ public class SoundActionHandler extends BaseActionHandler {
         String processedData = processPlaceholders(soundData.trim(), context, player);
 
 
-        String[] parts = processedData.split(":");
+        SoundSpec spec = specOf(processedData);
+        String soundName = spec.name();
+        float volume = spec.volume();
+        float pitch = spec.pitch();
+
+
+        boolean success = soundManager.playSound(player, soundName, volume, pitch);
+
+        if (success) {
+            logSuccess("sound", soundName + " (vol:" + volume + ", pitch:" + pitch + ")", player);
+            return createSuccessResult("ACTION_SOUND_SUCCESS",
+                    createReplacements("sound", soundName), player);
+        } else {
+            logFailure("sound", soundName, player);
+            return createFailureResult("ACTION_SOUND_FAILED",
+                    createReplacements("sound", soundName), player);
+        }
+    }
+
+
+    /**
+     * Parses "name[:volume[:pitch]]" once per distinct string.
+     */
+    private SoundSpec specOf(String soundData) {
+        SoundSpec spec = specs.get(soundData);
+        if (spec != null) {
+            return spec;
+        }
+
+        String[] parts = soundData.split(":");
         String soundName = parts[0];
         float volume = 1.0f;
         float pitch = 1.0f;
@@ -181,20 +214,49 @@ public class SoundActionHandler extends BaseActionHandler {
             }
         }
 
+        spec = new SoundSpec(soundName, volume, pitch);
+        if (specs.size() < MAX_CACHED_SPECS) {
+            specs.put(soundData, spec);
+        }
+        return spec;
+    }
 
-        boolean success = soundManager.playSound(player, soundName, volume, pitch);
+    /**
+     * Resolves the sounds of a configured action ahead of the first click.
+     *
+     * @return the sound names the platform does not know; names built from placeholders are skipped
+     */
+    public List<String> findUnknownSounds(String actionValue) {
+        List<String> unknown = new ArrayList<>();
+        if (actionValue == null || actionValue.trim().isEmpty()) {
+            return unknown;
+        }
 
-        if (success) {
-            logSuccess("sound", soundName + " (vol:" + volume + ", pitch:" + pitch + ")", player);
-            return createSuccessResult("ACTION_SOUND_SUCCESS",
-                    createReplacements("sound", soundName), player);
+        String trimmed = actionValue.trim();
+        List<String> values;
+        if (isNewCurlyBraceFormat(trimmed, "sound")) {
+            values = parseNewFormatValues(trimmed);
+        } else if (trimmed.startsWith("[") && trimmed.endsWith("]")) {
+            values = List.of(trimmed.substring(1, trimmed.length() - 1).split(",\\s*"));
         } else {
-            logFailure("sound", soundName, player);
-            return createFailureResult("ACTION_SOUND_FAILED",
-                    createReplacements("sound", soundName), player);
+            values = List.of(trimmed);
         }
+
+        for (String value : values) {
+            String soundData = value.trim();
+            if (soundData.isEmpty() || soundData.indexOf('$') >= 0 || soundData.indexOf('{') >= 0 || soundData.indexOf('%') >= 0) {
+                continue;
+            }
+            String soundName = specOf(soundData).name();
+            if (!soundManager.isKnownSound(soundName)) {
+                unknown.add(soundName);
+            }
+        }
+        return unknown;
     }
 
+    private record SoundSpec(String name, float volume, float pitch) {
+    }
 
     private boolean validateParameters(FormPlayer player, String actionData) {
         return player != null && actionData != null && !actionData.trim().isEmpty();
@@ -77,6 +77,30 @@ public class BedrockGUIApi {
         }
     }
 
+    /**
+     * Reloads the menus off the calling thread; players keep the old menus until the new set is published.
+     */
+    public CompletableFuture<Void> reloadConfigurationAsync() {
+        if (formMenuUtil == null) {
+            logger.warn("FormMenuUtil is null, cannot reload configuration");
+            return CompletableFuture.completedFuture(null);
+        }
+        return formMenuUtil.reloadFormMenusAsync();
+    }
+
+    /**
+     * Reloads the menus from a freshly read config and messages off the calling thread. Both are applied
+     * only once the new menus are built, so a failed build leaves the old config, messages and menus in place.
+     */
+    public CompletableFuture<Void> reloadConfigurationAsync(FormConfig newConfig, MessageData newMessageData) {
+        if (formMenuUtil == null) {
+            logger.warn("FormMenuUtil is null, cannot reload configuration");
+            return CompletableFuture.completedFuture(null);
+        }
+        return formMenuUtil.reloadFormMenusAsync(newConfig, newMessageData)
+                .thenRun(() -> updateMessageData(newMessageData));
+    }
+
     public ActionExecutor getActionExecutor() {
         return actionExecutor;
     }
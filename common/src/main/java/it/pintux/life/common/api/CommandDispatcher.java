@@ -0,0 +1,254 @@
+package it.pintux.life.common.api;
+
+import it.pintux.life.common.utils.BedrockPlayerRegistry;
+import it.pintux.life.common.utils.Logger;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * The one place typed player commands are intercepted, shared by the core plugin and every addon.
+ *
+ * <p>The platform listens once per event {@link Priority} and feeds each command line to
+ * {@link #dispatch} from every one of those listeners, so a handler keeps its place relative to other
+ * plugins' listeners. The line is parsed a single time into a root and arguments and reused by the
+ * later priorities unless another plugin rewrote it in between. The handlers registered for that root
+ * at that priority (plus any catch-all handlers, such as the core's {@code command_intercept} menus)
+ * are looked up with one hash lookup and run in registration order until one consumes the command.
+ *
+ * <p>The dispatcher outlives core reloads, so addons register once and {@link #unregisterAll} when
+ * they are disabled or rebuild their modules.
+ */
+public final class CommandDispatcher {
+
+    private static final Logger logger = Logger.getLogger(CommandDispatcher.class.getSimpleName());
+    private static final CommandDispatcher SHARED = new CommandDispatcher();
+    private static final String[] NO_ARGS = new String[0];
+
+    /** The platform event priority a handler runs at. */
+    public enum Priority { LOWEST, LOW, NORMAL, HIGH, HIGHEST, MONITOR }
+
+    @FunctionalInterface
+    public interface Handler {
+        /**
+         * @return true when the command was consumed; the platform then cancels it and no later handler runs
+         */
+        boolean handle(Command command);
+    }
+
+    private record Registration(Object owner, Priority priority, long order, Handler handler) {
+    }
+
+    /** The handlers of one priority, by root; {@code catchAllOnly} serves roots nobody registered. */
+    private record Table(Map<String, List<Registration>> byRoot, List<Registration> catchAllOnly) {
+        static final Table EMPTY = new Table(Map.of(), List.of());
+
+        boolean isEmpty() {
+            return byRoot.isEmpty() && catchAllOnly.isEmpty();
+        }
+    }
+
+    /** The last parsed line, reused while the same message object moves through the priorities. */
+    private record Parsed(String message, Object player, Command command) {
+    }
+
+    private static final Comparator<Registration> RUN_ORDER = Comparator.comparingLong(Registration::order);
+
+    private final List<Registration> catchAll = new ArrayList<>();
+    private final Map<String, List<Registration>> byRootRegistrations = new HashMap<>();
+    private long nextOrder;
+
+    // Rebuilt on every (un)registration, indexed by Priority ordinal; dispatch only reads it.
+    private volatile Table[] tables = emptyTables();
+    private volatile Parsed lastParsed;
+
+    private CommandDispatcher() {
+    }
+
+    public static CommandDispatcher shared() {
+        return SHARED;
+    }
+
+    /**
+     * Registers a handler for the given root commands; {@code /name}, {@code plugin:name} and case
+     * are normalized away.
+     *
+     * @param owner the registering plugin, used by {@link #unregisterAll}
+     */
+    public synchronized void register(Object owner, Priority priority, Collection<String> roots, Handler handler) {
+        Registration registration = new Registration(owner, priority, nextOrder++, handler);
+        for (String root : roots) {
+            String normalized = normalizeRoot(root);
+            if (!normalized.isEmpty()) {
+                byRootRegistrations.computeIfAbsent(normalized, k -> new ArrayList<>()).add(registration);
+            }
+        }
+        rebuild();
+    }
+
+    /** Registers a handler that sees every command. */
+    public synchronized void registerCatchAll(Object owner, Priority priority, Handler handler) {
+        catchAll.add(new Registration(owner, priority, nextOrder++, handler));
+        rebuild();
+    }
+
+    public synchronized void unregisterAll(Object owner) {
+        catchAll.removeIf(registration -> registration.owner() == owner);
+        byRootRegistrations.values().removeIf(list -> {
+            list.removeIf(registration -> registration.owner() == owner);
+            return list.isEmpty();
+        });
+        rebuild();
+    }
+
+    private void rebuild() {
+        Table[] rebuilt = emptyTables();
+        for (Priority priority : Priority.values()) {
+            List<Registration> priorityCatchAll = new ArrayList<>();
+            for (Registration registration : catchAll) {
+                if (registration.priority() == priority) priorityCatchAll.add(registration);
+            }
+            priorityCatchAll.sort(RUN_ORDER);
+            Map<String, List<Registration>> merged = new HashMap<>();
+            for (Map.Entry<String, List<Registration>> entry : byRootRegistrations.entrySet()) {
+                List<Registration> handlers = new ArrayList<>();
+                for (Registration registration : entry.getValue()) {
+                    if (registration.priority() == priority) handlers.add(registration);
+                }
+                if (handlers.isEmpty()) continue;
+                handlers.addAll(priorityCatchAll);
+                handlers.sort(RUN_ORDER);
+                merged.put(entry.getKey(), List.copyOf(handlers));
+            }
+            if (!merged.isEmpty() || !priorityCatchAll.isEmpty()) {
+                rebuilt[priority.ordinal()] = new Table(merged, List.copyOf(priorityCatchAll));
+            }
+        }
+        tables = rebuilt;
+    }
+
+    private static Table[] emptyTables() {
+        Table[] empty = new Table[Priority.values().length];
+        Arrays.fill(empty, Table.EMPTY);
+        return empty;
+    }
+
+    /**
+     * Runs the handlers registered at {@code priority}; the platform calls this from its listener of
+     * the matching event priority.
+     *
+     * @param player   the platform player (a {@code org.bukkit.entity.Player} on Paper)
+     * @param playerId the player's UUID
+     * @param message  the typed line, with its leading slash
+     * @return true when a handler consumed the command
+     */
+    public boolean dispatch(Priority priority, Object player, UUID playerId, String message) {
+        Table table = tables[priority.ordinal()];
+        if (message == null || table.isEmpty()) {
+            return false;
+        }
+        Command command = parse(player, playerId, message);
+
+        List<Registration> handlers = table.byRoot().get(command.root());
+        if (handlers == null) {
+            handlers = table.catchAllOnly();
+        }
+        for (Registration registration : handlers) {
+            try {
+                if (registration.handler().handle(command)) {
+                    return true;
+                }
+            } catch (RuntimeException e) {
+                logger.error("Command handler of " + registration.owner() + " failed for /" + command.root(), e);
+            }
+        }
+        return false;
+    }
+
+    private Command parse(Object player, UUID playerId, String message) {
+        Parsed parsed = lastParsed;
+        // Identity, not equals: a plugin that rewrote the message in between sets a new string.
+        if (parsed != null && parsed.message() == message && parsed.player() == player) {
+            return parsed.command();
+        }
+        String line = message.startsWith("/") ? message.substring(1) : message;
+        int start = skipWhitespace(line, 0);
+        int end = nextWhitespace(line, start);
+        String root = normalizeRoot(line.substring(start, end));
+        Command command = new Command(player, playerId, BedrockPlayerRegistry.isBedrockPlayer(playerId),
+                line, root, splitArgs(line, end));
+        lastParsed = new Parsed(message, player, command);
+        return command;
+    }
+
+    static String normalizeRoot(String root) {
+        if (root == null) {
+            return "";
+        }
+        String r = root.trim();
+        if (r.startsWith("/")) {
+            r = r.substring(1);
+        }
+        int space = nextWhitespace(r, 0);
+        if (space < r.length()) {
+            r = r.substring(0, space);
+        }
+        int colon = r.indexOf(':');
+        if (colon >= 0 && colon + 1 < r.length()) {
+            r = r.substring(colon + 1);
+        }
+        return r.toLowerCase(Locale.ROOT);
+    }
+
+    private static String[] splitArgs(String line, int from) {
+        List<String> args = null;
+        int i = skipWhitespace(line, from);
+        while (i < line.length()) {
+            int end = nextWhitespace(line, i);
+            if (args == null) {
+                args = new ArrayList<>();
+            }
+            args.add(line.substring(i, end));
+            i = skipWhitespace(line, end);
+        }
+        return args == null ? NO_ARGS : args.toArray(NO_ARGS);
+    }
+
+    private static int skipWhitespace(String text, int from) {
+        int i = from;
+        while (i < text.length() && Character.isWhitespace(text.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static int nextWhitespace(String text, int from) {
+        int i = from;
+        while (i < text.length() && !Character.isWhitespace(text.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * A typed command, parsed once.
+     *
+     * @param line the typed line without its leading slash
+     * @param root the lower-cased root command without {@code plugin:} prefix, or "" for a bare slash
+     * @param args the arguments, split on whitespace
+     */
+    public record Command(Object player, UUID playerId, boolean bedrock, String line, String root, String[] args) {
+
+        @SuppressWarnings("unchecked")
+        public <P> P player(Class<P> type) {
+            return type.isInstance(player) ? (P) player : null;
+        }
+    }
+}
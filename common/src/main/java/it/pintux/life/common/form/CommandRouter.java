@@ -0,0 +1,278 @@
+package it.pintux.life.common.form;
+
+import it.pintux.life.common.form.obj.FormMenu;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * Routes typed commands to menus without scanning every form.
+ *
+ * <p>Built once per load from the menus' {@code command} and {@code command_intercept} settings.
+ * Exact intercepts and base commands are hash lookups; {@code word%} intercepts walk a prefix trie,
+ * {@code %word} intercepts a trie of reversed suffixes and {@code %word%} intercepts an Aho-Corasick
+ * automaton, so each lookup costs time proportional to the command length.
+ *
+ * <p>When several intercepts match, an exact one wins over a prefix, suffix or contains one, and
+ * within a kind the longest pattern wins.
+ */
+public final class CommandRouter {
+
+    private static final CommandRouter EMPTY = new CommandRouter(new HashMap<>(), new Trie(), new Trie(), new Automaton(),
+            new HashMap<>(), new Trie());
+
+    private final Map<String, String> exactIntercepts;
+    private final Trie prefixIntercepts;
+    private final Trie suffixIntercepts;
+    private final Automaton containsIntercepts;
+    private final Map<String, List<Route>> commandsByBase;
+    private final Trie commandPrefixes;
+
+    private CommandRouter(Map<String, String> exactIntercepts, Trie prefixIntercepts, Trie suffixIntercepts,
+                          Automaton containsIntercepts, Map<String, List<Route>> commandsByBase, Trie commandPrefixes) {
+        this.exactIntercepts = exactIntercepts;
+        this.prefixIntercepts = prefixIntercepts;
+        this.suffixIntercepts = suffixIntercepts;
+        this.containsIntercepts = containsIntercepts;
+        this.commandsByBase = commandsByBase;
+        this.commandPrefixes = commandPrefixes;
+    }
+
+    public static CommandRouter empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Indexes the intercepts and commands of the given menus, keyed by menu name.
+     */
+    public static CommandRouter build(Map<String, FormMenu> menus) {
+        Map<String, String> exact = new HashMap<>();
+        Trie prefix = new Trie();
+        Trie suffix = new Trie();
+        Automaton contains = new Automaton();
+        Map<String, List<Route>> byBase = new HashMap<>();
+        Trie commandPrefixes = new Trie();
+
+        for (Map.Entry<String, FormMenu> entry : menus.entrySet()) {
+            String key = entry.getKey();
+            FormMenu menu = entry.getValue();
+
+            String intercept = menu.getCommandIntercept();
+            if (intercept != null && !intercept.isEmpty()) {
+                String p = intercept.trim().toLowerCase();
+                boolean leadingWildcard = p.startsWith("%");
+                boolean trailingWildcard = p.endsWith("%");
+
+                String core = p;
+                if (leadingWildcard) core = core.substring(1).trim();
+                if (trailingWildcard && !core.isEmpty()) core = core.substring(0, core.length() - 1).trim();
+
+                if (!core.isEmpty()) {
+                    if (leadingWildcard && trailingWildcard) {
+                        contains.add(core, key);
+                    } else if (trailingWildcard) {
+                        prefix.putIfAbsent(core, key);
+                    } else if (leadingWildcard) {
+                        suffix.putIfAbsent(new StringBuilder(core).reverse().toString(), key);
+                    } else {
+                        exact.putIfAbsent(core, key);
+                    }
+                }
+            }
+
+            String formCommand = menu.getFormCommand();
+            if (formCommand != null && !formCommand.isEmpty()) {
+                String[] parts = formCommand.split(" ");
+                byBase.computeIfAbsent(parts[0].toLowerCase(), k -> new ArrayList<>())
+                        .add(new Route(key, parts.length - 1));
+                commandPrefixes.putIfAbsent(formCommand, key);
+            }
+        }
+
+        for (List<Route> routes : byBase.values()) {
+            routes.sort(Comparator.comparingInt(Route::requiredArgs).reversed());
+        }
+        contains.build();
+        return new CommandRouter(exact, prefix, suffix, contains, byBase, commandPrefixes);
+    }
+
+    /**
+     * @param command the typed command without its leading slash
+     * @return the menu whose {@code command_intercept} matches, or null
+     */
+    public String matchIntercept(String command) {
+        if (command == null) {
+            return null;
+        }
+        String c = command.trim().toLowerCase();
+
+        String menu = exactIntercepts.get(c);
+        if (menu != null) {
+            return menu;
+        }
+        menu = prefixIntercepts.longestPrefixOf(c, false);
+        if (menu != null) {
+            return menu;
+        }
+        menu = suffixIntercepts.longestPrefixOf(c, true);
+        if (menu != null) {
+            return menu;
+        }
+        return containsIntercepts.longestMatch(c);
+    }
+
+    /**
+     * Finds the menus registered under a base command, most required arguments first.
+     *
+     * @return the routes, or an empty list when no menu uses this base command
+     */
+    public List<Route> matchCommand(String baseCommand) {
+        if (baseCommand == null) {
+            return Collections.emptyList();
+        }
+        List<Route> routes = commandsByBase.get(baseCommand.toLowerCase());
+        return routes != null ? routes : Collections.emptyList();
+    }
+
+    /**
+     * @return the menu with the longest {@code command} the given line starts with (case-sensitive), or null
+     */
+    public String matchCommandPrefix(String commandLine) {
+        return commandLine != null ? commandPrefixes.longestPrefixOf(commandLine, false) : null;
+    }
+
+    public boolean isEmpty() {
+        return exactIntercepts.isEmpty() && prefixIntercepts.isEmpty() && suffixIntercepts.isEmpty()
+                && containsIntercepts.isEmpty() && commandsByBase.isEmpty();
+    }
+
+    /**
+     * A menu opened by a base command, and how many arguments its command declares.
+     */
+    public record Route(String menuName, int requiredArgs) {
+    }
+
+    private static final class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        private String value;
+        private Node fail;
+        private String output;
+        private int outputLength;
+    }
+
+    private static final class Trie {
+        private final Node root = new Node();
+        private boolean empty = true;
+
+        void putIfAbsent(String key, String value) {
+            Node node = root;
+            for (int i = 0; i < key.length(); i++) {
+                node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+            }
+            if (node.value == null) {
+                node.value = value;
+            }
+            empty = false;
+        }
+
+        /**
+         * @param reversed walk the text from its last character, matching reversed keys as suffixes
+         */
+        String longestPrefixOf(String text, boolean reversed) {
+            Node node = root;
+            String match = null;
+            int length = text.length();
+            for (int i = 0; i < length && node != null; i++) {
+                node = node.children.get(text.charAt(reversed ? length - 1 - i : i));
+                if (node != null && node.value != null) {
+                    match = node.value;
+                }
+            }
+            return match;
+        }
+
+        boolean isEmpty() {
+            return empty;
+        }
+    }
+
+    private static final class Automaton {
+        private final Node root = new Node();
+        private boolean empty = true;
+
+        void add(String pattern, String value) {
+            Node node = root;
+            for (int i = 0; i < pattern.length(); i++) {
+                node = node.children.computeIfAbsent(pattern.charAt(i), c -> new Node());
+            }
+            if (node.value == null) {
+                node.value = value;
+                node.output = value;
+                node.outputLength = pattern.length();
+            }
+            empty = false;
+        }
+
+        /**
+         * Links failure transitions breadth-first; each node's output becomes the longest pattern
+         * ending at that node, including those reached through its failure chain.
+         */
+        void build() {
+            Queue<Node> queue = new ArrayDeque<>();
+            root.fail = root;
+            for (Node child : root.children.values()) {
+                child.fail = root;
+                queue.add(child);
+            }
+            while (!queue.isEmpty()) {
+                Node node = queue.poll();
+                for (Map.Entry<Character, Node> entry : node.children.entrySet()) {
+                    Node child = entry.getValue();
+                    Node fail = node.fail;
+                    while (fail != root && !fail.children.containsKey(entry.getKey())) {
+                        fail = fail.fail;
+                    }
+                    Node target = fail.children.get(entry.getKey());
+                    child.fail = target != null && target != child ? target : root;
+                    if (child.fail.outputLength > child.outputLength) {
+                        child.output = child.fail.output;
+                        child.outputLength = child.fail.outputLength;
+                    }
+                    queue.add(child);
+                }
+            }
+        }
+
+        String longestMatch(String text) {
+            if (empty) {
+                return null;
+            }
+            Node node = root;
+            String match = null;
+            int matchLength = 0;
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                while (node != root && !node.children.containsKey(c)) {
+                    node = node.fail;
+                }
+                Node next = node.children.get(c);
+                node = next != null ? next : root;
+                if (node.outputLength > matchLength) {
+                    match = node.output;
+                    matchLength = node.outputLength;
+                }
+            }
+            return match;
+        }
+
+        boolean isEmpty() {
+            return empty;
+        }
+    }
+}
@@ -16,14 +16,23 @@ import org.geysermc.cumulus.form.SimpleForm;
 import org.geysermc.cumulus.util.FormImage;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 
 public class FormMenuUtil {
 
     private static final Logger logger = Logger.getLogger(FormMenuUtil.class.getSimpleName());
-    private final Map<String, FormMenu> formMenus;
-    private final FormConfig config;
-    protected final MessageData messageData;
+    private static final int MAX_FORM_FILE_THREADS = 4;
+    private volatile MenuSnapshot menus = MenuSnapshot.EMPTY;
+    // Replaced with the config on reload, like the action executor's task executor.
+    private volatile MenuRenderCache renderCache;
+    private final ImageSourceResolver imageSources = new ImageSourceResolver();
+    // Swapped on reload together with the menus built from them.
+    private volatile FormConfig config;
+    protected volatile MessageData messageData;
     private final ActionExecutor actionExecutor;
     private final ActionRegistry actionRegistry;
     private final PlatformCommandExecutor commandExecutor;
@@ -54,7 +63,6 @@ public class FormMenuUtil {
                         PlatformPlayerManager playerManager,
                         PlatformScheduler scheduler) {
         this.config = config;
-        formMenus = new HashMap<>();
         this.messageData = messageData;
         this.commandExecutor = commandExecutor;
         this.soundManager = soundManager;
@@ -65,8 +73,9 @@ public class FormMenuUtil {
         this.playerManager = playerManager;
         this.scheduler = scheduler;
         this.actionRegistry = ActionRegistry.getInstance();
-        this.actionExecutor = new ActionExecutor(actionRegistry);
+        this.actionExecutor = new ActionExecutor(actionRegistry, TaskExecutor.fromConfig(config));
         this.actionExecutor.setScheduler(scheduler);
+        this.renderCache = MenuRenderCache.fromConfig(config);
 
 
         if (pluginManager != null) {
@@ -74,8 +83,15 @@ public class FormMenuUtil {
         }
 
         registerDefaultActionHandlers();
-        loadFormMenus();
-        validateConfiguration();
+               publish(buildSnapshot(config, messageData));
+    }
+
+    /**
+     * The loaded menus and their command index, replaced as a whole on reload so readers never see
+     * a partly loaded set.
+     */
+    private record MenuSnapshot(Map<String, FormMenu> menus, CommandRouter commandRouter) {
+        static final MenuSnapshot EMPTY = new MenuSnapshot(Map.of(), CommandRouter.empty());
     }
 
 
@@ -113,23 +129,144 @@ public class FormMenuUtil {
         logger.info("Registered " + actionRegistry.size() + " action handlers >> "  + actionRegistry.getAllHandlers().stream().map(actionHandler -> actionHandler.getActionType()).collect(Collectors.toList()));
     }
 
-    private void loadFormMenus() {
-        for (String key : config.getKeys("forms")) {
-            String filePath = config.getString("forms." + key + ".file");
+    /**
+     * Reads, builds and validates every menu in {@code config} without touching the published ones.
+     */
+    private MenuSnapshot buildSnapshot(FormConfig config, MessageData messageData) {
+        Set<String> keys = config.getKeys("forms");
+        Map<String, FormConfig> formFiles = loadFormFiles(config, keys);
+        Map<String, FormMenu> loaded = new LinkedHashMap<>();
+        for (String key : keys) {
+            String filePath = formFilePath(config, key);
             FormConfig source = config;
             String bedrockBase = "forms." + key;
             String javaBase = "forms." + key + ".java";
-            if (filePath != null && !filePath.trim().isEmpty()) {
-                source = config.loadFormFile(filePath.trim());
+            if (filePath != null) {
+                source = formFiles.get(filePath);
+                if (source == null) {
+                    continue;
+                }
                 bedrockBase = "bedrock";
                 javaBase = "java";
             }
             FormMenu menu = buildFormMenuFromPaths(key, bedrockBase, javaBase, source);
             if (menu != null) {
-                formMenus.put(key.toLowerCase(), menu);
+                loaded.put(key.toLowerCase(), menu);
+            }
+        }
+        Map<String, FormMenu> snapshot = Collections.unmodifiableMap(loaded);
+        validateConfiguration(snapshot, messageData);
+        logger.info("Loaded forms >> " + snapshot.keySet());
+        return new MenuSnapshot(snapshot, CommandRouter.build(snapshot));
+    }
+
+    private static String formFilePath(FormConfig config, String key) {
+        String filePath = config.getString("forms." + key + ".file");
+        return filePath == null || filePath.trim().isEmpty() ? null : filePath.trim();
+    }
+
+    /**
+     * Reads the forms' own files, several at a time on the action executor. The calling thread takes
+     * files from the same queue, so the load finishes even when the executor is busy or full. Unchanged
+     * files come from {@link FormFileCache}; a file that fails to load is logged and its form skipped.
+     *
+     * @return the loaded files keyed by their configured path
+     */
+    private Map<String, FormConfig> loadFormFiles(FormConfig source, Set<String> keys) {
+        Set<String> paths = new LinkedHashSet<>();
+        for (String key : keys) {
+            String filePath = formFilePath(source, key);
+            if (filePath != null) {
+                paths.add(filePath);
+            }
+        }
+        Map<String, FormConfig> files = new HashMap<>();
+        if (paths.isEmpty()) {
+            return files;
+        }
+
+        Queue<String> remaining = new ConcurrentLinkedQueue<>(paths);
+        Map<String, CompletableFuture<FormConfig>> results = new LinkedHashMap<>();
+        for (String path : paths) {
+            results.put(path, new CompletableFuture<>());
+        }
+        Runnable loader = () -> {
+            String path;
+            while ((path = remaining.poll()) != null) {
+                CompletableFuture<FormConfig> result = results.get(path);
+                try {
+                    result.complete(source.loadFormFile(path));
+                } catch (Throwable t) {
+                    result.completeExceptionally(t);
+                }
+            }
+        };
+        int helpers = Math.min(paths.size() - 1, MAX_FORM_FILE_THREADS - 1);
+        for (int i = 0; i < helpers; i++) {
+            try {
+                actionExecutor.getTaskExecutor().execute(loader);
+            } catch (RejectedExecutionException e) {
+                break;
+            }
+        }
+        loader.run();
+
+        // Whatever is still pending is being read by a helper that already took it off the queue.
+        for (Map.Entry<String, CompletableFuture<FormConfig>> entry : results.entrySet()) {
+            try {
+                files.put(entry.getKey(), entry.getValue().join());
+            } catch (CompletionException e) {
+                logger.error("Failed to load form file " + entry.getKey(), e.getCause());
+            }
+        }
+        return files;
+    }
+
+    /**
+     * Swaps in a built snapshot, then drops renders of the old menus and warms the caches for the new ones.
+     */
+    private void publish(MenuSnapshot snapshot) {
+        menus = snapshot;
+        renderCache.clear();
+        imageSources.clear();
+        for (FormMenu menu : snapshot.menus().values()) {
+            precompileTemplates(menu);
+        }
+        preloadImageSources();
+        precompileJavaMenus();
+    }
+
+    /**
+     * Compiles the menu's title, content and button texts into placeholder templates ahead of the first open.
+     */
+    private void precompileTemplates(FormMenu menu) {
+        PlaceholderTemplate.precompile(menu.getFormTitle());
+        PlaceholderTemplate.precompile(menu.getFormContent());
+        preloadText(menu.getFormTitle());
+        preloadText(menu.getFormContent());
+        for (FormButton button : menu.getFormButtons()) {
+            PlaceholderTemplate.precompile(button.getText());
+            preloadText(button.getText());
+            PlaceholderTemplate.precompile(button.getImage());
+            if (button instanceof ConditionalButton) {
+                ConditionalButton conditionalButton = (ConditionalButton) button;
+                PlaceholderTemplate.precompile(conditionalButton.getAlternativeText());
+                preloadText(conditionalButton.getAlternativeText());
+                PlaceholderTemplate.precompile(conditionalButton.getAlternativeImage());
+                for (ConditionalButton.ConditionalProperty property : conditionalButton.getConditionalProperties().values()) {
+                    if (!"onClick".equals(property.getProperty())) {
+                        PlaceholderTemplate.precompile(property.getValue());
+                    }
+                    if ("text".equals(property.getProperty())) {
+                        preloadText(property.getValue());
+                    }
+                }
             }
         }
-        logger.info("Loaded forms >> " + formMenus.keySet());
+    }
+
+    private void preloadText(String text) {
+        renderCache.preloadText(text, t -> replacePlaceholders(t, null, null, messageData));
     }
 
     private FormMenu buildFormMenuFromPaths(String key, String bedrockBase, String javaBase, FormConfig cfg) {
@@ -219,7 +356,9 @@ public class FormMenuUtil {
                     if (onClick != null && !onClick.trim().isEmpty()) {
                         ActionSystem.ActionDefinition actionDef = convertOnClickToActionDefinition(onClick);
                         conditionalButton.setAction(actionDef);
+                        conditionalButton.setActionPlan(ActionPlan.compile(onClick, actionExecutor));
                     }
+                    conditionalButton.setAlternativeActionPlan(ActionPlan.compile(alternativeOnClick, actionExecutor));
                     for (String condKey : conditionKeys) {
                         String condition = cfg.getString(base + ".buttons." + button + ".conditions." + condKey + ".condition");
                         String property = cfg.getString(base + ".buttons." + button + ".conditions." + condKey + ".property");
@@ -228,12 +367,18 @@ public class FormMenuUtil {
                             conditionalButton.addConditionalProperty(condition, property, value);
                         }
                     }
+                    for (ConditionalButton.ConditionalProperty property : conditionalButton.getConditionalProperties().values()) {
+                        if ("onClick".equals(property.getProperty())) {
+                            property.setActionPlan(ActionPlan.compile(property.getValue(), actionExecutor));
+                        }
+                    }
                     buttons.add(conditionalButton);
                 } else {
                     FormButton formButton = new FormButton(text, image, onClick);
                     if (onClick != null && !onClick.trim().isEmpty()) {
                         ActionSystem.ActionDefinition actionDef = convertOnClickToActionDefinition(onClick);
                         formButton.setAction(actionDef);
+                        formButton.setActionPlan(ActionPlan.compile(onClick, actionExecutor));
                     }
                     buttons.add(formButton);
                 }
@@ -457,12 +602,95 @@ public class FormMenuUtil {
     }
 
 
+    /**
+     * Reloads the menus on the calling thread. Until the new set is complete, players keep using the old one.
+     */
     public void reloadFormMenus() {
         logger.info("Reloading form menus from configuration...");
-        formMenus.clear();
-        loadFormMenus();
-        validateConfiguration();
-        logger.info("Successfully reloaded " + formMenus.size() + " form menus");
+        PlaceholderTemplate.clearCache();
+        CompiledCondition.clearCache();
+ publish(buildSnapshot(config, messageData));
+        logger.info("Successfully reloaded " + menus.menus().size() + " form menus");
+    }
+
+    /**
+     * Like {@link #reloadFormMenus()}, but reads, builds and validates the menus on the action executor
+     * and publishes them back on the platform's main thread, where the Java menu items are built.
+     * When the build fails the loaded menus stay in place and the failure is logged.
+     *
+     * @return completes on the main thread once the new menus are live
+     */
+    public CompletableFuture<Void> reloadFormMenusAsync() {
+        return reloadFormMenusAsync(config, messageData);
+    }
+
+    /**
+     * Reloads the menus from {@code newConfig} and {@code newMessageData} as {@link #reloadFormMenusAsync()}
+     * does. Neither is applied until the new menus are built: on success the config, messages, task executor
+     * and render cache are swapped together with the menus; on failure everything stays as it was.
+     *
+     * @return completes on the main thread once the new menus are live
+     */
+    public CompletableFuture<Void> reloadFormMenusAsync(FormConfig newConfig, MessageData newMessageData) {
+        logger.info("Reloading form menus from configuration...");
+        PlaceholderTemplate.clearCache();
+        CompiledCondition.clearCache();
+        CompletableFuture<MenuSnapshot> build;
+        try {
+            build = CompletableFuture.supplyAsync(() -> buildSnapshot(newConfig, newMessageData),
+                    actionExecutor.getTaskExecutor());
+        } catch (RejectedExecutionException e) {
+            build = new CompletableFuture<>();
+            try {
+                build.complete(buildSnapshot(newConfig, newMessageData));
+            } catch (RuntimeException failure) {
+                build.completeExceptionally(failure);
+            }
+        }
+        CompletableFuture<Void> published = new CompletableFuture<>();
+        build.whenComplete((snapshot, error) -> {
+            if (error != null) {
+                Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                logger.error("Failed to reload form menus; keeping the loaded ones", cause);
+                published.completeExceptionally(cause);
+                return;
+            }
+            runOnMainThread(() -> {
+                try {
+                    applyConfig(newConfig, newMessageData);
+                    publish(snapshot);
+                    logger.info("Successfully reloaded " + snapshot.menus().size() + " form menus");
+                    published.complete(null);
+                } catch (RuntimeException e) {
+                    logger.error("Failed to publish reloaded form menus", e);
+                    published.completeExceptionally(e);
+                }
+            });
+        });
+        return published;
+    }
+
+    /**
+     * Swaps in a reloaded config and messages, and rebuilds what is only read from the config once:
+     * the action task executor ({@code executor:}) and the render cache ({@code render-cache:}).
+     */
+    private void applyConfig(FormConfig newConfig, MessageData newMessageData) {
+        if (newConfig != config) {
+            config = newConfig;
+            actionExecutor.replaceTaskExecutor(TaskExecutor.fromConfig(newConfig));
+            renderCache = MenuRenderCache.fromConfig(newConfig);
+        }
+        if (newMessageData != null) {
+            messageData = newMessageData;
+        }
+    }
+
+    private void runOnMainThread(Runnable task) {
+        if (scheduler != null) {
+            scheduler.runLaterSync(0L, task);
+        } else {
+            task.run();
+        }
     }
 
     /**
@@ -473,23 +701,9 @@ public class FormMenuUtil {
      */
     public void updateMessageData(MessageData newMessageData) {
         if (newMessageData != null) {
-            try {
-                // Use reflection to update the final messageData field
-                java.lang.reflect.Field messageDataField = this.getClass().getDeclaredField("messageData");
-                messageDataField.setAccessible(true);
-
-                // Remove the final modifier temporarily
-                java.lang.reflect.Field modifiersField = java.lang.reflect.Field.class.getDeclaredField("modifiers");
-                modifiersField.setAccessible(true);
-                modifiersField.setInt(messageDataField, messageDataField.getModifiers() & ~java.lang.reflect.Modifier.FINAL);
-
-                // Set the new MessageData instance
-                messageDataField.set(this, newMessageData);
-
-                logger.info("MessageData updated successfully in FormMenuUtil during reload");
-            } catch (Exception e) {
-                logger.warn("Failed to update MessageData in FormMenuUtil: " + e.getMessage());
-            }
+            this.messageData = newMessageData;
+            renderCache.clear();
+            logger.info("MessageData updated successfully in FormMenuUtil during reload");
         }
     }
 
@@ -499,22 +713,13 @@ public class FormMenuUtil {
      */
     public void updateFormConfig(FormConfig newConfig) {
         if (newConfig != null) {
-            try {
-                java.lang.reflect.Field configField = this.getClass().getDeclaredField("config");
-                configField.setAccessible(true);
-                java.lang.reflect.Field modifiersField = java.lang.reflect.Field.class.getDeclaredField("modifiers");
-                modifiersField.setAccessible(true);
-                modifiersField.setInt(configField, configField.getModifiers() & ~java.lang.reflect.Modifier.FINAL);
-                configField.set(this, newConfig);
-                logger.info("FormConfig updated successfully in FormMenuUtil during reload");
-            } catch (Exception e) {
-                logger.warn("Failed to update FormConfig in FormMenuUtil: " + e.getMessage());
-            }
+            this.config = newConfig;
+            logger.info("FormConfig updated successfully in FormMenuUtil during reload");
         }
     }
 
     public void openForm(FormPlayer player, String menuName, String[] args) {
-        FormMenu menu = formMenus.get(menuName.toLowerCase());
+        FormMenu menu = menus.menus().get(menuName.toLowerCase());
         if (menu == null) {
             player.sendMessage(messageData.getValue(MessageData.MENU_NOT_FOUND, Map.of("{menu}", menuName), null));
             return;
@@ -556,7 +761,7 @@ public class FormMenuUtil {
     }
 
     private void openModalForm(FormPlayer player, FormMenu formMenu, Map<String, String> placeholders) {
-        String title = replacePlaceholders(formMenu.getFormTitle(), placeholders, player, messageData);
+        String title = renderText(formMenu.getFormTitle(), placeholders, player);
 
         List<FormButton> buttons = formMenu.getFormButtons();
         FormButton b1 = buttons.get(0);
@@ -567,45 +772,46 @@ public class FormMenuUtil {
 
         String content = formMenu.getFormContent();
         if (content != null) {
-            formBuilder.content(replacePlaceholders(content, placeholders, player, messageData));
+            formBuilder.content(renderText(content, placeholders, player));
         }
 
 
-        ActionSystem.ActionContext context = PlaceholderUtil.createContextWithBuiltinPlaceholders(player, placeholders, messageData);
+        ActionSystem.ActionContext context = ConditionEvaluator.withRenderMemo(
+                PlaceholderUtil.createContextWithBuiltinPlaceholders(player, placeholders, messageData));
 
 
         String button1Text, button2Text;
-        String button1OnClick, button2OnClick;
+        ActionPlan button1OnClick, button2OnClick;
 
 
         if (b1 instanceof ConditionalButton) {
             ConditionalButton cb1 = (ConditionalButton) b1;
 
             boolean cb1ConditionFailed = cb1.hasShowCondition() &&
-                    !ConditionEvaluator.evaluateCondition(player, cb1.getShowCondition(), context, messageData);
+                    !ConditionEvaluator.evaluateCondition(player, cb1.getCompiledShowCondition(), context, messageData);
             if (cb1ConditionFailed && !cb1.hasAlternative()) {
                 logger.warn("Modal form button 1 has a show condition that evaluated to false and no alternative. Modal forms always need both buttons, so the primary values are used.");
             }
             button1Text = getEffectiveButtonText(cb1, player, context, placeholders, messageData, cb1ConditionFailed);
-            button1OnClick = getEffectiveButtonOnClick(cb1, player, context, cb1ConditionFailed);
+            button1OnClick = getEffectiveButtonActionPlan(cb1, player, context, cb1ConditionFailed);
         } else {
-            button1Text = replacePlaceholders(b1.getText(), placeholders, player, messageData);
-            button1OnClick = b1.getOnClick();
+            button1Text = renderText(b1.getText(), placeholders, player);
+            button1OnClick = getEffectiveButtonActionPlan(b1, player, context, false);
         }
 
         if (b2 instanceof ConditionalButton) {
             ConditionalButton cb2 = (ConditionalButton) b2;
 
             boolean cb2ConditionFailed = cb2.hasShowCondition() &&
-                    !ConditionEvaluator.evaluateCondition(player, cb2.getShowCondition(), context, messageData);
+                    !ConditionEvaluator.evaluateCondition(player, cb2.getCompiledShowCondition(), context, messageData);
             if (cb2ConditionFailed && !cb2.hasAlternative()) {
                 logger.warn("Modal form button 2 has a show condition that evaluated to false and no alternative. Modal forms always need both buttons, so the primary values are used.");
             }
             button2Text = getEffectiveButtonText(cb2, player, context, placeholders, messageData, cb2ConditionFailed);
-            button2OnClick = getEffectiveButtonOnClick(cb2, player, context, cb2ConditionFailed);
+            button2OnClick = getEffectiveButtonActionPlan(cb2, player, context, cb2ConditionFailed);
         } else {
-            button2Text = replacePlaceholders(b2.getText(), placeholders, player, messageData);
-            button2OnClick = b2.getOnClick();
+            button2Text = renderText(b2.getText(), placeholders, player);
+            button2OnClick = getEffectiveButtonActionPlan(b2, player, context, false);
         }
 
         formBuilder
@@ -637,20 +843,21 @@ public class FormMenuUtil {
     }
 
     protected void openSimpleForm(FormPlayer player, FormMenu formMenu, Map<String, String> placeholders) {
-        String title = replacePlaceholders(formMenu.getFormTitle(), placeholders, player, messageData);
+        String title = renderText(formMenu.getFormTitle(), placeholders, player);
 
         List<FormButton> buttons = formMenu.getFormButtons();
         SimpleForm.Builder formBuilder = SimpleForm.builder().title(title);
 
         String content = formMenu.getFormContent();
         if (content != null) {
-            formBuilder.content(replacePlaceholders(content, placeholders, player, messageData));
+            formBuilder.content(renderText(content, placeholders, player));
         }
 
-        List<String> onClickActions = new ArrayList<>();
+        List<ActionPlan> onClickActions = new ArrayList<>();
 
 
-        ActionSystem.ActionContext context = PlaceholderUtil.createContextWithBuiltinPlaceholders(player, placeholders, messageData);
+        ActionSystem.ActionContext context = ConditionEvaluator.withRenderMemo(
+                PlaceholderUtil.createContextWithBuiltinPlaceholders(player, placeholders, messageData));
 
 
         List<FormButton> processedButtons = buttons;
@@ -662,7 +869,7 @@ public class FormMenuUtil {
 
 
                 boolean conditionFailed = conditionalButton.hasShowCondition() &&
-                        !ConditionEvaluator.evaluateCondition(player, conditionalButton.getShowCondition(), context, messageData);
+                        !ConditionEvaluator.evaluateCondition(player, conditionalButton.getCompiledShowCondition(), context, messageData);
 
                 if (conditionFailed && !conditionalButton.hasAlternative()) {
 
@@ -673,10 +880,9 @@ public class FormMenuUtil {
                 String effectiveText = getEffectiveButtonText(conditionalButton, player, context, placeholders, messageData, conditionFailed);
                 String effectiveImage = getEffectiveButtonImage(conditionalButton, player, context, conditionFailed);
                 if (effectiveImage != null) {
-                    effectiveImage = replacePlaceholders(effectiveImage, placeholders, player, messageData);
-                    effectiveImage = mapImageSource(effectiveImage);
+                    effectiveImage = renderImage(effectiveImage, placeholders, player);
                 }
-                String effectiveOnClick = getEffectiveButtonOnClick(conditionalButton, player, context, conditionFailed);
+                ActionPlan effectiveOnClick = getEffectiveButtonActionPlan(conditionalButton, player, context, conditionFailed);
 
 
                 if (effectiveImage != null) {
@@ -691,25 +897,24 @@ public class FormMenuUtil {
                 }
             } else {
 
-                String buttonText = replacePlaceholders(button.getText(), placeholders, player, messageData);
+                String buttonText = renderText(button.getText(), placeholders, player);
                 if (button.getImage() != null) {
-                    String srcRaw = button.getImage();
-                    String srcProcessed = replacePlaceholders(srcRaw, placeholders, player, messageData);
-                    String src = mapImageSource(srcProcessed);
+                    String src = renderImage(button.getImage(), placeholders, player);
                     FormImage.Type type = it.pintux.life.common.utils.IconResolver.isUrl(src) ? FormImage.Type.URL : FormImage.Type.PATH;
                     formBuilder.button(buttonText, type, src);
                 } else {
                     formBuilder.button(buttonText);
                 }
-                if (button.getOnClick() != null) {
-                    onClickActions.add(button.getOnClick());
+                ActionPlan plan = getEffectiveButtonActionPlan(button, player, context, false);
+                if (plan != null) {
+                    onClickActions.add(plan);
                 }
             }
         }
 
         formBuilder.validResultHandler((form, response) -> {
             int clickedButtonId = response.clickedButtonId();
-            String action = onClickActions.get(clickedButtonId);
+            ActionPlan action = onClickActions.get(clickedButtonId);
 
             handleOnClick(player, action, placeholders, messageData);
         });
@@ -914,34 +1119,36 @@ public class FormMenuUtil {
     }
 
     protected void handleOnClick(FormPlayer player, String onClickAction, Map<String, String> placeholders, MessageData messageData) {
-        if (onClickAction == null || onClickAction.trim().isEmpty()) {
+        handleOnClick(player, ActionPlan.compile(onClickAction, actionExecutor), placeholders, messageData);
+    }
+
+    protected void handleOnClick(FormPlayer player, ActionPlan plan, Map<String, String> placeholders, MessageData messageData) {
+        if (plan == null) {
             logger.warn("Empty onClick action for player: " + player.getName());
             return;
         }
 
-        onClickAction = replacePlaceholders(onClickAction.trim().replaceAll("\\s+", " "), placeholders, player, messageData);
-
-
         ActionSystem.ActionContext context = PlaceholderUtil.createContextWithBuiltinPlaceholders(player, placeholders, messageData);
+        java.util.function.UnaryOperator<String> renderer = text -> replacePlaceholders(text, placeholders, player, messageData);
 
-
-        if (onClickAction.startsWith("[") && onClickAction.endsWith("]")) {
-            handleMultipleActions(player, onClickAction, context);
+        if (plan.isSequence()) {
+            handleMultipleActions(player, plan, renderer, context);
         } else {
 
-            handleSingleAction(player, onClickAction, context);
+            handleSingleAction(player, plan, renderer, context);
         }
     }
 
 
-    private void handleSingleAction(FormPlayer player, String onClickAction, ActionSystem.ActionContext context) {
+    private void handleSingleAction(FormPlayer player, ActionPlan plan, java.util.function.UnaryOperator<String> renderer, ActionSystem.ActionContext context) {
 
-        ActionSystem.Action action = actionExecutor.parseAction(onClickAction);
-        if (action == null) {
-            logger.warn("Failed to parse onClick action: " + onClickAction);
+        if (!plan.isValid() || plan.isEmpty()) {
+            logger.warn("Failed to parse onClick action: " + plan.getSource());
             player.sendMessage(messageData.getValue(MessageData.FORMS_INVALID_ACTION_FORMAT, null, player));
             return;
         }
+        String onClickAction = plan.getSource();
+        ActionSystem.Action action = plan.resolve(renderer).get(0);
 
         ActionSystem.ActionResult result = actionExecutor.executeAction(player, action.getActionDefinition(), context);
         logger.debug(result.toString());
@@ -956,28 +1163,17 @@ public class FormMenuUtil {
     }
 
 
-    private void handleMultipleActions(FormPlayer player, String onClickAction, ActionSystem.ActionContext context) {
+    private void handleMultipleActions(FormPlayer player, ActionPlan plan, java.util.function.UnaryOperator<String> renderer, ActionSystem.ActionContext context) {
         try {
 
-            String actionsString = onClickAction.substring(1, onClickAction.length() - 1);
-
-            List<ActionSystem.Action> actions = new ArrayList<>();
-
-
-            for (String actionString : splitActionSequence(actionsString)) {
-                String trimmed = actionString.trim();
-                if (!trimmed.isEmpty()) {
-                    ActionSystem.Action action = actionExecutor.parseAction(trimmed);
-                    if (action != null) {
-                        actions.add(action);
-                    } else {
-                        logger.warn("Failed to parse action in multi-action sequence: " + trimmed);
-                        player.sendMessage(messageData.getValue(MessageData.FORMS_INVALID_ACTION_SEQUENCE, Map.of("action", trimmed), player));
-                        return;
-                    }
-                }
+            if (!plan.isValid()) {
+                logger.warn("Failed to parse action in multi-action sequence: " + plan.getInvalidStep());
+                player.sendMessage(messageData.getValue(MessageData.FORMS_INVALID_ACTION_SEQUENCE, Map.of("action", plan.getInvalidStep()), player));
+                return;
             }
 
+            List<ActionSystem.Action> actions = plan.resolve(renderer);
+
             if (actions.isEmpty()) {
                 logger.warn("No valid actions found in multi-action sequence for player: " + player.getName());
                 player.sendMessage(messageData.getValue(MessageData.FORMS_NO_VALID_ACTIONS, null, player));
@@ -1157,7 +1353,7 @@ public class FormMenuUtil {
         if (menuName == null) {
             return false;
         }
-        return formMenus.containsKey(menuName.toLowerCase());
+        return menus.menus().containsKey(menuName.toLowerCase());
     }
 
     public void registerActionHandler(ActionSystem.ActionHandler handler) {
@@ -1204,7 +1400,7 @@ public class FormMenuUtil {
     }
 
 
-    private void validateConfiguration() {
+    private void validateConfiguration(Map<String, FormMenu> formMenus, MessageData messageData) {
         ConfigValidator validator = new ConfigValidator(messageData, actionRegistry);
         ConfigValidator.ValidationResult result = validator.validateConfiguration(formMenus);
 
@@ -1229,8 +1425,18 @@ public class FormMenuUtil {
         }
     }
 
+    /**
+     * @return the currently loaded menus, keyed by lower-case name; an unmodifiable snapshot
+     */
     public Map<String, FormMenu> getFormMenus() {
-        return formMenus;
+        return menus.menus();
+    }
+
+    /**
+     * @return the command and intercept index for the currently loaded menus
+     */
+    public CommandRouter getCommandRouter() {
+        return menus.commandRouter();
     }
 
 
@@ -1244,7 +1450,7 @@ public class FormMenuUtil {
                 ConditionalButton.ConditionalProperty property = entry.getValue();
                 String condition = property.getCondition() != null ? property.getCondition() : entry.getKey();
 
-                if ("text".equals(property.getProperty()) && ConditionEvaluator.evaluateCondition(player, condition, context, messageData)) {
+                if ("text".equals(property.getProperty()) && isConditionMet(property, condition, player, context)) {
                     matchedCondition = condition;
                     break;
                 }
@@ -1252,11 +1458,11 @@ public class FormMenuUtil {
 
 
             String effectiveText = conditionalButton.getEffectiveText(matchedCondition, conditionFailed);
-            return replacePlaceholders(effectiveText, placeholders, player, messageData);
+            return renderText(effectiveText, placeholders, player);
         }
 
 
-        return replacePlaceholders(button.getText(), placeholders, player, messageData);
+        return renderText(button.getText(), placeholders, player);
     }
 
 
@@ -1270,7 +1476,7 @@ public class FormMenuUtil {
                 ConditionalButton.ConditionalProperty property = entry.getValue();
                 String condition = property.getCondition() != null ? property.getCondition() : entry.getKey();
 
-                if ("image".equals(property.getProperty()) && ConditionEvaluator.evaluateCondition(player, condition, context, messageData)) {
+                if ("image".equals(property.getProperty()) && isConditionMet(property, condition, player, context)) {
                     matchedCondition = condition;
                     break;
                 }
@@ -1298,7 +1504,7 @@ public class FormMenuUtil {
 
             String actionsString = onClick.substring(1, onClick.length() - 1);
 
-            for (String actionString : splitActionSequence(actionsString)) {
+            for (String actionString : ActionPlan.splitSequence(actionsString)) {
                 String trimmed = actionString.trim();
                 if (!trimmed.isEmpty()) {
                     parseAndAddAction(actionDef, trimmed);
@@ -1312,62 +1518,6 @@ public class FormMenuUtil {
         return actionDef;
     }
 
-    private List<String> splitActionSequence(String actionsString) {
-        List<String> out = new ArrayList<>();
-        if (actionsString == null || actionsString.isEmpty()) return out;
-
-        StringBuilder current = new StringBuilder();
-        int braceDepth = 0;
-        boolean inQuotes = false;
-        boolean escaped = false;
-
-        for (int i = 0; i < actionsString.length(); i++) {
-            char c = actionsString.charAt(i);
-
-            if (escaped) {
-                current.append(c);
-                escaped = false;
-                continue;
-            }
-
-            if (inQuotes && c == '\\') {
-                current.append(c);
-                escaped = true;
-                continue;
-            }
-
-            if (c == '"') {
-                current.append(c);
-                inQuotes = !inQuotes;
-                continue;
-            }
-
-            if (!inQuotes) {
-                if (c == '{') {
-                    current.append(c);
-                    braceDepth++;
-                    continue;
-                }
-                if (c == '}') {
-                    current.append(c);
-                    if (braceDepth > 0) braceDepth--;
-                    continue;
-                }
-                if (c == ',' && braceDepth == 0) {
-                    out.add(current.toString());
-                    current.setLength(0);
-                    continue;
-                }
-            }
-
-            current.append(c);
-        }
-
-        if (current.length() > 0) out.add(current.toString());
-        return out;
-    }
-
-
     private void parseAndAddAction(ActionSystem.ActionDefinition actionDef, String actionString) {
         String trimmed = actionString.trim();
 
@@ -1393,7 +1543,14 @@ public class FormMenuUtil {
         throw new IllegalArgumentException("Invalid action format. Actions must use curly-brace format: action { ... }");
     }
 
-    private String getEffectiveButtonOnClick(FormButton button, FormPlayer player, ActionSystem.ActionContext context, boolean conditionFailed) {
+    private boolean isConditionMet(ConditionalButton.ConditionalProperty property, String condition, FormPlayer player, ActionSystem.ActionContext context) {
+        if (property.getCondition() != null) {
+            return ConditionEvaluator.evaluateCondition(player, property.getCompiledCondition(), context, messageData);
+        }
+        return ConditionEvaluator.evaluateCondition(player, condition, context, messageData);
+    }
+
+    private ActionPlan getEffectiveButtonActionPlan(FormButton button, FormPlayer player, ActionSystem.ActionContext context, boolean conditionFailed) {
         if (button instanceof ConditionalButton) {
             ConditionalButton conditionalButton = (ConditionalButton) button;
 
@@ -1403,77 +1560,98 @@ public class FormMenuUtil {
                 ConditionalButton.ConditionalProperty property = entry.getValue();
                 String condition = property.getCondition() != null ? property.getCondition() : entry.getKey();
 
-                if ("onClick".equals(property.getProperty()) && ConditionEvaluator.evaluateCondition(player, condition, context, messageData)) {
+                if ("onClick".equals(property.getProperty()) && isConditionMet(property, condition, player, context)) {
                     matchedCondition = condition;
                     break;
                 }
             }
 
 
-            return conditionalButton.getEffectiveOnClick(matchedCondition, conditionFailed);
+            ActionPlan plan = conditionalButton.getEffectiveActionPlan(matchedCondition, conditionFailed);
+            return plan != null ? plan : ActionPlan.compile(conditionalButton.getEffectiveOnClick(matchedCondition, conditionFailed), actionExecutor);
         }
 
 
-        return button.getOnClick();
+        return button.getActionPlan() != null ? button.getActionPlan() : ActionPlan.compile(button.getOnClick(), actionExecutor);
     }
 
     public void setAssetServer(AssetServer assetServer) {
         this.assetServer = assetServer;
+        imageSources.setAssetServer(assetServer);
+        renderCache.invalidateImages();
+        preloadImageSources();
+    }
+
+    /**
+     * Drops the menu fragments rendered for a player; platforms call this when the player quits.
+     */
+    public void invalidatePlayer(UUID playerId) {
+        if (playerId != null) {
+            renderCache.invalidate(playerId);
+        }
+    }
+
+    private String renderText(String text, Map<String, String> placeholders, FormPlayer player) {
+        return renderCache.text(text, placeholders, player, t -> replacePlaceholders(t, placeholders, player, messageData));
+    }
+
+    private String renderImage(String image, Map<String, String> placeholders, FormPlayer player) {
+        return renderCache.image(image, placeholders, player, i -> mapImageSource(replacePlaceholders(i, placeholders, player, messageData)));
     }
 
     public void setJavaMenuManager(it.pintux.life.common.platform.PlatformJavaMenuManager javaMenuManager) {
         this.javaMenuManager = javaMenuManager;
+        precompileJavaMenus();
     }
 
-    private String mapImageSource(String image) {
-        if (image == null) return null;
-        String trimmed = image.trim();
-        if (ValidationUtils.isNullOrEmpty(trimmed)) return null;
+    /**
+     * Updates the slots of the player's open Java menu whose placeholders now render differently.
+     *
+     * @return false when no Java menu is open for the player
+     */
+    public boolean refreshJavaMenu(FormPlayer player) {
+        return javaMenuManager != null && javaMenuManager.refreshJavaMenu(player);
+    }
 
-        if (trimmed.startsWith("http://textures.minecraft.net/texture/") ||
-            trimmed.startsWith("https://textures.minecraft.net/texture/")) {
-            String hash = trimmed.substring(trimmed.lastIndexOf('/') + 1);
-            return "https://mc-heads.net/head/" + hash + "/64";
+    private void precompileJavaMenus() {
+        if (javaMenuManager == null) {
+            return;
         }
-
-        if (trimmed.matches("^[A-Za-z0-9+/=]+$") && trimmed.length() > 40) {
-            try {
-                byte[] decoded = java.util.Base64.getDecoder().decode(trimmed);
-                String json = new String(decoded, java.nio.charset.StandardCharsets.UTF_8);
-                java.util.regex.Pattern p = java.util.regex.Pattern.compile("\"url\"\\s*:\\s*\"https?://textures\\.minecraft\\.net/texture/([^\"]+)\"");
-                java.util.regex.Matcher m = p.matcher(json);
-                if (m.find()) {
-                    String hash = m.group(1);
-                    return "https://mc-heads.net/head/" + hash + "/64";
-                }
-            } catch (IllegalArgumentException ignored) {
+        for (FormMenu menu : menus.menus().values()) {
+            if (menu.getJavaMenu() != null) {
+                javaMenuManager.precompile(menu);
             }
         }
+    }
 
-        // Real URLs pass through untouched (rendered as FormImage.Type.URL).
-        // Must short-circuit BEFORE IconResolver.resolve(), which is a total
-        // function that maps any non-blank input to a "textures/..." path and
-        // would otherwise mangle a URL into "textures/items/https://..." (PATH).
-        if (trimmed.startsWith("http://") || trimmed.startsWith("https://")) {
-            return trimmed;
-        }
-
-        if (trimmed.startsWith("textures/")) {
-            return it.pintux.life.common.utils.IconResolver.remapTexturePath(trimmed);
-        }
-
-        String resolved = it.pintux.life.common.utils.IconResolver.resolveIcon(trimmed);
-        if (resolved != null) return resolved;
+    private String mapImageSource(String image) {
+        return imageSources.resolve(image);
+    }
 
-        if (it.pintux.life.common.utils.IconResolver.isLocalImageFile(trimmed)) {
-            return assetServer != null && assetServer.isAvailable() ? assetServer.getAssetUrl(trimmed) : trimmed;
+    /**
+     * Resolves the menus' literal button images (those without placeholders) ahead of the first open.
+     */
+    private void preloadImageSources() {
+        for (FormMenu menu : menus.menus().values()) {
+            for (FormButton button : menu.getFormButtons()) {
+                preloadImageSource(button.getImage());
+                if (button instanceof ConditionalButton) {
+                    ConditionalButton conditionalButton = (ConditionalButton) button;
+                    preloadImageSource(conditionalButton.getAlternativeImage());
+                    for (ConditionalButton.ConditionalProperty property : conditionalButton.getConditionalProperties().values()) {
+                        if ("image".equals(property.getProperty())) {
+                            preloadImageSource(property.getValue());
+                        }
+                    }
+                }
+            }
         }
+    }
 
-        if (trimmed.matches("^[A-Za-z0-9_.\\-]+$")) {
-            return "https://mc-heads.net/head/" + trimmed + "/64";
+    private void preloadImageSource(String image) {
+        if (image != null && image.indexOf('%') < 0 && !PlaceholderTemplate.of(image).hasPlaceholders()) {
+            imageSources.resolve(replacePlaceholders(image, null, null, messageData));
         }
-
-        return trimmed;
     }
 }
 
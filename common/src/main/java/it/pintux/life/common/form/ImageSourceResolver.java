@@ -0,0 +1,117 @@
+package it.pintux.life.common.form;
+
+import it.pintux.life.common.utils.AssetServer;
+import it.pintux.life.common.utils.IconResolver;
+import it.pintux.life.common.utils.ValidationUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Maps a button image (texture URL, base64 skull, URL, texture path, material, local file or
+ * player name) to the source sent to the client.
+ *
+ * <p>Results are kept in a bounded least-recently-used cache keyed by the raw image string, so a
+ * player-head list resolves each head once instead of on every open. Literal images are resolved
+ * when menus load; images built from placeholders on first use.
+ */
+final class ImageSourceResolver {
+
+    private static final int MAX_CACHED = 2048;
+
+    private static final Pattern BASE64 = Pattern.compile("[A-Za-z0-9+/=]+");
+    private static final Pattern TEXTURE_URL = Pattern.compile("\"url\"\\s*:\\s*\"https?://textures\\.minecraft\\.net/texture/([^\"]+)\"");
+    private static final Pattern HEAD_OWNER = Pattern.compile("[A-Za-z0-9_.\\-]+");
+
+    private static final String NONE = "";
+
+    private final Map<String, String> cache = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+            return size() > MAX_CACHED;
+        }
+    };
+
+    private volatile AssetServer assetServer;
+
+    void setAssetServer(AssetServer assetServer) {
+        this.assetServer = assetServer;
+        clear();
+    }
+
+    /**
+     * @return the image source to send, or null when the image is blank
+     */
+    String resolve(String image) {
+        if (image == null) return null;
+        String resolved;
+        synchronized (cache) {
+            resolved = cache.get(image);
+        }
+        if (resolved == null) {
+            resolved = map(image);
+            synchronized (cache) {
+                cache.put(image, resolved != null ? resolved : NONE);
+            }
+        }
+        return resolved == null || resolved.isEmpty() ? null : resolved;
+    }
+
+    void clear() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    private String map(String image) {
+        String trimmed = image.trim();
+        if (ValidationUtils.isNullOrEmpty(trimmed)) return null;
+
+        if (trimmed.startsWith("http://textures.minecraft.net/texture/") ||
+            trimmed.startsWith("https://textures.minecraft.net/texture/")) {
+            String hash = trimmed.substring(trimmed.lastIndexOf('/') + 1);
+            return "https://mc-heads.net/head/" + hash + "/64";
+        }
+
+        if (trimmed.length() > 40 && BASE64.matcher(trimmed).matches()) {
+            try {
+                String json = new String(Base64.getDecoder().decode(trimmed), StandardCharsets.UTF_8);
+                Matcher m = TEXTURE_URL.matcher(json);
+                if (m.find()) {
+                    return "https://mc-heads.net/head/" + m.group(1) + "/64";
+                }
+            } catch (IllegalArgumentException ignored) {
+            }
+        }
+
+        // Real URLs pass through untouched (rendered as FormImage.Type.URL).
+        // Must short-circuit BEFORE IconResolver.resolve(), which is a total
+        // function that maps any non-blank input to a "textures/..." path and
+        // would otherwise mangle a URL into "textures/items/https://..." (PATH).
+        if (trimmed.startsWith("http://") || trimmed.startsWith("https://")) {
+            return trimmed;
+        }
+
+        if (trimmed.startsWith("textures/")) {
+            return IconResolver.remapTexturePath(trimmed);
+        }
+
+        String resolved = IconResolver.resolveIcon(trimmed);
+        if (resolved != null) return resolved;
+
+        if (IconResolver.isLocalImageFile(trimmed)) {
+            AssetServer server = assetServer;
+            return server != null && server.isAvailable() ? server.getAssetUrl(trimmed) : trimmed;
+        }
+
+        if (HEAD_OWNER.matcher(trimmed).matches()) {
+            return "https://mc-heads.net/head/" + trimmed + "/64";
+        }
+
+        return trimmed;
+    }
+}
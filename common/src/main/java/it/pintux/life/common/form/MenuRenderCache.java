@@ -0,0 +1,171 @@
+package it.pintux.life.common.form;
+
+import it.pintux.life.common.utils.FormConfig;
+import it.pintux.life.common.utils.FormPlayer;
+import it.pintux.life.common.utils.PlaceholderTemplate;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Rendered menu fragments (titles, contents, button texts and images), kept by how much of the
+ * render depends on who is looking.
+ *
+ * <p>A fragment is classified once from its source text: without {@code %...%} placeholders it is
+ * static and rendered a single time; when every {@code %...%} placeholder is listed in
+ * {@code render-cache.player-placeholders} it is player-scoped and rendered once per player until
+ * they quit; anything else is volatile and rendered on every open. A fragment with {@code $key}
+ * tokens is volatile whenever the menu is opened with arguments.
+ */
+final class MenuRenderCache {
+
+    private static final Pattern EXTERNAL_PLACEHOLDER = Pattern.compile("%([^%\\s]+)%");
+
+    private static final int MAX_STATIC = 4096;
+    private static final int MAX_PER_PLAYER = 512;
+
+    private static final List<String> DEFAULT_PLAYER_PLACEHOLDERS = List.of("player", "player_name", "player_uuid");
+
+    enum Scope { STATIC, PLAYER, VOLATILE }
+
+    private final boolean enabled;
+    private final Set<String> playerPlaceholders;
+    private final Map<String, Scope> scopes = new ConcurrentHashMap<>();
+    private final Fragments texts = new Fragments();
+    private final Fragments images = new Fragments();
+
+    private MenuRenderCache(boolean enabled, Set<String> playerPlaceholders) {
+        this.enabled = enabled;
+        this.playerPlaceholders = playerPlaceholders;
+    }
+
+    /**
+     * Reads {@code render-cache.enabled} (default true) and {@code render-cache.player-placeholders}.
+     *
+     * @param config the plugin config, or null for defaults
+     */
+    static MenuRenderCache fromConfig(FormConfig config) {
+        if (config == null) {
+            return new MenuRenderCache(true, new HashSet<>(DEFAULT_PLAYER_PLACEHOLDERS));
+        }
+        boolean enabled = Boolean.parseBoolean(config.getString("render-cache.enabled", "true").trim());
+        List<String> configured = config.getStringList("render-cache.player-placeholders");
+        Set<String> names = new HashSet<>();
+        for (String name : configured == null || configured.isEmpty() ? DEFAULT_PLAYER_PLACEHOLDERS : configured) {
+            String trimmed = name.trim();
+            if (trimmed.startsWith("%") && trimmed.endsWith("%") && trimmed.length() > 1) {
+                trimmed = trimmed.substring(1, trimmed.length() - 1);
+            }
+            if (!trimmed.isEmpty()) {
+                names.add(trimmed.toLowerCase());
+            }
+        }
+        return new MenuRenderCache(enabled, Collections.unmodifiableSet(names));
+    }
+
+    Scope scopeOf(String source) {
+        Scope scope = scopes.get(source);
+        if (scope == null) {
+            scope = classify(source);
+            if (scopes.size() < MAX_STATIC) {
+                scopes.put(source, scope);
+            }
+        }
+        return scope;
+    }
+
+    private Scope classify(String source) {
+        if (source.indexOf('%') < 0) {
+            return Scope.STATIC;
+        }
+        Matcher matcher = EXTERNAL_PLACEHOLDER.matcher(source);
+        boolean any = false;
+        while (matcher.find()) {
+            if (!playerPlaceholders.contains(matcher.group(1).toLowerCase())) {
+                return Scope.VOLATILE;
+            }
+            any = true;
+        }
+        // A lone '%' (e.g. "50% off") resolves to itself.
+        return any ? Scope.PLAYER : Scope.STATIC;
+    }
+
+    /**
+     * Renders a static text ahead of the first open; other texts are only classified.
+     */
+    void preloadText(String source, UnaryOperator<String> renderer) {
+        if (enabled && source != null && scopeOf(source) == Scope.STATIC) {
+            texts.get(source, Scope.STATIC, null, renderer);
+        }
+    }
+
+    String text(String source, Map<String, String> args, FormPlayer player, UnaryOperator<String> renderer) {
+        return render(texts, source, args, player, renderer);
+    }
+
+    String image(String source, Map<String, String> args, FormPlayer player, UnaryOperator<String> renderer) {
+        return render(images, source, args, player, renderer);
+    }
+
+    private String render(Fragments fragments, String source, Map<String, String> args, FormPlayer player, UnaryOperator<String> renderer) {
+        if (source == null) {
+            return null;
+        }
+        if (!enabled || (args != null && !args.isEmpty() && PlaceholderTemplate.of(source).hasPlaceholders())) {
+            return renderer.apply(source);
+        }
+        Scope scope = scopeOf(source);
+        if (scope == Scope.VOLATILE || (scope == Scope.PLAYER && player == null)) {
+            return renderer.apply(source);
+        }
+        return fragments.get(source, scope, player, renderer);
+    }
+
+    /** Forgets everything rendered for this player. */
+    void invalidate(UUID playerId) {
+        texts.perPlayer.remove(playerId);
+        images.perPlayer.remove(playerId);
+    }
+
+    void invalidateImages() {
+        images.clear();
+    }
+
+    void clear() {
+        scopes.clear();
+        texts.clear();
+        images.clear();
+    }
+
+    private static final class Fragments {
+        private final Map<String, String> shared = new ConcurrentHashMap<>();
+        private final Map<UUID, Map<String, String>> perPlayer = new ConcurrentHashMap<>();
+
+        String get(String source, Scope scope, FormPlayer player, UnaryOperator<String> renderer) {
+            Map<String, String> cache = scope == Scope.STATIC
+                    ? shared
+                    : perPlayer.computeIfAbsent(player.getUniqueId(), id -> new ConcurrentHashMap<>());
+            String rendered = cache.get(source);
+            if (rendered == null) {
+                rendered = renderer.apply(source);
+                if (rendered != null && cache.size() < (scope == Scope.STATIC ? MAX_STATIC : MAX_PER_PLAYER)) {
+                    cache.put(source, rendered);
+                }
+            }
+            return rendered;
+        }
+
+        void clear() {
+            shared.clear();
+            perPlayer.clear();
+        }
+    }
+}
@@ -4,6 +4,8 @@ import it.pintux.life.common.actions.ActionSystem;
 
 import it.pintux.life.common.actions.ActionSystem.ActionDefinition;
 import it.pintux.life.common.actions.ActionParser;
+import it.pintux.life.common.actions.ActionPlan;
+import it.pintux.life.common.utils.CompiledCondition;
 
 import java.util.Map;
 import java.util.HashMap;
@@ -12,9 +14,11 @@ import java.util.StringJoiner;
 
 public class ConditionalButton extends FormButton {
     private String showCondition;
+    private CompiledCondition compiledShowCondition;
     private String alternativeText;
     private String alternativeImage;
     private String alternativeOnClick;
+    private ActionPlan alternativeActionPlan;
     private Map<String, ConditionalProperty> conditionalProperties;
     private int priority;
     private String priorityCondition;
@@ -33,7 +37,7 @@ public class ConditionalButton extends FormButton {
 
     public ConditionalButton(String text, String image, String onClick, String showCondition) {
         super(text, image, onClick);
-        this.showCondition = showCondition;
+        setShowCondition(showCondition);
         this.conditionalProperties = new HashMap<>();
         this.conditionalActions = new HashMap<>();
         this.priority = 0;
@@ -51,7 +55,7 @@ public class ConditionalButton extends FormButton {
 
     public ConditionalButton(String text, String image, ActionSystem.ActionDefinition actionDefinition, String showCondition, int priority) {
         super(text, image, actionDefinition);
-        this.showCondition = showCondition;
+        setShowCondition(showCondition);
         this.conditionalProperties = new HashMap<>();
         this.conditionalActions = new HashMap<>();
         this.priority = priority;
@@ -64,6 +68,12 @@ public class ConditionalButton extends FormButton {
 
     public void setShowCondition(String showCondition) {
         this.showCondition = showCondition;
+        this.compiledShowCondition = CompiledCondition.of(showCondition);
+    }
+
+    /** @return the show condition parsed once, or null when there is none */
+    public CompiledCondition getCompiledShowCondition() {
+        return compiledShowCondition;
     }
 
     public String getAlternativeText() {
@@ -88,6 +98,15 @@ public class ConditionalButton extends FormButton {
 
     public void setAlternativeOnClick(String alternativeOnClick) {
         this.alternativeOnClick = alternativeOnClick;
+        this.alternativeActionPlan = null;
+    }
+
+    public ActionPlan getAlternativeActionPlan() {
+        return alternativeActionPlan;
+    }
+
+    public void setAlternativeActionPlan(ActionPlan alternativeActionPlan) {
+        this.alternativeActionPlan = alternativeActionPlan;
     }
 
     public Map<String, ConditionalProperty> getConditionalProperties() {
@@ -225,6 +244,31 @@ public class ConditionalButton extends FormButton {
     }
 
 
+    /**
+     * Compiled counterpart of {@link #getEffectiveOnClick}; null when the chosen onClick was never compiled.
+     */
+    public ActionPlan getEffectiveActionPlan(String condition, boolean useAlternative) {
+
+        if (condition != null) {
+            ConditionalProperty property = conditionalProperties.get(createConditionalPropertyKey(condition, "onClick"));
+            if (property == null) {
+                property = findConditionalProperty(condition, "onClick");
+            }
+            if (property != null && "onClick".equals(property.getProperty())) {
+                return property.getActionPlan();
+            }
+        }
+
+
+        if (useAlternative && alternativeOnClick != null) {
+            return alternativeActionPlan;
+        }
+
+
+        return getActionPlan();
+    }
+
+
     public ActionSystem.ActionDefinition getEffectiveActionDefinition(String condition) {
 
         if (condition != null) {
@@ -267,11 +311,14 @@ public class ConditionalButton extends FormButton {
 
     public static class ConditionalProperty {
         private final String condition;
+        private final CompiledCondition compiledCondition;
         private final String property;
         private final String value;
+        private ActionPlan actionPlan;
 
         public ConditionalProperty(String condition, String property, String value) {
             this.condition = condition;
+            this.compiledCondition = CompiledCondition.of(condition);
             this.property = property;
             this.value = value;
         }
@@ -280,6 +327,11 @@ public class ConditionalButton extends FormButton {
             return condition;
         }
 
+        /** @return the condition parsed once, or null when it is blank */
+        public CompiledCondition getCompiledCondition() {
+            return compiledCondition;
+        }
+
         public String getProperty() {
             return property;
         }
@@ -288,6 +340,15 @@ public class ConditionalButton extends FormButton {
             return value;
         }
 
+        /** @return the compiled value of an onClick property, or null for other properties */
+        public ActionPlan getActionPlan() {
+            return actionPlan;
+        }
+
+        public void setActionPlan(ActionPlan actionPlan) {
+            this.actionPlan = actionPlan;
+        }
+
         @Override
         public String toString() {
             return condition + " -> " + property + "=" + value;
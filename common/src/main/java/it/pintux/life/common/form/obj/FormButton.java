@@ -3,6 +3,7 @@ import it.pintux.life.common.actions.ActionSystem;
 
 import it.pintux.life.common.actions.ActionSystem.ActionDefinition;
 import it.pintux.life.common.actions.ActionParser;
+import it.pintux.life.common.actions.ActionPlan;
 
 import java.util.List;
 import java.util.StringJoiner;
@@ -14,6 +15,7 @@ public class FormButton {
     private String onClick;
     private ActionSystem.ActionDefinition action;
     private List<ActionSystem.ActionDefinition> actions;
+    private ActionPlan actionPlan;
 
     public FormButton(String text, String image, String onClick) {
         this.text = text;
@@ -68,6 +70,16 @@ public class FormButton {
 
     public void setOnClick(String onClick) {
         this.onClick = onClick;
+        this.actionPlan = null;
+    }
+
+    /** @return the onClick compiled at load time, or null when it has not been compiled */
+    public ActionPlan getActionPlan() {
+        return actionPlan;
+    }
+
+    public void setActionPlan(ActionPlan actionPlan) {
+        this.actionPlan = actionPlan;
     }
 
     public ActionSystem.ActionDefinition getAction() {
@@ -8,5 +8,19 @@ import java.util.Map;
 
 public interface PlatformJavaMenuManager {
     void openJavaMenu(FormPlayer player, FormMenu menu, Map<String, String> placeholders, FormMenuUtil util);
-}
 
+    /**
+     * Prepares the menu's Java layout ahead of its first open; called when menus load.
+     */
+    default void precompile(FormMenu menu) {
+    }
+
+    /**
+     * Re-renders the player's open Java menu in place, updating only the slots that changed.
+     *
+     * @return false when the player has no Java menu open
+     */
+    default boolean refreshJavaMenu(FormPlayer player) {
+        return false;
+    }
+}
@@ -0,0 +1,16 @@
+package it.pintux.life.common.platform;
+
+import it.pintux.life.common.utils.FormPlayer;
+
+/**
+ * Supplies the player-state built-in placeholders: x, y, z, world, health and food.
+ *
+ * <p>Values are requested only when a template actually uses the key, and at most once per render.
+ */
+public interface PlatformPlaceholderProvider {
+
+    /**
+     * @return the value for the key, or null to fall back to the default value
+     */
+    String resolve(FormPlayer player, String key);
+}
@@ -5,5 +5,13 @@ import it.pintux.life.common.utils.FormPlayer;
 
 public interface PlatformSoundManager {
     boolean playSound(FormPlayer player, String soundName, float volume, float pitch);
-}
 
+    /**
+     * Checked when menus load, so misspelled sounds are reported before anyone clicks.
+     *
+     * @return false when the platform cannot play a sound by this name
+     */
+    default boolean isKnownSound(String soundName) {
+        return true;
+    }
+}
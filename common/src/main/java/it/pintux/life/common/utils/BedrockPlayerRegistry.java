@@ -0,0 +1,65 @@
+package it.pintux.life.common.utils;
+
+import org.geysermc.floodgate.api.FloodgateApi;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Which online players joined through Floodgate, shared by the core plugin and every addon.
+ *
+ * <p>The platform plugin records each player once on join ({@link #join}) and forgets them on
+ * quit ({@link #quit}), so {@link #isBedrockPlayer} is a map lookup on hot paths such as inventory
+ * opens and command preprocessing. A player the registry has not seen (e.g. an offline UUID) is
+ * asked of Floodgate directly, without being recorded.
+ */
+public final class BedrockPlayerRegistry {
+
+    private static final Map<UUID, Boolean> ONLINE = new ConcurrentHashMap<>();
+
+    private BedrockPlayerRegistry() {
+    }
+
+    public static boolean isBedrockPlayer(UUID playerUuid) {
+        if (playerUuid == null) {
+            return false;
+        }
+        Boolean bedrock = ONLINE.get(playerUuid);
+        return bedrock != null ? bedrock : lookup(playerUuid);
+    }
+
+    public static boolean isFloodgateAvailable() {
+        try {
+            return FloodgateApi.getInstance() != null;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    /** Records a player who joined (or was already online when the plugin enabled). */
+    public static void join(UUID playerUuid) {
+        if (playerUuid != null) {
+            ONLINE.put(playerUuid, lookup(playerUuid));
+        }
+    }
+
+    public static void quit(UUID playerUuid) {
+        if (playerUuid != null) {
+            ONLINE.remove(playerUuid);
+        }
+    }
+
+    public static void clear() {
+        ONLINE.clear();
+    }
+
+    private static boolean lookup(UUID playerUuid) {
+        try {
+            FloodgateApi api = FloodgateApi.getInstance();
+            return api != null && api.isFloodgatePlayer(playerUuid);
+        } catch (Exception e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package it.pintux.life.common.utils;
+
+import it.pintux.life.common.platform.PlatformPlaceholderProvider;
+
+import java.time.LocalTime;
+import java.util.AbstractMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Placeholder map whose built-in keys are resolved on first lookup instead of when the map is built.
+ *
+ * <p>Explicit entries behave like a normal map. Built-in values are memoized and the memo is shared
+ * with every {@link #copy()}, so each key is resolved at most once per render. Iterating the map
+ * resolves every remaining built-in. Access is synchronized since a context may be read from async
+ * action threads.
+ */
+public final class BuiltinPlaceholders extends AbstractMap<String, String> {
+
+    private static final Map<String, String> PLAYER_DEFAULTS = Map.of(
+            "x", "0.0",
+            "y", "64.0",
+            "z", "0.0",
+            "world", "world",
+            "health", "20.0",
+            "food", "20");
+
+    private static final Set<String> TIME_KEYS = Set.of("time", "hour", "minute", "timestamp");
+
+    private static volatile PlatformPlaceholderProvider provider;
+
+    private final FormPlayer player;
+    private final Map<String, String> memo;
+    private final Map<String, String> values;
+    private final Set<String> pending;
+
+    private BuiltinPlaceholders(FormPlayer player, Map<String, String> memo, Map<String, String> values, Set<String> pending) {
+        this.player = player;
+        this.memo = memo;
+        this.values = values;
+        this.pending = pending;
+    }
+
+    /**
+     * Creates a map holding only the built-ins for the player; time keys are always present.
+     */
+    public static BuiltinPlaceholders forPlayer(FormPlayer player) {
+        Set<String> pending = new LinkedHashSet<>(TIME_KEYS);
+        if (player != null) {
+            pending.add("player");
+            pending.add("uuid");
+            pending.addAll(PLAYER_DEFAULTS.keySet());
+        }
+        return new BuiltinPlaceholders(player, new ConcurrentHashMap<>(), new HashMap<>(), pending);
+    }
+
+    public static void setProvider(PlatformPlaceholderProvider placeholderProvider) {
+        provider = placeholderProvider;
+    }
+
+    public static PlatformPlaceholderProvider getProvider() {
+        return provider;
+    }
+
+    /**
+     * @return an independent map that shares this one's memoized built-in values
+     */
+    public synchronized BuiltinPlaceholders copy() {
+        return new BuiltinPlaceholders(player, memo, new HashMap<>(values), new LinkedHashSet<>(pending));
+    }
+
+    /**
+     * Adds entries that the built-ins do not already provide; explicit values are replaced.
+     */
+    public synchronized void putAllExceptBuiltins(Map<String, String> additional) {
+        for (Map.Entry<String, String> entry : additional.entrySet()) {
+            if (!pending.contains(entry.getKey())) {
+                values.put(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    @Override
+    public synchronized String get(Object key) {
+        if (key instanceof String && pending.remove(key)) {
+            String name = (String) key;
+            values.put(name, memo.computeIfAbsent(name, this::resolve));
+        }
+        return values.get(key);
+    }
+
+    @Override
+    public synchronized boolean containsKey(Object key) {
+        return values.containsKey(key) || pending.contains(key);
+    }
+
+    @Override
+    public synchronized String put(String key, String value) {
+        pending.remove(key);
+        return values.put(key, value);
+    }
+
+    @Override
+    public synchronized String remove(Object key) {
+        pending.remove(key);
+        return values.remove(key);
+    }
+
+    @Override
+    public synchronized int size() {
+        return values.size() + pending.size();
+    }
+
+    @Override
+    public synchronized Set<Entry<String, String>> entrySet() {
+        if (!pending.isEmpty()) {
+            for (String key : pending.toArray(new String[0])) {
+                get(key);
+            }
+        }
+        return values.entrySet();
+    }
+
+    private String resolve(String key) {
+        switch (key) {
+            case "player":
+                return player.getName();
+            case "uuid":
+                return player.getUniqueId().toString();
+            case "time": {
+                LocalTime now = LocalTime.now();
+                int totalMinutes = now.getHour() * 60 + now.getMinute();
+                return String.valueOf((totalMinutes * 24000) / (24 * 60));
+            }
+            case "hour":
+                return String.valueOf(LocalTime.now().getHour());
+            case "minute":
+                return String.valueOf(LocalTime.now().getMinute());
+            case "timestamp":
+                return String.valueOf(System.currentTimeMillis());
+            default:
+                break;
+        }
+
+        PlatformPlaceholderProvider current = provider;
+        if (current != null) {
+            try {
+                String value = current.resolve(player, key);
+                if (value != null) {
+                    return value;
+                }
+            } catch (Exception ignored) {
+            }
+        }
+        return PLAYER_DEFAULTS.get(key);
+    }
+}
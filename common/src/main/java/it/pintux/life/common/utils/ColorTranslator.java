@@ -0,0 +1,73 @@
+package it.pintux.life.common.utils;
+
+/**
+ * Translates {@code <#RRGGBB>}, {@code &#RRGGBB} and {@code &} color codes into section-sign codes
+ * in a single scan.
+ *
+ * <p>Hex colors become the {@code §x§r§r§g§g§b§b} sequence understood by Spigot and BungeeCord.
+ * Platforms that cannot show hex colors pass {@code hex = false}, which drops hex tags instead of
+ * leaking their digits as legacy codes.
+ */
+public final class ColorTranslator {
+
+    public static final char SECTION = '§';
+
+    private static final String LEGACY_CODES = "0123456789AaBbCcDdEeFfKkLlMmNnOoRrXx";
+
+    private ColorTranslator() {
+    }
+
+    public static String translate(String message, boolean hex) {
+        if (message == null) return null;
+        int first = firstCandidate(message);
+        if (first < 0) {
+            return message;
+        }
+
+        int length = message.length();
+        StringBuilder sb = new StringBuilder(length + 16);
+        sb.append(message, 0, first);
+        int i = first;
+        while (i < length) {
+            char c = message.charAt(i);
+            if (c == '<' && i + 8 < length && message.charAt(i + 1) == '#' && message.charAt(i + 8) == '>'
+                    && isHex(message, i + 2)) {
+                if (hex) appendHex(sb, message, i + 2);
+                i += 9;
+            } else if (c == '&' && i + 7 < length && message.charAt(i + 1) == '#' && isHex(message, i + 2)) {
+                if (hex) appendHex(sb, message, i + 2);
+                i += 8;
+            } else if (c == '&' && i + 1 < length && LEGACY_CODES.indexOf(message.charAt(i + 1)) >= 0) {
+                sb.append(SECTION).append(Character.toLowerCase(message.charAt(i + 1)));
+                i += 2;
+            } else {
+                sb.append(c);
+                i++;
+            }
+        }
+        return sb.toString();
+    }
+
+    private static int firstCandidate(String message) {
+        int amp = message.indexOf('&');
+        int angle = message.indexOf("<#");
+        if (amp < 0) return angle;
+        if (angle < 0) return amp;
+        return Math.min(amp, angle);
+    }
+
+    private static boolean isHex(String s, int from) {
+        for (int i = from; i < from + 6; i++) {
+            char c = s.charAt(i);
+            if (!((c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F'))) return false;
+        }
+        return true;
+    }
+
+    private static void appendHex(StringBuilder sb, String s, int from) {
+        sb.append(SECTION).append('x');
+        for (int i = from; i < from + 6; i++) {
+            sb.append(SECTION).append(Character.toLowerCase(s.charAt(i)));
+        }
+    }
+}
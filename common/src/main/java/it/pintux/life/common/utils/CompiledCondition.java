@@ -0,0 +1,316 @@
+package it.pintux.life.common.utils;
+
+import it.pintux.life.common.actions.ActionSystem;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * A condition expression parsed once into a tree of {@code &&}, {@code ||} and atoms.
+ *
+ * <p>Atoms keep their source text; an atom without placeholder tokens is split into its parts at
+ * compile time, others are substituted and split when evaluated, as before. Evaluation short-circuits,
+ * and atom results are memoized per render when the context carries a render memo (see
+ * {@link ConditionEvaluator#withRenderMemo}).
+ *
+ * <p>Two source syntaxes compile to the same tree: show conditions
+ * ({@code permission:vip && placeholder:%lvl%:>=:5}) via {@link #of}, and the "conditional"
+ * action's check ({@code permission:vip && placeholder:%lvl% >= 5}) via {@link #ofCheck}. Both are
+ * cached by their source text with placeholders unresolved; a check's atoms also resolve the action
+ * context's form results when evaluated, as the action's own data does.
+ */
+public final class CompiledCondition {
+
+    private static final Logger logger = Logger.getLogger(CompiledCondition.class.getSimpleName());
+
+    private static final int MAX_CACHED = 4096;
+    private static final Map<String, CompiledCondition> CACHE = new ConcurrentHashMap<>();
+    private static final Map<String, CompiledCondition> CHECK_CACHE = new ConcurrentHashMap<>();
+
+    private static final String[] CHECK_OPERATORS = {">=", "<=", "==", "!=", ">", "<"};
+
+    private static final Node FALSE = (player, context, messageData, memo) -> false;
+
+    private final String source;
+    private final Node root;
+
+    private CompiledCondition(String source, Node root) {
+        this.source = source;
+        this.root = root;
+    }
+
+    /**
+     * @return the cached compiled form of a show condition, or null when the condition is blank
+     */
+    public static CompiledCondition of(String condition) {
+        if (condition == null || condition.trim().isEmpty()) {
+            return null;
+        }
+        return cached(CACHE, condition, CompiledCondition::compile);
+    }
+
+    /**
+     * @param check the check as written, placeholders unresolved, so one entry serves every player
+     * @return the cached compiled form of a "conditional" action's check expression, or null when blank
+     */
+    public static CompiledCondition ofCheck(String check) {
+        if (check == null || check.trim().isEmpty()) {
+            return null;
+        }
+        return cached(CHECK_CACHE, check, CompiledCondition::compileCheck);
+    }
+
+    private static CompiledCondition cached(Map<String, CompiledCondition> cache, String source,
+                                            java.util.function.Function<String, CompiledCondition> compiler) {
+        CompiledCondition compiled = cache.get(source);
+        if (compiled != null) {
+            return compiled;
+        }
+        compiled = compiler.apply(source);
+        if (cache.size() < MAX_CACHED) {
+            cache.putIfAbsent(source, compiled);
+        }
+        return compiled;
+    }
+
+    public static void clearCache() {
+        CACHE.clear();
+        CHECK_CACHE.clear();
+    }
+
+    public boolean evaluate(FormPlayer player, ActionSystem.ActionContext context, MessageData messageData) {
+        return root.evaluate(player, context, messageData, ConditionEvaluator.memoFor(context));
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    @Override
+    public String toString() {
+        return "CompiledCondition{" + source + "}";
+    }
+
+    // ─── Show-condition syntax ──────────────────────────────────────────
+    // A condition without && or || is one atom, parentheses included, as it always was.
+
+    private static CompiledCondition compile(String condition) {
+        String trimmed = condition.trim();
+        if (!trimmed.contains("&&") && !trimmed.contains("||")) {
+            return new CompiledCondition(condition, new Atom(trimmed));
+        }
+
+        List<String> tokens = new ArrayList<>();
+        StringBuilder atom = new StringBuilder();
+        int i = 0;
+        while (i < trimmed.length()) {
+            if (i + 1 < trimmed.length()) {
+                String two = trimmed.substring(i, i + 2);
+                if ("&&".equals(two) || "||".equals(two)) {
+                    flushAtom(tokens, atom);
+                    tokens.add(two);
+                    i += 2;
+                    continue;
+                }
+            }
+            char c = trimmed.charAt(i);
+            if (c == '(' || c == ')') {
+                flushAtom(tokens, atom);
+                tokens.add(String.valueOf(c));
+                i++;
+                continue;
+            }
+            atom.append(c);
+            i++;
+        }
+        flushAtom(tokens, atom);
+
+        return new CompiledCondition(condition, parse(condition, tokens, Atom::new));
+    }
+
+    private static void flushAtom(List<String> tokens, StringBuilder atom) {
+        String a = atom.toString().trim();
+        if (!a.isEmpty()) tokens.add(a);
+        atom.setLength(0);
+    }
+
+    // ─── "conditional" action check syntax ──────────────────────────────
+    // Atoms are "placeholder:<value> <op> <expected>" or "permission:<node>", translated here into
+    // the show-condition atom form; any other word is an unknown condition and evaluates to false.
+
+    private static CompiledCondition compileCheck(String check) {
+        String s = check.trim();
+        List<String> tokens = new ArrayList<>();
+        int i = 0;
+        while (i < s.length()) {
+            char c = s.charAt(i);
+            if (Character.isWhitespace(c)) { i++; continue; }
+            if (c == '(' || c == ')') { tokens.add(String.valueOf(c)); i++; continue; }
+            if (i + 1 < s.length()) {
+                String two = s.substring(i, i + 2);
+                if ("||".equals(two) || "&&".equals(two)) { tokens.add(two); i += 2; continue; }
+            }
+            boolean spansOperators = s.startsWith("placeholder:", i) || s.startsWith("permission:", i);
+            int j = i;
+            while (j < s.length()) {
+                char cj = s.charAt(j);
+                if (cj == ')' || (!spansOperators && (cj == '(' || Character.isWhitespace(cj)))) break;
+                if (j + 1 < s.length()) {
+                    String two = s.substring(j, j + 2);
+                    if ("||".equals(two) || "&&".equals(two)) break;
+                }
+                j++;
+            }
+            tokens.add(s.substring(i, j).trim());
+            i = j;
+        }
+
+        return new CompiledCondition(check, parse(check, tokens, CompiledCondition::checkAtom));
+    }
+
+    private static Node checkAtom(String token) {
+        if (token.startsWith("permission:")) {
+            return new Atom("permission:" + token.substring("permission:".length()).trim(), true);
+        }
+        if (token.startsWith("placeholder:")) {
+            String conditionPart = token.substring("placeholder:".length());
+            for (String op : CHECK_OPERATORS) {
+                if (conditionPart.contains(" " + op + " ")) {
+                    String[] parts = conditionPart.split(" " + Pattern.quote(op) + " ", 2);
+                    if (parts.length == 2) {
+                        return new Atom("placeholder:" + parts[0].trim() + ":" + op + ":" + parts[1].trim(), true);
+                    }
+                    break;
+                }
+            }
+            logger.warn("Invalid placeholder condition format: " + token);
+            return FALSE;
+        }
+        logger.warn("Unknown condition type in: " + token);
+        return FALSE;
+    }
+
+    // ─── Shared grammar: || binds looser than &&; parentheses group ──────
+
+    private static Node parse(String source, List<String> tokens, java.util.function.Function<String, Node> atoms) {
+        Parser parser = new Parser(tokens, atoms);
+        try {
+            Node node = parser.parseOr();
+            if (parser.position < tokens.size()) {
+                throw new IllegalArgumentException("unexpected '" + tokens.get(parser.position) + "'");
+            }
+            return node;
+        } catch (RuntimeException e) {
+            logger.error("Invalid condition expression '" + source + "': " + e.getMessage());
+            return FALSE;
+        }
+    }
+
+    private static final class Parser {
+        private final List<String> tokens;
+        private final java.util.function.Function<String, Node> atoms;
+        private int position;
+
+        Parser(List<String> tokens, java.util.function.Function<String, Node> atoms) {
+            this.tokens = tokens;
+            this.atoms = atoms;
+        }
+
+        Node parseOr() {
+            Node left = parseAnd();
+            while ("||".equals(peek())) {
+                position++;
+                Node l = left;
+                Node r = parseAnd();
+                left = (player, context, messageData, memo) ->
+                        l.evaluate(player, context, messageData, memo) || r.evaluate(player, context, messageData, memo);
+            }
+            return left;
+        }
+
+        Node parseAnd() {
+            Node left = parsePrimary();
+            while ("&&".equals(peek())) {
+                position++;
+                Node l = left;
+                Node r = parsePrimary();
+                left = (player, context, messageData, memo) ->
+                        l.evaluate(player, context, messageData, memo) && r.evaluate(player, context, messageData, memo);
+            }
+            return left;
+        }
+
+        Node parsePrimary() {
+            String token = peek();
+            if (token == null || "||".equals(token) || "&&".equals(token) || ")".equals(token)) {
+                throw new IllegalArgumentException("missing condition" + (token != null ? " before '" + token + "'" : " at end"));
+            }
+            position++;
+            if ("(".equals(token)) {
+                Node inner = parseOr();
+                if (")".equals(peek())) {
+                    position++;
+                }
+                return inner;
+            }
+            return atoms.apply(token);
+        }
+
+        private String peek() {
+            return position < tokens.size() ? tokens.get(position) : null;
+        }
+    }
+
+    private interface Node {
+        boolean evaluate(FormPlayer player, ActionSystem.ActionContext context, MessageData messageData, Map<String, Boolean> memo);
+    }
+
+    private static final class Atom implements Node {
+        private final String source;
+        private final String[] staticParts;
+        private final boolean resolveWithContext;
+
+        Atom(String source) {
+            this(source, false);
+        }
+
+        /**
+         * @param resolveWithContext resolve the action context's placeholders and form results before
+         *                           evaluating, as the "conditional" action did with its whole data
+         */
+        Atom(String source, boolean resolveWithContext) {
+            this.source = source;
+            this.staticParts = isDynamic(source) ? null : source.split(":");
+            this.resolveWithContext = resolveWithContext && staticParts == null;
+        }
+
+        private static boolean isDynamic(String text) {
+            return text.indexOf('$') >= 0 || text.indexOf('%') >= 0 || text.indexOf('{') >= 0;
+        }
+
+        @Override
+        public boolean evaluate(FormPlayer player, ActionSystem.ActionContext context, MessageData messageData, Map<String, Boolean> memo) {
+            if (memo != null) {
+                Boolean cached = memo.get(source);
+                if (cached != null) {
+                    return cached;
+                }
+            }
+            boolean result;
+            if (resolveWithContext) {
+                String resolved = PlaceholderUtil.processPlaceholdersWithContext(source, context, player);
+                result = ConditionEvaluator.evaluateAtom(player, resolved, isDynamic(resolved) ? null : resolved.split(":"),
+                        context, messageData);
+            } else {
+                result = ConditionEvaluator.evaluateAtom(player, source, staticParts, context, messageData);
+            }
+            if (memo != null) {
+                memo.put(source, result);
+            }
+            return result;
+        }
+    }
+}
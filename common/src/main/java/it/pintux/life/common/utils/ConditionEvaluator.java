@@ -7,12 +7,9 @@ import it.pintux.life.common.utils.FormPlayer;
 import it.pintux.life.common.utils.Logger;
 import it.pintux.life.common.utils.MessageData;
 
-import java.util.ArrayDeque;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Deque;
-import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
 
 
 public class ConditionEvaluator {
@@ -21,6 +18,11 @@ public class ConditionEvaluator {
 
     private static final Logger logger = Logger.getLogger(ConditionEvaluator.class.getSimpleName());
 
+    private static final String RENDER_MEMO_KEY = "conditionMemo";
+
+    private static final int MAX_PATTERNS = 512;
+    private static final Map<String, Pattern> PATTERNS = new ConcurrentHashMap<>();
+
 
     public static void setPluginManager(PlatformPluginManager manager) {
         pluginManager = manager;
@@ -31,24 +33,53 @@ public class ConditionEvaluator {
         if (condition == null || condition.trim().isEmpty()) {
             return true;
         }
+        // Compound conditions (&&, ||, parentheses) are split on the RAW string, before
+        // placeholder resolution, so operators produced by placeholder values are never logic.
+        return CompiledCondition.of(condition).evaluate(player, context, messageData);
+    }
 
-        String trimmed = condition.trim();
-        // Compound condition: combine atoms with logical operators (&&, ||) and
-        // parentheses, same as the "conditional" action's check: expression.
-        // Splitting is done on the RAW string (before placeholder resolution) so
-        // operators produced by placeholder values are never treated as logic.
-        if (trimmed.contains("&&") || trimmed.contains("||")) {
-            return evaluateExpression(player, trimmed, context, messageData);
-        }
+    /**
+     * Evaluates an already compiled condition; a null condition is always met.
+     */
+    public static boolean evaluateCondition(FormPlayer player, CompiledCondition condition, ActionSystem.ActionContext context, MessageData messageData) {
+        return condition == null || condition.evaluate(player, context, messageData);
+    }
 
-        return evaluateSingle(player, trimmed, context, messageData);
+    /**
+     * Returns a copy of a render context whose condition atoms are evaluated at most once, so the
+     * same {@code permission:vip} shared by many buttons is checked a single time per render.
+     * Only use it for contexts that live for one render; click handling needs fresh results.
+     */
+    public static ActionSystem.ActionContext withRenderMemo(ActionSystem.ActionContext context) {
+        return context.child()
+                .metadata(RENDER_MEMO_KEY, new RenderMemo(context.getPlaceholders()))
+                .build();
     }
 
-    private static boolean evaluateSingle(FormPlayer player, String condition, ActionSystem.ActionContext context, MessageData messageData) {
-        try {
+    static Map<String, Boolean> memoFor(ActionSystem.ActionContext context) {
+        if (context == null) {
+            return null;
+        }
+        Object memo = context.getMetadata(RENDER_MEMO_KEY);
+        if (!(memo instanceof RenderMemo)) {
+            return null;
+        }
+        RenderMemo renderMemo = (RenderMemo) memo;
+        // A child context with its own placeholders may resolve atoms differently.
+        return renderMemo.placeholders == context.getPlaceholders() ? renderMemo.results : null;
+    }
 
-            String processedCondition = PlaceholderUtil.processPlaceholders(condition.trim(), context.getPlaceholders(), player, messageData);
-            String[] parts = processedCondition.split(":");
+    /**
+     * Evaluates one atom such as {@code permission:x}, {@code placeholder:val:op:expected},
+     * {@code plugin:x} or {@code not:<type>:<value>}.
+     *
+     * @param parts the atom split on ':' when it holds no placeholders, otherwise null
+     */
+    static boolean evaluateAtom(FormPlayer player, String condition, String[] parts, ActionSystem.ActionContext context, MessageData messageData) {
+        try {
+            if (parts == null) {
+                parts = PlaceholderUtil.processPlaceholders(condition, context.getPlaceholders(), player, messageData).split(":");
+            }
 
             if (parts.length < 2) {
                 logger.warn("Invalid condition format: " + condition);
@@ -114,85 +145,6 @@ public class ConditionEvaluator {
     }
 
 
-    // ─── Logical expression support (&&, ||, parentheses) ───────────────
-    // Atoms use the standard single-condition syntax (permission:x,
-    // placeholder:val:op:expected, plugin:x, not:<type>:<value>, ...).
-    // Shunting-yard: || has lower precedence than &&; parentheses group.
-    private static boolean evaluateExpression(FormPlayer player, String expr, ActionSystem.ActionContext context, MessageData messageData) {
-        try {
-            List<String> tokens = tokenize(expr);
-            Deque<String> output = new ArrayDeque<>();
-            Deque<String> ops = new ArrayDeque<>();
-            Map<String, Integer> prec = Map.of("||", 1, "&&", 2);
-            for (String t : tokens) {
-                if ("(".equals(t)) {
-                    ops.push(t);
-                } else if (")".equals(t)) {
-                    while (!ops.isEmpty() && !"(".equals(ops.peek())) output.push(ops.pop());
-                    if (!ops.isEmpty() && "(".equals(ops.peek())) ops.pop();
-                } else if ("||".equals(t) || "&&".equals(t)) {
-                    while (!ops.isEmpty() && prec.getOrDefault(ops.peek(), 0) >= prec.getOrDefault(t, 0)) output.push(ops.pop());
-                    ops.push(t);
-                } else {
-                    output.push(t);
-                }
-            }
-            while (!ops.isEmpty()) output.push(ops.pop());
-
-            Deque<Boolean> stack = new ArrayDeque<>();
-            List<String> rpn = new ArrayList<>(output);
-            Collections.reverse(rpn);
-            for (String t : rpn) {
-                if ("||".equals(t)) {
-                    stack.push(stack.pop() | stack.pop());
-                } else if ("&&".equals(t)) {
-                    stack.push(stack.pop() & stack.pop());
-                } else {
-                    stack.push(evaluateSingle(player, t.trim(), context, messageData));
-                }
-            }
-            return !stack.isEmpty() && stack.pop();
-        } catch (Exception e) {
-            logger.error("Error evaluating condition expression '" + expr + "' for player " + player.getName() + ": " + e.getMessage());
-            return false;
-        }
-    }
-
-    private static List<String> tokenize(String s) {
-        List<String> tokens = new ArrayList<>();
-        StringBuilder atom = new StringBuilder();
-        int i = 0;
-        while (i < s.length()) {
-            if (i + 1 < s.length()) {
-                String two = s.substring(i, i + 2);
-                if ("&&".equals(two) || "||".equals(two)) {
-                    flushAtom(tokens, atom);
-                    tokens.add(two);
-                    i += 2;
-                    continue;
-                }
-            }
-            char c = s.charAt(i);
-            if (c == '(' || c == ')') {
-                flushAtom(tokens, atom);
-                tokens.add(String.valueOf(c));
-                i++;
-                continue;
-            }
-            atom.append(c);
-            i++;
-        }
-        flushAtom(tokens, atom);
-        return tokens;
-    }
-
-    private static void flushAtom(List<String> tokens, StringBuilder atom) {
-        String a = atom.toString().trim();
-        if (!a.isEmpty()) tokens.add(a);
-        atom.setLength(0);
-    }
-
-
     private static boolean evaluatePermissionCondition(FormPlayer player, String permission) {
         return player.hasPermission(permission);
     }
@@ -247,7 +199,7 @@ public class ConditionEvaluator {
                 case ">=", "greater_equal" -> compareNumeric(processedPlaceholderValue, processedExpectedValue) >= 0;
                 case "<", "less_than" -> compareNumeric(processedPlaceholderValue, processedExpectedValue) < 0;
                 case "<=", "less_equal" -> compareNumeric(processedPlaceholderValue, processedExpectedValue) <= 0;
-                case "regex" -> processedPlaceholderValue.matches(processedExpectedValue);
+                case "regex" -> compiledPattern(processedExpectedValue).matcher(processedPlaceholderValue).matches();
                 case "empty" -> processedPlaceholderValue == null || processedPlaceholderValue.trim().isEmpty();
                 case "not_empty" -> processedPlaceholderValue != null && !processedPlaceholderValue.trim().isEmpty();
                 default -> {
@@ -261,10 +213,29 @@ public class ConditionEvaluator {
         }
     }
 
+    private static Pattern compiledPattern(String regex) {
+        Pattern pattern = PATTERNS.get(regex);
+        if (pattern == null) {
+            pattern = Pattern.compile(regex);
+            if (PATTERNS.size() < MAX_PATTERNS) {
+                PATTERNS.put(regex, pattern);
+            }
+        }
+        return pattern;
+    }
+
     private static int compareNumeric(String value1, String value2) throws NumberFormatException {
         double num1 = Double.parseDouble(value1);
         double num2 = Double.parseDouble(value2);
         return Double.compare(num1, num2);
     }
-}
 
+    private static final class RenderMemo {
+        private final Map<String, String> placeholders;
+        private final Map<String, Boolean> results = new ConcurrentHashMap<>();
+
+        RenderMemo(Map<String, String> placeholders) {
+            this.placeholders = placeholders;
+        }
+    }
+}
@@ -8,6 +8,7 @@ import it.pintux.life.common.utils.ValidationUtils;
 import it.pintux.life.common.actions.ActionRegistry;
 import it.pintux.life.common.actions.ActionSystem.ActionDefinition;
 import it.pintux.life.common.actions.ActionParser;
+import it.pintux.life.common.actions.handlers.SoundActionHandler;
 
 import java.util.*;
 import java.util.regex.Pattern;
@@ -205,6 +206,7 @@ public class ConfigValidator {
 
 
                 validateActionTypeSpecific(menuName, buttonIndex, actionType, actionValue);
+                validateSounds(menuName, buttonIndex, actionType, actionValueStr);
             }
         }
 
@@ -349,6 +351,21 @@ public class ConfigValidator {
     }
 
 
+    private void validateSounds(String menuName, int buttonIndex, String actionType, String actionValue) {
+        if (!"sound".equalsIgnoreCase(actionType)) {
+            return;
+        }
+        ActionSystem.ActionHandler handler = actionRegistry.getHandler("sound");
+        if (!(handler instanceof SoundActionHandler)) {
+            return;
+        }
+        for (String sound : ((SoundActionHandler) handler).findUnknownSounds(actionValue)) {
+            Map<String, Object> replacements = Map.of("sound", sound, "menu", menuName, "index", buttonIndex);
+            validationWarnings.add(messageData.getValue(MessageData.VALIDATION_UNKNOWN_SOUND, replacements, null));
+        }
+    }
+
+
     private void validateFormTypeSpecific(String menuName, FormMenu formMenu) {
         String formType = formMenu.getFormType();
         if (formType == null) return;
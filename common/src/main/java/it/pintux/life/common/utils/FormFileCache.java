@@ -0,0 +1,49 @@
+package it.pintux.life.common.utils;
+
+import java.io.File;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Parsed form files, kept per file and parsed again only when the file's modification time or size
+ * changes.
+ *
+ * <p>Shared by every platform config, which reloads rebuild, so a reload reads only the files that
+ * were edited. The cached configs are handed to every caller and must be treated as read-only.
+ */
+public final class FormFileCache {
+
+    private static final Map<String, Entry> FILES = new ConcurrentHashMap<>();
+
+    private record Entry(long lastModified, long length, FormConfig config) {
+    }
+
+    private FormFileCache() {
+    }
+
+    /**
+     * @param parser reads the file; called only when the file is new, changed or missing
+     */
+    public static FormConfig load(File file, Function<File, FormConfig> parser) {
+        String key = file.getAbsolutePath();
+        long lastModified = file.lastModified();
+        long length = file.length();
+        if (lastModified == 0L) {
+            // Missing or unreadable: let the platform report it the way it always has.
+            FILES.remove(key);
+            return parser.apply(file);
+        }
+        Entry entry = FILES.get(key);
+        if (entry != null && entry.lastModified() == lastModified && entry.length() == length) {
+            return entry.config();
+        }
+        FormConfig parsed = parser.apply(file);
+        FILES.put(key, new Entry(lastModified, length, parsed));
+        return parsed;
+    }
+
+    public static void clear() {
+        FILES.clear();
+    }
+}
@@ -19,19 +19,11 @@ public class FormSender {
     }
 
     public boolean isBedrockPlayer(java.util.UUID playerUuid) {
-        try {
-            return FloodgateApi.getInstance().isFloodgatePlayer(playerUuid);
-        } catch (Exception e) {
-            return false;
-        }
+        return BedrockPlayerRegistry.isBedrockPlayer(playerUuid);
     }
 
     public boolean isFormSystemAvailable() {
-        try {
-            return FloodgateApi.getInstance() != null;
-        } catch (Exception e) {
-            return false;
-        }
+        return BedrockPlayerRegistry.isFloodgateAvailable();
     }
 }
 
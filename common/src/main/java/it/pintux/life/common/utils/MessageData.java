@@ -1,6 +1,7 @@
 package it.pintux.life.common.utils;
 
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class MessageData {
 
@@ -43,6 +44,7 @@ public class MessageData {
 
     public static String COMMAND_NO_PERMISSION = "command.no_permission";
     public static String COMMAND_RELOAD_SUCCESS = "command.reload_success";
+    public static String COMMAND_RELOAD_FAILED = "command.reload_failed";
     public static String COMMAND_PLAYER_ONLY = "command.player_only";
     public static String COMMAND_USAGE_RELOAD = "command.usage.reload";
     public static String COMMAND_USAGE_OPEN = "command.usage.open";
@@ -58,12 +60,18 @@ public class MessageData {
     public static String VALIDATION_BUTTON_NO_TEXT = "validation.button_no_text";
     public static String VALIDATION_BUTTON_INVALID_IMAGE = "validation.button_invalid_image";
     public static String VALIDATION_UNKNOWN_ACTION_TYPE = "validation.unknown_action_type";
+    public static String VALIDATION_UNKNOWN_SOUND = "validation.unknown_sound";
     public static String VALIDATION_LEGACY_FORMAT_DETECTED = "validation.legacy_format_detected";
 
+    private static final int MAX_TEMPLATES = 1024;
+
     private final MessageConfig config;
+    // Colored templates by key; messages.yml is re-read by building a new MessageData
+    private final Map<String, String> coloredTemplates = new ConcurrentHashMap<>();
 
     public MessageData(MessageConfig config) {
         this.config = config;
+        getValueFrom("prefix");
     }
 
     public String getValueNoPrefix(String key, Map<String, Object> replacements, FormPlayer player) {
@@ -79,7 +87,14 @@ public class MessageData {
     }
 
     private String getValueFrom(String key) {
-        return applyColor(getValueFromConfig(key));
+        String colored = coloredTemplates.get(key);
+        if (colored == null) {
+            colored = applyColor(getValueFromConfig(key));
+            if (coloredTemplates.size() < MAX_TEMPLATES) {
+                coloredTemplates.put(key, colored);
+            }
+        }
+        return colored;
     }
 
     private String getValueFromConfig(String path) {
@@ -90,16 +105,8 @@ public class MessageData {
     }
 
     public String replaceVariables(String value, Map<String, Object> replacements, FormPlayer player) {
-        if (replacements != null) {
-            for (Map.Entry<String, Object> entry : replacements.entrySet()) {
-
-                String dollarPlaceholder = "$" + entry.getKey();
-                String curlyPlaceholder = "{" + entry.getKey() + "}";
-                String replacementValue = String.valueOf(entry.getValue());
-
-                value = value.replace(dollarPlaceholder, replacementValue);
-                value = value.replace(curlyPlaceholder, replacementValue);
-            }
+        if (replacements != null && !replacements.isEmpty() && value != null) {
+            value = PlaceholderTemplate.of(value).render(PlaceholderTemplate.objectResolver(replacements, "null"));
         }
 
         value = config.setPlaceholders(player, value);
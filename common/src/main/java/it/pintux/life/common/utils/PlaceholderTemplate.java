@@ -0,0 +1,245 @@
+package it.pintux.life.common.utils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * A text split once into literal and placeholder segments, rendered in a single pass.
+ *
+ * <p>Recognizes {@code $key} and {@code {key}} tokens. A {@code $} token whose full name is not
+ * known falls back to its longest known prefix, so {@code $1st} still renders argument 1 followed
+ * by "st", as the old chained {@code String.replace} passes did. Unknown tokens are kept verbatim.
+ *
+ * <p>Menu and action texts are compiled when forms load and kept until the next reload. Any other text
+ * goes through a bounded least-recently-used cache, so one-off strings (already substituted, per
+ * player) evict each other instead of crowding out the texts rendered on every open.
+ */
+public final class PlaceholderTemplate {
+
+    private static final int MAX_CACHED = 4096;
+    private static final int MAX_BUFFER = 8192;
+
+    private static final Map<String, PlaceholderTemplate> PRECOMPILED = new ConcurrentHashMap<>();
+    private static final Map<String, PlaceholderTemplate> RECENT = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, PlaceholderTemplate> eldest) {
+            return size() > MAX_CACHED;
+        }
+    };
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(256));
+
+    private static final byte LITERAL = 0;
+    private static final byte DOLLAR = 1;
+    private static final byte BRACE = 2;
+
+    private final String source;
+    private final byte[] kinds;
+    private final String[] values;
+
+    private PlaceholderTemplate(String source, byte[] kinds, String[] values) {
+        this.source = source;
+        this.kinds = kinds;
+        this.values = values;
+    }
+
+    /**
+     * @return the cached template for this text, compiling it on first use
+     */
+    public static PlaceholderTemplate of(String text) {
+        PlaceholderTemplate template = PRECOMPILED.get(text);
+        if (template != null) {
+            return template;
+        }
+        synchronized (RECENT) {
+            template = RECENT.get(text);
+        }
+        if (template == null) {
+            template = compile(text);
+            synchronized (RECENT) {
+                RECENT.put(text, template);
+            }
+        }
+        return template;
+    }
+
+    /**
+     * Compiles a menu or action text ahead of its first render and keeps it until {@link #clearCache()};
+     * null is ignored.
+     */
+    public static void precompile(String text) {
+        if (text != null && !PRECOMPILED.containsKey(text)) {
+            PRECOMPILED.put(text, of(text));
+        }
+    }
+
+    public static void clearCache() {
+        PRECOMPILED.clear();
+        synchronized (RECENT) {
+            RECENT.clear();
+        }
+    }
+
+    private static PlaceholderTemplate compile(String text) {
+        List<Byte> kinds = new ArrayList<>();
+        List<String> values = new ArrayList<>();
+        int literalStart = 0;
+        int i = 0;
+        int length = text.length();
+
+        while (i < length) {
+            char c = text.charAt(i);
+            int end = -1;
+            byte kind = LITERAL;
+            if (c == '$') {
+                end = i + 1;
+                while (end < length && isNameChar(text.charAt(end))) {
+                    end++;
+                }
+                kind = DOLLAR;
+                if (end == i + 1) {
+                    end = -1;
+                }
+            } else if (c == '{') {
+                int close = i + 1;
+                while (close < length && isBraceNameChar(text.charAt(close))) {
+                    close++;
+                }
+                if (close > i + 1 && close < length && text.charAt(close) == '}') {
+                    end = close + 1;
+                    kind = BRACE;
+                }
+            }
+
+            if (end < 0) {
+                i++;
+                continue;
+            }
+            if (i > literalStart) {
+                kinds.add(LITERAL);
+                values.add(text.substring(literalStart, i));
+            }
+            kinds.add(kind);
+            values.add(kind == DOLLAR ? text.substring(i + 1, end) : text.substring(i + 1, end - 1));
+            i = end;
+            literalStart = end;
+        }
+        if (literalStart < length && !kinds.isEmpty()) {
+            kinds.add(LITERAL);
+            values.add(text.substring(literalStart));
+        }
+
+        byte[] kindArray = new byte[kinds.size()];
+        for (int k = 0; k < kindArray.length; k++) {
+            kindArray[k] = kinds.get(k);
+        }
+        return new PlaceholderTemplate(text, kindArray, values.toArray(new String[0]));
+    }
+
+    private static boolean isNameChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '-' || c == '.';
+    }
+
+    private static boolean isBraceNameChar(char c) {
+        return c != '{' && c != '}' && !Character.isWhitespace(c);
+    }
+
+    /** @return true when the text holds at least one {@code $key} or {@code {key}} token */
+    public boolean hasPlaceholders() {
+        return kinds.length > 0;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * Renders {@code $key} and {@code {key}} tokens from one resolver.
+     *
+     * @param resolver returns the value for a key, or null when the key is unknown
+     */
+    public String render(Function<String, String> resolver) {
+        return render(resolver, resolver);
+    }
+
+    /**
+     * Renders with separate resolvers for {@code $key} and {@code {key}} tokens; a null resolver leaves
+     * that token kind untouched.
+     */
+    public String render(Function<String, String> dollarResolver, Function<String, String> braceResolver) {
+        if (kinds.length == 0) {
+            return source;
+        }
+
+        StringBuilder sb = BUFFER.get();
+        if (sb == null) {
+            sb = new StringBuilder(source.length() + 32);
+        } else {
+            // Resolvers may render nested templates; they get their own buffer while this one is in use.
+            BUFFER.set(null);
+        }
+        try {
+            for (int k = 0; k < kinds.length; k++) {
+                String value = values[k];
+                switch (kinds[k]) {
+                    case DOLLAR -> appendDollar(sb, value, dollarResolver);
+                    case BRACE -> {
+                        String resolved = braceResolver != null ? braceResolver.apply(value) : null;
+                        if (resolved != null) {
+                            sb.append(resolved);
+                        } else {
+                            sb.append('{').append(value).append('}');
+                        }
+                    }
+                    default -> sb.append(value);
+                }
+            }
+            return sb.toString();
+        } finally {
+            if (sb.capacity() <= MAX_BUFFER) {
+                sb.setLength(0);
+                BUFFER.set(sb);
+            }
+        }
+    }
+
+    private static void appendDollar(StringBuilder sb, String name, Function<String, String> resolver) {
+        if (resolver != null) {
+            for (int len = name.length(); len > 0; len--) {
+                String resolved = resolver.apply(len == name.length() ? name : name.substring(0, len));
+                if (resolved != null) {
+                    sb.append(resolved).append(name, len, name.length());
+                    return;
+                }
+            }
+        }
+        sb.append('$').append(name);
+    }
+
+    /** @return a resolver over a string map where a present null value renders as "" */
+    public static Function<String, String> resolver(Map<String, String> values) {
+        return key -> {
+            String value = values.get(key);
+            return value != null || !values.containsKey(key) ? value : "";
+        };
+    }
+
+    /** @return a resolver over an object map, rendering values with {@code nullValue} for nulls */
+    public static Function<String, String> objectResolver(Map<String, ?> values, String nullValue) {
+        return key -> {
+            Object value = values.get(key);
+            if (value != null) {
+                return value.toString();
+            }
+            return values.containsKey(key) ? nullValue : null;
+        };
+    }
+
+    @Override
+    public String toString() {
+        return "PlaceholderTemplate{source='" + source + "', segments=" + kinds.length + "}";
+    }
+}
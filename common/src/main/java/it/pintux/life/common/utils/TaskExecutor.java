@@ -0,0 +1,201 @@
+package it.pintux.life.common.utils;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The one executor for asynchronous action work.
+ *
+ * <p>Runs tasks on virtual threads, capped at {@code max-tasks} in flight, or on a fixed pool of
+ * platform threads with a bounded queue. Tasks beyond the limit are rejected and counted instead of
+ * piling up. Delays never hold a thread: {@link #runLater} waits on a timer and only then hands the
+ * task over.
+ */
+public final class TaskExecutor implements Executor {
+
+    private static final Logger logger = Logger.getLogger(TaskExecutor.class.getSimpleName());
+
+    private static final int DEFAULT_MAX_TASKS = 256;
+    private static final int DEFAULT_POOL_SIZE = 4;
+
+    private final ExecutorService delegate;
+    private final Semaphore permits;
+    private final int capacity;
+    private final boolean virtualThreads;
+
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    private TaskExecutor(ExecutorService delegate, Semaphore permits, int capacity, boolean virtualThreads) {
+        this.delegate = delegate;
+        this.permits = permits;
+        this.capacity = capacity;
+        this.virtualThreads = virtualThreads;
+    }
+
+    /**
+     * Virtual-thread executor allowing at most {@code maxTasks} submitted tasks at once.
+     */
+    public static TaskExecutor virtual(int maxTasks) {
+        int limit = Math.max(1, maxTasks);
+        ThreadFactory factory = Thread.ofVirtual().name("BedrockGUI-task-", 0).factory();
+        return new TaskExecutor(Executors.newThreadPerTaskExecutor(factory), new Semaphore(limit), limit, true);
+    }
+
+    /**
+     * Fixed pool of daemon threads with a queue of {@code queueSize} waiting tasks.
+     */
+    public static TaskExecutor bounded(int poolSize, int queueSize) {
+        int threads = Math.max(1, poolSize);
+        int queue = Math.max(1, queueSize);
+        AtomicInteger counter = new AtomicInteger();
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queue), r -> {
+            Thread thread = new Thread(r, "BedrockGUI-task-" + counter.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.AbortPolicy());
+        pool.allowCoreThreadTimeOut(true);
+        return new TaskExecutor(pool, null, threads + queue, false);
+    }
+
+    /**
+     * Reads the {@code executor} section: {@code virtual-threads} (default true), {@code max-tasks}
+     * (default 256), and for platform threads {@code pool-size} (default 4).
+     *
+     * @param config the plugin config, or null for defaults
+     */
+    public static TaskExecutor fromConfig(FormConfig config) {
+        if (config == null) {
+            return virtual(DEFAULT_MAX_TASKS);
+        }
+        int maxTasks = parseInt(config.getString("executor.max-tasks", ""), DEFAULT_MAX_TASKS);
+        if (Boolean.parseBoolean(config.getString("executor.virtual-threads", "true").trim())) {
+            return virtual(maxTasks);
+        }
+        int poolSize = parseInt(config.getString("executor.pool-size", ""), DEFAULT_POOL_SIZE);
+        return bounded(poolSize, maxTasks);
+    }
+
+    private static int parseInt(String value, int defaultValue) {
+        if (value == null) return defaultValue;
+        try {
+            int parsed = Integer.parseInt(value.trim());
+            return parsed > 0 ? parsed : defaultValue;
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    /**
+     * @throws RejectedExecutionException when the executor is full or shut down
+     */
+    @Override
+    public void execute(Runnable task) {
+        if (permits != null && !permits.tryAcquire()) {
+            reject();
+        }
+        queued.incrementAndGet();
+        try {
+            delegate.execute(() -> {
+                queued.decrementAndGet();
+                active.incrementAndGet();
+                try {
+                    task.run();
+                } finally {
+                    active.decrementAndGet();
+                    completed.incrementAndGet();
+                    if (permits != null) {
+                        permits.release();
+                    }
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            queued.decrementAndGet();
+            if (permits != null) {
+                permits.release();
+            }
+            reject();
+        }
+    }
+
+    private void reject() {
+        long count = rejected.incrementAndGet();
+        if (count == 1 || count % 100 == 0) {
+            logger.warn("Task executor is full (" + capacity + " tasks); rejected " + count + " task(s) so far");
+        }
+        throw new RejectedExecutionException("BedrockGUI task executor is full");
+    }
+
+    /**
+     * Runs the task after the delay without holding a thread while waiting.
+     */
+    public CompletableFuture<Void> runLater(long delayMillis, Runnable task) {
+        Executor delayed = CompletableFuture.delayedExecutor(Math.max(0L, delayMillis), TimeUnit.MILLISECONDS, this);
+        return CompletableFuture.runAsync(task, delayed);
+    }
+
+    /** @return tasks accepted but not yet started */
+    public int getQueueDepth() {
+        return queued.get();
+    }
+
+    /** @return tasks currently running */
+    public int getActiveTasks() {
+        return active.get();
+    }
+
+    public long getCompletedTasks() {
+        return completed.get();
+    }
+
+    public long getRejectedTasks() {
+        return rejected.get();
+    }
+
+    /** @return the most tasks accepted at once, running and queued */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    public boolean isShutdown() {
+        return delegate.isShutdown();
+    }
+
+    public void shutdown() {
+        if (delegate.isShutdown()) {
+            return;
+        }
+        delegate.shutdown();
+        try {
+            if (!delegate.awaitTermination(5, TimeUnit.SECONDS)) {
+                delegate.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            delegate.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "TaskExecutor{virtual=" + virtualThreads + ", queued=" + queued.get() + ", active=" + active.get()
+                + ", completed=" + completed.get() + ", rejected=" + rejected.get() + ", capacity=" + capacity + "}";
+    }
+}
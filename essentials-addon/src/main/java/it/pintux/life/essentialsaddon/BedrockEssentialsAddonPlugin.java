@@ -1,6 +1,7 @@
 package it.pintux.life.essentialsaddon;
 
 import it.pintux.life.common.api.BedrockGUIApi;
+import it.pintux.life.common.api.CommandDispatcher;
 import it.pintux.life.essentialsaddon.action.*;
 import it.pintux.life.essentialsaddon.api.*;
 import it.pintux.life.essentialsaddon.backend.*;
@@ -19,8 +20,10 @@ import org.bukkit.plugin.java.JavaPlugin;
 
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Supplier;
 
 public final class BedrockEssentialsAddonPlugin extends JavaPlugin {
@@ -55,6 +58,7 @@ public final class BedrockEssentialsAddonPlugin extends JavaPlugin {
     private void resetModuleState() {
         // Delayed tasks (death menu, TPA popup) captured the services being torn down here.
         Bukkit.getScheduler().cancelTasks(this);
+        CommandDispatcher.shared().unregisterAll(this);
         bedrockDeathService = null;
         warpCatalogService = null;
         kitCatalogService = null;
@@ -97,9 +101,9 @@ public final class BedrockEssentialsAddonPlugin extends JavaPlugin {
     }
 
     /**
-     * Builds (or rebuilds) all enabled modules: services, command listeners, action
+     * Builds (or rebuilds) all enabled modules: services, command handlers, action
      * handlers and initial data refreshes. Called from {@link #onEnable()} and from
-     * {@link #reloadConfiguration()} (after old listeners are unregistered), so enabling
+     * {@link #reloadConfiguration()} (after old listeners and command handlers are unregistered), so enabling
      * a module in config.yml and running /essentialsaddon reload activates it without a restart.
      */
     private void setupModules() {
@@ -146,14 +150,17 @@ public final class BedrockEssentialsAddonPlugin extends JavaPlugin {
             initDeathMenu(pluginManager);
         }
 
-        // Registered last: the listener needs every module's service, and homes/TPA are built
+        // Registered last: the handler needs every module's service, and homes/TPA are built
         // after warps/kits.
-        registerCommandListener(pluginManager);
+        registerCommandHandler();
         registerTpaRequestPopup();
 
         if (backendRouter != null) {
             registerShopListeners(pluginManager);
         }
+        if (shopCatalogService != null || economyShopCatalogService != null) {
+            pluginManager.registerEvents(new ShopAccessListener(shopCatalogService, economyShopCatalogService), this);
+        }
 
         BedrockGUIApi api = getApiSafely();
         if (api != null && (configuration.integratedGuiEnabled() || configuration.registerActionsEnabled())) {
@@ -211,28 +218,29 @@ public final class BedrockEssentialsAddonPlugin extends JavaPlugin {
     }
 
     /**
-     * Wires one command listener with whatever services exist and registers it. Splitting this
+     * Wires one command handler with whatever services exist and registers it. Splitting this
      * out of {@link #initWarpsAndKits} is what makes /home and /tpa interception work: those
-     * services are built after the warps/kits module, so the listener used to be handed nulls.
+     * services are built after the warps/kits module, so the handler used to be handed nulls.
      */
-    private void registerCommandListener(PluginManager pluginManager) {
+    private void registerCommandHandler() {
         if (!configuration.integratedGuiEnabled()) {
             return;
         }
 
-        EssentialsCommandListener commandListener = new EssentialsCommandListener(detector, configuration);
+        EssentialsCommandHandler commandHandler = new EssentialsCommandHandler(configuration);
         if ((configuration.moduleWarps() || configuration.moduleKits()) && bedrockEssentialsService != null) {
-            commandListener.setService(bedrockEssentialsService);
+            commandHandler.setService(bedrockEssentialsService);
         }
         if (configuration.moduleHomes() && bedrockHomeService != null) {
-            commandListener.setHomeService(bedrockHomeService);
+            commandHandler.setHomeService(bedrockHomeService);
         }
         if (configuration.moduleTpa() && bedrockTpaService != null) {
-            commandListener.setTpaService(bedrockTpaService);
+            commandHandler.setTpaService(bedrockTpaService);
         }
 
-        if (commandListener.hasAnyService()) {
-            pluginManager.registerEvents(commandListener, this);
+        if (commandHandler.hasAnyService()) {
+            CommandDispatcher.shared().register(this, CommandDispatcher.Priority.NORMAL,
+                    commandHandler.roots(), commandHandler::handle);
         }
     }
 
@@ -306,7 +314,10 @@ public final class BedrockEssentialsAddonPlugin extends JavaPlugin {
         // Shop-open interception is part of the integrated GUI; lifecycle hooks
         // (which bootstrap the shop catalog for actions) are registered elsewhere.
         if (backendRouter != null && configuration.integratedGuiEnabled()) {
-            pluginManager.registerEvents(new ShopGuiCommandListener(backendRouter), this);
+            Set<String> shopRoots = new LinkedHashSet<>(configuration.commandShop().roots());
+            shopRoots.addAll(configuration.commandSellAll().roots());
+            CommandDispatcher.shared().register(this, CommandDispatcher.Priority.HIGHEST,
+                    shopRoots, backendRouter::onCommand);
             pluginManager.registerEvents(new ShopGuiInventoryListener(backendRouter), this);
         }
     }
@@ -345,7 +356,9 @@ public final class BedrockEssentialsAddonPlugin extends JavaPlugin {
         getLogger().info("Pet provider: mypet");
 
         if (configuration.moduleMyPet() && configuration.integratedGuiEnabled()) {
-            pluginManager.registerEvents(new PetCommandListener(bedrockPetService, configuration), this);
+            PetCommandHandler petCommands = new PetCommandHandler(bedrockPetService, configuration);
+            CommandDispatcher.shared().register(this, CommandDispatcher.Priority.NORMAL,
+                    petCommands.roots(), petCommands::handle);
         }
     }
 
@@ -458,7 +471,7 @@ public final class BedrockEssentialsAddonPlugin extends JavaPlugin {
     }
 
     public void reloadConfiguration() {
-        // Tear down the existing module graph: drop every listener this plugin registered
+        // Tear down the existing module graph: drop every listener and command handler this plugin registered
         // (they hold references to the old service instances) and null the wiring fields.
         HandlerList.unregisterAll(this);
         resetModuleState();
@@ -1,7 +1,7 @@
 package it.pintux.life.essentialsaddon.backend;
 
+import it.pintux.life.common.api.CommandDispatcher;
 import org.bukkit.event.inventory.InventoryOpenEvent;
-import org.bukkit.event.player.PlayerCommandPreprocessEvent;
 
 /**
  * Minimal interface for routing Bedrock shop interactions.
@@ -19,9 +19,9 @@ public interface ShopBackend {
     void bootstrap();
 
     /**
-     * Return true if the backend consumed the command (and probably cancelled the event).
+     * Return true if the backend consumed the command; the dispatcher then cancels it.
      */
-    boolean handleCommand(PlayerCommandPreprocessEvent event);
+    boolean handleCommand(CommandDispatcher.Command command);
 
     /**
      * Return true if the backend consumed the inventory open (and cancelled the event).
@@ -1,7 +1,7 @@
 package it.pintux.life.essentialsaddon.backend;
 
+import it.pintux.life.common.api.CommandDispatcher;
 import org.bukkit.event.inventory.InventoryOpenEvent;
-import org.bukkit.event.player.PlayerCommandPreprocessEvent;
 
 import java.util.ArrayList;
 import java.util.Comparator;
@@ -30,12 +30,13 @@ public final class ShopBackendRouter {
         }
     }
 
-    public void onCommand(PlayerCommandPreprocessEvent event) {
+    public boolean onCommand(CommandDispatcher.Command command) {
         for (ShopBackend backend : backends) {
-            if (backend.handleCommand(event)) {
-                return;
+            if (backend.handleCommand(command)) {
+                return true;
             }
         }
+        return false;
     }
 
     public void onInventoryOpen(InventoryOpenEvent event) {
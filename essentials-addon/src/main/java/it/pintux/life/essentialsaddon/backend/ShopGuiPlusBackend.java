@@ -1,12 +1,11 @@
 package it.pintux.life.essentialsaddon.backend;
 
+import it.pintux.life.common.api.CommandDispatcher;
 import it.pintux.life.essentialsaddon.config.EssentialsAddonConfiguration;
 import it.pintux.life.essentialsaddon.service.BedrockShopGuiService;
-import it.pintux.life.essentialsaddon.util.CommandAliases;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.bukkit.event.inventory.InventoryOpenEvent;
-import org.bukkit.event.player.PlayerCommandPreprocessEvent;
 import org.bukkit.plugin.Plugin;
 
 import java.util.Locale;
@@ -39,26 +38,21 @@ public final class ShopGuiPlusBackend implements ShopBackend {
     }
 
     @Override
-    public boolean handleCommand(PlayerCommandPreprocessEvent event) {
-        Player player = event.getPlayer();
-        if (!service.shouldHandle(player)) {
+    public boolean handleCommand(CommandDispatcher.Command command) {
+        Player player = command.player(Player.class);
+        if (player == null || !service.shouldHandle(player)) {
             return false;
         }
 
-        String root = CommandAliases.rootOf(event.getMessage());
-        if (root == null) {
-            return false;
-        }
-        String[] args = CommandAliases.argsOf(event.getMessage());
+        String root = command.root();
+        String[] args = command.args();
 
         if (configuration.commandShop().matches(root)) {
             if (args.length == 0) {
-                event.setCancelled(true);
                 service.openMainMenu(player);
                 return true;
             }
             if (!ADMIN_SUBCOMMANDS.contains(args[0].toLowerCase(Locale.ROOT))) {
-                event.setCancelled(true);
                 service.openShop(player, args[0], 1);
                 return true;
             }
@@ -66,7 +60,6 @@ public final class ShopGuiPlusBackend implements ShopBackend {
         }
 
         if (configuration.commandSellAll().matches(root) && sellsEverything(args)) {
-            event.setCancelled(true);
             service.openMainMenu(player);
             return true;
         }
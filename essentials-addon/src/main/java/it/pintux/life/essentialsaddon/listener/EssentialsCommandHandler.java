@@ -1,30 +1,27 @@
 package it.pintux.life.essentialsaddon.listener;
 
-import it.pintux.life.essentialsaddon.api.BedrockPlayerDetector;
+import it.pintux.life.common.api.CommandDispatcher;
 import it.pintux.life.essentialsaddon.config.EssentialsAddonConfiguration;
 import it.pintux.life.essentialsaddon.service.BedrockEssentialsService;
 import it.pintux.life.essentialsaddon.service.BedrockHomeService;
 import it.pintux.life.essentialsaddon.service.BedrockTpaService;
-import it.pintux.life.essentialsaddon.util.CommandAliases;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.Listener;
-import org.bukkit.event.player.PlayerCommandPreprocessEvent;
+import org.bukkit.entity.Player;
 
-public final class EssentialsCommandListener implements Listener {
-    private final BedrockPlayerDetector bedrockPlayerDetector;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Opens the warp, kit, home and TPA forms for Bedrock players typing the matching commands.
+ * Registered with BedrockGUI's {@link CommandDispatcher} for exactly the roots of the services
+ * that exist, so it works on a server that enables only homes or only TPA.
+ */
+public final class EssentialsCommandHandler {
     private final EssentialsAddonConfiguration configuration;
     private BedrockEssentialsService service;
     private BedrockHomeService homeService;
     private BedrockTpaService tpaService;
 
-    /**
-     * The detector is taken directly rather than through {@link BedrockEssentialsService} so this
-     * listener still works on a server that enables only homes or only TPA — that service is
-     * built by the warps/kits module and is null otherwise.
-     */
-    public EssentialsCommandListener(BedrockPlayerDetector bedrockPlayerDetector,
-                                     EssentialsAddonConfiguration configuration) {
-        this.bedrockPlayerDetector = bedrockPlayerDetector;
+    public EssentialsCommandHandler(EssentialsAddonConfiguration configuration) {
         this.configuration = configuration;
     }
 
@@ -44,60 +41,75 @@ public final class EssentialsCommandListener implements Listener {
         return service != null || homeService != null || tpaService != null;
     }
 
-    @EventHandler
-    public void onCommand(PlayerCommandPreprocessEvent event) {
-        if (!bedrockPlayerDetector.isBedrockPlayer(event.getPlayer())) {
-            return;
+    /** The command roots this handler can answer with the services it was given. */
+    public Set<String> roots() {
+        Set<String> roots = new LinkedHashSet<>();
+        if (service != null) {
+            roots.addAll(configuration.commandWarps().roots());
+            roots.addAll(configuration.commandKits().roots());
+        }
+        if (homeService != null) {
+            roots.addAll(configuration.commandHomes().roots());
+            roots.addAll(configuration.commandPublicHomes().roots());
+            roots.addAll(configuration.commandSetHome().roots());
+            roots.addAll(configuration.commandDeleteHome().roots());
         }
+        if (tpaService != null) {
+            roots.addAll(configuration.commandTpa().roots());
+        }
+        return roots;
+    }
 
-        String message = event.getMessage();
-        String root = CommandAliases.rootOf(message);
-        if (root == null) {
-            return;
+    public boolean handle(CommandDispatcher.Command command) {
+        Player player = command.player(Player.class);
+        if (!command.bedrock() || player == null) {
+            return false;
         }
         // Arguments mean the player asked for something specific (/home base, /tpa Steve), so the
         // backing plugin handles it and no form is shown.
-        if (CommandAliases.argsOf(message).length > 0) {
-            return;
+        if (command.args().length > 0) {
+            return false;
         }
 
+        String root = command.root();
         if (configuration.commandWarps().matches(root)) {
             if (service != null) {
-                event.setCancelled(true);
-                service.openWarpMenu(event.getPlayer());
+                service.openWarpMenu(player);
+                return true;
             }
         } else if (configuration.commandKits().matches(root)) {
             if (service != null) {
-                event.setCancelled(true);
-                service.openKitMenu(event.getPlayer());
+                service.openKitMenu(player);
+                return true;
             }
         } else if (configuration.commandHomes().matches(root)) {
             if (homeService != null) {
-                event.setCancelled(true);
-                homeService.openHomeMenu(event.getPlayer(), 1);
+                homeService.openHomeMenu(player, 1);
+                return true;
             }
         } else if (configuration.commandPublicHomes().matches(root)) {
             // Only when the provider actually has public homes; otherwise the command belongs to
             // whatever plugin registered it.
             if (homeService != null && homeService.supportsPublicHomes()) {
-                event.setCancelled(true);
-                homeService.openPublicHomeMenu(event.getPlayer(), 1);
+                homeService.openPublicHomeMenu(player, 1);
+                return true;
             }
         } else if (configuration.commandSetHome().matches(root)) {
             if (homeService != null) {
-                event.setCancelled(true);
-                homeService.showSetHomeForm(event.getPlayer());
+                homeService.showSetHomeForm(player);
+                return true;
             }
         } else if (configuration.commandDeleteHome().matches(root)) {
             if (homeService != null) {
-                event.setCancelled(true);
-                homeService.showDeleteHomeForm(event.getPlayer());
+                homeService.showDeleteHomeForm(player);
+                return true;
             }
         } else if (configuration.commandTpa().matches(root)) {
             if (tpaService != null) {
-                event.setCancelled(true);
-                tpaService.openTpaMenu(event.getPlayer());
+                tpaService.openTpaMenu(player);
+                return true;
             }
         }
+        return false;
     }
 }
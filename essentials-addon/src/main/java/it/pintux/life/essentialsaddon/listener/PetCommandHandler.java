@@ -1,60 +1,64 @@
 package it.pintux.life.essentialsaddon.listener;
 
+import it.pintux.life.common.api.CommandDispatcher;
 import it.pintux.life.essentialsaddon.config.EssentialsAddonConfiguration;
 import it.pintux.life.essentialsaddon.service.BedrockPetService;
-import it.pintux.life.essentialsaddon.util.CommandAliases;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.Listener;
-import org.bukkit.event.player.PlayerCommandPreprocessEvent;
+import org.bukkit.entity.Player;
 
-public final class PetCommandListener implements Listener {
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+public final class PetCommandHandler {
 
     private final BedrockPetService service;
     private final EssentialsAddonConfiguration configuration;
 
-    public PetCommandListener(BedrockPetService service, EssentialsAddonConfiguration configuration) {
+    public PetCommandHandler(BedrockPetService service, EssentialsAddonConfiguration configuration) {
         this.service = service;
         this.configuration = configuration;
     }
 
-    @EventHandler
-    public void onCommand(PlayerCommandPreprocessEvent event) {
-        String message = event.getMessage();
-        if (message == null) {
-            return;
-        }
-        String root = CommandAliases.rootOf(message);
-        if (root == null) {
-            return;
+    public Set<String> roots() {
+        Set<String> roots = new LinkedHashSet<>(configuration.commandPets().roots());
+        roots.addAll(configuration.commandPetShop().roots());
+        roots.addAll(configuration.commandPetSkilltree().roots());
+        return roots;
+    }
+
+    public boolean handle(CommandDispatcher.Command command) {
+        Player player = command.player(Player.class);
+        if (player == null) {
+            return false;
         }
-        String[] args = CommandAliases.argsOf(message);
-        boolean bedrock = service.shouldHandle(event.getPlayer());
+        String root = command.root();
+        boolean bedrock = command.bedrock();
 
         // /pet (+ alias /pets) is handled here instead of via a registered command, so it keeps
         // working after a PlugMan-style reload (a registered PluginCommand would point at the old,
         // now-disabled plugin instance and throw "plugin is disabled"). Bedrock opens the form;
         // Java is forwarded to MyPet's own /petlist.
         if (configuration.commandPets().matches(root)) {
-            event.setCancelled(true);
             if (bedrock) {
-                service.openPetList(event.getPlayer());
+                service.openPetList(player);
             } else {
-                event.getPlayer().performCommand(joinArgs("petlist", args));
+                player.performCommand(joinArgs("petlist", command.args()));
             }
-            return;
+            return true;
         }
 
         if (!bedrock) {
-            return;
+            return false;
         }
         // MyPet's own commands, intercepted only for Bedrock players (Java passes through to MyPet).
         if (configuration.commandPetShop().matches(root)) {
-            event.setCancelled(true);
-            service.openPetShop(event.getPlayer());
-        } else if (configuration.commandPetSkilltree().matches(root)) {
-            event.setCancelled(true);
-            service.openSkilltreeForm(event.getPlayer());
+            service.openPetShop(player);
+            return true;
+        }
+        if (configuration.commandPetSkilltree().matches(root)) {
+            service.openSkilltreeForm(player);
+            return true;
         }
+        return false;
     }
 
     private String joinArgs(String base, String[] args) {
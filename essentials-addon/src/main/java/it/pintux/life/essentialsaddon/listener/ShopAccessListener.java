@@ -0,0 +1,39 @@
+package it.pintux.life.essentialsaddon.listener;
+
+import it.pintux.life.essentialsaddon.service.EconomyShopCatalogService;
+import it.pintux.life.essentialsaddon.service.ShopGuiCatalogService;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+import java.util.UUID;
+
+/**
+ * Drops a player's cached shop page access when they leave or change world (per-world permissions).
+ */
+public final class ShopAccessListener implements Listener {
+    private final ShopGuiCatalogService shopGuiCatalog;
+    private final EconomyShopCatalogService economyShopCatalog;
+
+    public ShopAccessListener(ShopGuiCatalogService shopGuiCatalog, EconomyShopCatalogService economyShopCatalog) {
+        this.shopGuiCatalog = shopGuiCatalog;
+        this.economyShopCatalog = economyShopCatalog;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        invalidate(event.getPlayer().getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onWorldChange(PlayerChangedWorldEvent event) {
+        invalidate(event.getPlayer().getUniqueId());
+    }
+
+    private void invalidate(UUID playerId) {
+        if (shopGuiCatalog != null) shopGuiCatalog.invalidateAccess(playerId);
+        if (economyShopCatalog != null) economyShopCatalog.invalidateAccess(playerId);
+    }
+}
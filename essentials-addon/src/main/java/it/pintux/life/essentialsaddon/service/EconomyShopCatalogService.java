@@ -23,12 +23,15 @@ import java.util.Map;
 import java.util.NavigableMap;
 import java.util.Optional;
 import java.util.TreeMap;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 public final class EconomyShopCatalogService {
     private final Logger logger;
     private volatile Map<String, EconomyShopCatalogEntry> catalog = Map.of();
+    private final ShopAccessIndex accessIndex = new ShopAccessIndex();
 
     public EconomyShopCatalogService(Logger logger) {
         this.logger = logger;
@@ -54,6 +57,7 @@ public final class EconomyShopCatalogService {
             return;
         }
         this.catalog = Map.copyOf(refreshed);
+        accessIndex.clear();
     }
 
     public boolean isReady() {
@@ -92,39 +96,36 @@ public final class EconomyShopCatalogService {
     }
 
     public List<Integer> getAccessiblePages(Player player, String sectionId) {
-        Optional<EconomyShopCatalogEntry> optionalEntry = getShop(sectionId);
-        if (optionalEntry.isEmpty()) {
-            return List.of();
-        }
-        List<Integer> pages = new ArrayList<>();
-        for (Map.Entry<Integer, List<ShopItemView>> entry : optionalEntry.get().getItemsByPage().entrySet()) {
-            if (!getAccessibleItems(player, sectionId, entry.getKey()).isEmpty()) {
-                pages.add(entry.getKey());
-            }
-        }
-        if (pages.isEmpty()) {
-            pages.add(1);
-        }
-        return pages;
+        ShopAccessIndex.Access access = access(player, sectionId);
+        return access == null ? List.of() : access.pages();
     }
 
     public List<ShopItemView> getAccessibleItems(Player player, String sectionId, int page) {
+        ShopAccessIndex.Access access = access(player, sectionId);
+        return access == null ? List.of() : access.items(page);
+    }
+
+    /** Drops the cached page access of a player, e.g. on quit or after a permission change. */
+    public void invalidateAccess(UUID playerId) {
+        accessIndex.invalidate(playerId);
+    }
+
+    private ShopAccessIndex.Access access(Player player, String sectionId) {
         Optional<EconomyShopCatalogEntry> optionalEntry = getShop(sectionId);
-        if (optionalEntry.isEmpty()) {
-            return List.of();
+        if (optionalEntry.isEmpty() || player == null) {
+            return null;
         }
-        List<ShopItemView> source = optionalEntry.get().getItemsByPage().getOrDefault(page, List.of());
-        logger.fine("[EShop] getAccessibleItems section=" + sectionId + " page=" + page + " source=" + source.size());
-        List<ShopItemView> accessible = new ArrayList<>();
-        for (ShopItemView view : source) {
-            ShopItem liveItem = optionalEntry.get().getLiveItemsById().get(view.getId());
-            boolean ok = liveItem != null && isAccessible(player, liveItem, sectionId);
-            logger.fine("[EShop]   item='" + view.getId() + "' accessible=" + ok);
-            if (ok) {
-                accessible.add(view);
+        EconomyShopCatalogEntry entry = optionalEntry.get();
+        boolean shopAccess = hasShopAccess(player, entry);
+        boolean fine = logger.isLoggable(Level.FINE);
+        return accessIndex.get(player.getUniqueId(), entry.getId(), entry, entry.getItemsByPage(), view -> {
+            ShopItem liveItem = entry.getLiveItemsById().get(view.getId());
+            boolean ok = liveItem != null && isAccessible(player, liveItem, shopAccess, fine);
+            if (fine) {
+                logger.fine("[EShop]   item='" + view.getId() + "' accessible=" + ok);
             }
-        }
-        return accessible;
+            return ok;
+        });
     }
 
     public boolean hasShopAccess(Player player, EconomyShopCatalogEntry entry) {
@@ -180,23 +181,31 @@ public final class EconomyShopCatalogService {
         return Optional.empty();
     }
 
-    private boolean isAccessible(Player player, ShopItem shopItem, String sectionId) {
+    private boolean isAccessible(Player player, ShopItem shopItem, boolean shopAccess, boolean fine) {
         if (shopItem.hasItemError() || shopItem.isHidden()) {
-            logger.fine("[EShop] isAccessible: item has error or hidden, itemPath=" + shopItem.getItemPath());
+            if (fine) {
+                logger.fine("[EShop] isAccessible: item has error or hidden, itemPath=" + shopItem.getItemPath());
+            }
             return false;
         }
         if (shopItem.isLinked()) {
             boolean hasSub = shopItem.getSubSection() != null && getShop(shopItem.getSubSection()).isPresent();
-            logger.fine("[EShop] isAccessible: linked item, subSection=" + shopItem.getSubSection() + " hasSub=" + hasSub);
+            if (fine) {
+                logger.fine("[EShop] isAccessible: linked item, subSection=" + shopItem.getSubSection() + " hasSub=" + hasSub);
+            }
             return hasSub;
         }
-        if (!hasShopAccess(player, getShop(sectionId).orElse(null))) {
-            logger.fine("[EShop] isAccessible: no shop access for player");
+        if (!shopAccess) {
+            if (fine) {
+                logger.fine("[EShop] isAccessible: no shop access for player");
+            }
             return false;
         }
         Optional<BuyPrice> buy = resolveBuyPrice(player, shopItem, 1);
         Optional<SellPrice> sell = resolveSellPrice(player, shopItem, 1);
-        logger.fine("[EShop] isAccessible: buy=" + buy.isPresent() + " sell=" + sell.isPresent() + " for item=" + shopItem.getItemPath());
+        if (fine) {
+            logger.fine("[EShop] isAccessible: buy=" + buy.isPresent() + " sell=" + sell.isPresent() + " for item=" + shopItem.getItemPath());
+        }
         return buy.isPresent() || sell.isPresent();
     }
 
@@ -21,14 +21,20 @@ import java.io.File;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
 import java.util.logging.Logger;
 
 /**
- * Bridges MyPet's pet shop. Listing is read straight from pet-shops.yml (stable, documented
- * schema). Buying is done fully in-process using MyPet's public API: the pet template
+ * Bridges MyPet's pet shop. Listing is read from pet-shops.yml (stable, documented schema),
+ * parsed once into an immutable {@link ShopModel} and re-read only when the file changes;
+ * purchases validate against the same snapshot. Buying is done fully in-process using
+ * MyPet's public API: the pet template
  * ({@code ShopMyPet}, which implements the public {@code StoredMyPet}) is built reflectively
  * from the same config section MyPet uses, then cloned, charged for and stored/activated via
  * {@code MyPetManager}/{@code Repository}/{@code EconomyHook} — no native GUI involved. All
@@ -37,37 +43,25 @@ import java.util.logging.Logger;
 final class MyPetShopBridge {
 
     private static final String SHOP_PET_CLASS = "de.Keyle.MyPet.util.shop.ShopMyPet";
+    private static final long CHECK_INTERVAL_MS = 2000L;
+
+    private static volatile ShopModel model;
+    private static volatile long lastCheck;
 
     private MyPetShopBridge() {
     }
 
     // ---------------- Listing (pet-shops.yml) ----------------
 
-    static List<ShopPetView> readShop(String shopId, Set<String> ownedTypes, Logger logger) {
-        ConfigurationSection shops = shopsSection(logger);
-        if (shops == null) {
-            return List.of();
-        }
-        String chosen = resolveShopId(shops, shopId);
-        if (chosen == null) {
+    static List<ShopPetView> readShop(ShopModel snapshot, String shopId, Set<String> ownedTypes) {
+        PetShop shop = snapshot == null ? null : snapshot.resolve(shopId);
+        if (shop == null) {
             return List.of();
         }
-        ConfigurationSection shop = shops.getConfigurationSection(chosen);
-        ConfigurationSection pets = shop == null ? null : shop.getConfigurationSection("Pets");
-        if (pets == null) {
-            return List.of();
-        }
-        List<ShopPetView> views = new ArrayList<>();
-        for (String petId : pets.getKeys(false)) {
-            ConfigurationSection pet = pets.getConfigurationSection(petId);
-            if (pet == null) {
-                continue;
-            }
-            double price = pet.getDouble("Price", 0D);
-            String petType = pet.getString("PetType", "Unknown");
-            String name = pet.getString("Name", petType);
-            boolean owned = ownedTypes.contains(petType.toUpperCase(Locale.ROOT));
-            views.add(new ShopPetView(chosen, petId, name, petType, price, owned));
+        List<ShopPetView> views = new ArrayList<>(shop.pets().size());
+        for (ShopPet pet : shop.pets()) {
+            boolean owned = ownedTypes.contains(pet.petType().toUpperCase(Locale.ROOT));
+            views.add(new ShopPetView(shop.id(), pet.id(), pet.name(), pet.petType(), pet.price(), owned));
         }
         return views;
     }
@@ -82,17 +76,16 @@ final class MyPetShopBridge {
      * async repository callback, exactly as MyPet does.
      */
     static PetBuyResult buy(Player player, String shopId, String petId, Logger logger) {
-        ConfigurationSection shops = shopsSection(logger);
-        if (shops == null) {
+        ShopModel snapshot = model(logger);
+        if (snapshot == null || snapshot.shops().isEmpty()) {
             return PetBuyResult.fail("no shop config");
         }
-        String chosen = resolveShopId(shops, shopId);
-        ConfigurationSection shop = chosen == null ? null : shops.getConfigurationSection(chosen);
-        ConfigurationSection pets = shop == null ? null : shop.getConfigurationSection("Pets");
-        ConfigurationSection petSection = pets == null ? null : pets.getConfigurationSection(petId);
-        if (petSection == null) {
+        PetShop shop = snapshot.resolve(shopId);
+        ShopPet pet = shop == null ? null : shop.petsById().get(petId);
+        if (pet == null) {
             return PetBuyResult.fail("pet not found");
         }
+        ConfigurationSection petSection = pet.section();
 
         StoredMyPet template = buildTemplate(petId, petSection, logger);
         if (template == null) {
@@ -131,7 +124,7 @@ final class MyPetShopBridge {
         clonedPet.setWorldGroup(WorldGroup.getGroupByWorld(player.getWorld()).getName());
         clonedPet.setUUID(null);
 
-        double price = petSection.getDouble("Price", 0D);
+        double price = pet.price();
         if (price > 0) {
             EconomyHook economy = MyPetApi.getHookHelper().getEconomy();
             if (economy == null || !MyPetApi.getHookHelper().isEconomyEnabled()) {
@@ -196,34 +189,126 @@ final class MyPetShopBridge {
         return String.valueOf(price);
     }
 
-    // ---------------- shared ----------------
+    // ---------------- shared: parsed pet-shops.yml ----------------
 
-    private static ConfigurationSection shopsSection(Logger logger) {
-        Plugin myPet = Bukkit.getPluginManager().getPlugin("MyPet");
-        if (myPet == null) {
+    /**
+     * The cached model if pet-shops.yml has not changed since it was parsed, otherwise null.
+     * Never parses; the file is stat'ed at most every {@link #CHECK_INTERVAL_MS} ms.
+     */
+    static ShopModel cachedModel() {
+        ShopModel current = model;
+        if (current == null) {
             return null;
         }
-        File file = new File(myPet.getDataFolder(), "pet-shops.yml");
-        if (!file.exists()) {
-            logger.warning("MyPet pet-shops.yml not found at " + file.getPath());
+        long now = System.currentTimeMillis();
+        if (now - lastCheck < CHECK_INTERVAL_MS) {
+            return current;
+        }
+        File file = shopsFile();
+        if (file == null || !current.matches(file)) {
             return null;
         }
-        return YamlConfiguration.loadConfiguration(file).getConfigurationSection("Shops");
+        lastCheck = now;
+        return current;
     }
 
-    private static String resolveShopId(ConfigurationSection shops, String shopId) {
-        if (shopId != null && !shopId.isBlank() && shops.isConfigurationSection(shopId)) {
-            return shopId;
+    /**
+     * The parsed pet-shops.yml, re-read only when its modification time or size changed.
+     * Returns null when MyPet is not installed.
+     */
+    static synchronized ShopModel model(Logger logger) {
+        ShopModel current = cachedModel();
+        if (current != null) {
+            return current;
+        }
+        File file = shopsFile();
+        if (file == null) {
+            return null;
         }
-        for (String key : shops.getKeys(false)) {
-            ConfigurationSection s = shops.getConfigurationSection(key);
-            if (s != null && s.getBoolean("Default", false)) {
-                return key;
+        if (model != null && model.matches(file)) {
+            lastCheck = System.currentTimeMillis();
+            return model;
+        }
+        ShopModel loaded;
+        if (!file.exists()) {
+            logger.warning("MyPet pet-shops.yml not found at " + file.getPath());
+            loaded = new ShopModel(0L, -1L, Map.of());
+        } else {
+            long lastModified = file.lastModified();
+            long length = file.length();
+            loaded = parse(lastModified, length, YamlConfiguration.loadConfiguration(file).getConfigurationSection("Shops"));
+        }
+        model = loaded;
+        lastCheck = System.currentTimeMillis();
+        return loaded;
+    }
+
+    private static File shopsFile() {
+        Plugin myPet = Bukkit.getPluginManager().getPlugin("MyPet");
+        return myPet == null ? null : new File(myPet.getDataFolder(), "pet-shops.yml");
+    }
+
+    private static ShopModel parse(long lastModified, long length, ConfigurationSection shops) {
+        Map<String, PetShop> parsed = new LinkedHashMap<>();
+        if (shops != null) {
+            for (String shopId : shops.getKeys(false)) {
+                ConfigurationSection shop = shops.getConfigurationSection(shopId);
+                if (shop == null) {
+                    continue;
+                }
+                List<ShopPet> pets = new ArrayList<>();
+                Map<String, ShopPet> petsById = new HashMap<>();
+                ConfigurationSection petsSection = shop.getConfigurationSection("Pets");
+                if (petsSection != null) {
+                    for (String petId : petsSection.getKeys(false)) {
+                        ConfigurationSection pet = petsSection.getConfigurationSection(petId);
+                        if (pet == null) {
+                            continue;
+                        }
+                        String petType = pet.getString("PetType", "Unknown");
+                        ShopPet shopPet = new ShopPet(petId, pet.getString("Name", petType), petType,
+                                pet.getDouble("Price", 0D), pet);
+                        pets.add(shopPet);
+                        petsById.put(petId, shopPet);
+                    }
+                }
+                parsed.put(shopId, new PetShop(shopId, shop.getBoolean("Default", false),
+                        List.copyOf(pets), Map.copyOf(petsById)));
             }
         }
-        for (String key : shops.getKeys(false)) {
-            return key;
+        return new ShopModel(lastModified, length, Collections.unmodifiableMap(parsed));
+    }
+
+    /**
+     * Immutable snapshot of pet-shops.yml. Pet sections are kept for building purchase
+     * templates and are never written to.
+     */
+    record ShopModel(long lastModified, long length, Map<String, PetShop> shops) {
+
+        boolean matches(File file) {
+            return file.lastModified() == lastModified && (file.exists() ? file.length() : -1L) == length;
         }
-        return null;
+
+        /** The requested shop, else the one marked Default, else the first. */
+        PetShop resolve(String shopId) {
+            if (shopId != null && !shopId.isBlank()) {
+                PetShop shop = shops.get(shopId);
+                if (shop != null) {
+                    return shop;
+                }
+            }
+            for (PetShop shop : shops.values()) {
+                if (shop.defaultShop()) {
+                    return shop;
+                }
+            }
+            return shops.isEmpty() ? null : shops.values().iterator().next();
+        }
+    }
+
+    record PetShop(String id, boolean defaultShop, List<ShopPet> pets, Map<String, ShopPet> petsById) {
+    }
+
+    record ShopPet(String id, String name, String petType, double price, ConfigurationSection section) {
     }
 }
@@ -20,8 +20,8 @@ import java.util.logging.Logger;
 
 /**
  * Facade over {@link PetProvider} plus the MyPet pet-shop bridge. Pet lists are
- * live (async via the provider); the shop listing reads MyPet's pet-shops.yml and
- * flags entries whose pet type the player already owns.
+ * live (async via the provider); the shop listing comes from a cached model of MyPet's
+ * pet-shops.yml and flags entries whose pet type the player already owns.
  */
 public final class PetCatalogService {
 
@@ -80,8 +80,9 @@ public final class PetCatalogService {
     }
 
     /**
-     * Read MyPet's shop listing from pet-shops.yml and flag entries the player already
-     * owns (owns a pet of that type). Owned-set comes from the async pet list, so this is async.
+     * MyPet's shop listing from the cached pet-shops.yml model, with entries flagged when the
+     * player already owns a pet of that type. Owned-set comes from the async pet list, so this
+     * is async; the file is only parsed (off the main thread) when it changed since last time.
      */
     public void listShopEntries(Player player, String shopId, Consumer<List<ShopPetView>> callback) {
         listOwnedPets(player, owned -> {
@@ -89,10 +90,15 @@ public final class PetCatalogService {
             for (PetView pet : owned) {
                 ownedTypes.add(pet.petType().toUpperCase(Locale.ROOT));
             }
+            MyPetShopBridge.ShopModel cached = MyPetShopBridge.cachedModel();
+            if (cached != null) {
+                callback.accept(MyPetShopBridge.readShop(cached, shopId, ownedTypes));
+                return;
+            }
             Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
                 List<ShopPetView> entries = new ArrayList<>();
                 try {
-                    entries.addAll(MyPetShopBridge.readShop(shopId, ownedTypes, logger));
+                    entries.addAll(MyPetShopBridge.readShop(MyPetShopBridge.model(logger), shopId, ownedTypes));
                 } catch (Throwable t) {
                     logger.warning("MyPet shop read failed: " + t.getMessage());
                 }
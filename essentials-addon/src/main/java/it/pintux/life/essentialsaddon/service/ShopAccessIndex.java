@@ -0,0 +1,95 @@
+package it.pintux.life.essentialsaddon.service;
+
+import it.pintux.life.essentialsaddon.model.ShopItemView;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * Which items of a shop a player may see, computed for every page in one pass and kept per
+ * (player, shop).
+ *
+ * <p>An index belongs to the catalog entry it was built from, so a catalog refresh makes it stale.
+ * Entries are dropped when the player quits or changes world; permission plugins do not announce
+ * recalculations through Bukkit, so an entry also expires after {@link #MAX_AGE_SECONDS} seconds.
+ */
+final class ShopAccessIndex {
+    static final long MAX_AGE_SECONDS = 30;
+    private static final long MAX_AGE_NANOS = TimeUnit.SECONDS.toNanos(MAX_AGE_SECONDS);
+
+    private final Map<UUID, Map<String, Access>> byPlayer = new ConcurrentHashMap<>();
+
+    /**
+     * @param entry the catalog entry the pages belong to; a different entry for the same shop
+     *              means the catalog was refreshed
+     */
+    Access get(UUID playerId, String shopId, Object entry, Map<Integer, List<ShopItemView>> itemsByPage,
+               Predicate<ShopItemView> accessible) {
+        Map<String, Access> shops = byPlayer.computeIfAbsent(playerId, ignored -> new ConcurrentHashMap<>());
+        long now = System.nanoTime();
+        Access access = shops.get(shopId);
+        if (access != null && access.entry == entry && now - access.builtAt < MAX_AGE_NANOS) {
+            return access;
+        }
+        access = build(entry, itemsByPage, accessible, now);
+        shops.put(shopId, access);
+        return access;
+    }
+
+    private static Access build(Object entry, Map<Integer, List<ShopItemView>> itemsByPage,
+                                Predicate<ShopItemView> accessible, long now) {
+        NavigableMap<Integer, List<ShopItemView>> items = new TreeMap<>();
+        for (Map.Entry<Integer, List<ShopItemView>> page : itemsByPage.entrySet()) {
+            List<ShopItemView> visible = new ArrayList<>();
+            for (ShopItemView view : page.getValue()) {
+                if (accessible.test(view)) {
+                    visible.add(view);
+                }
+            }
+            if (!visible.isEmpty()) {
+                items.put(page.getKey(), Collections.unmodifiableList(visible));
+            }
+        }
+        List<Integer> pages = items.isEmpty() ? List.of(1) : List.copyOf(items.keySet());
+        return new Access(entry, items, pages, now);
+    }
+
+    void invalidate(UUID playerId) {
+        byPlayer.remove(playerId);
+    }
+
+    void clear() {
+        byPlayer.clear();
+    }
+
+    static final class Access {
+        private final Object entry;
+        private final NavigableMap<Integer, List<ShopItemView>> itemsByPage;
+        private final List<Integer> pages;
+        private final long builtAt;
+
+        private Access(Object entry, NavigableMap<Integer, List<ShopItemView>> itemsByPage, List<Integer> pages, long builtAt) {
+            this.entry = entry;
+            this.itemsByPage = itemsByPage;
+            this.pages = pages;
+            this.builtAt = builtAt;
+        }
+
+        /** Pages with at least one accessible item, or page 1 when there are none. */
+        List<Integer> pages() {
+            return pages;
+        }
+
+        List<ShopItemView> items(int page) {
+            return itemsByPage.getOrDefault(page, List.of());
+        }
+    }
+}
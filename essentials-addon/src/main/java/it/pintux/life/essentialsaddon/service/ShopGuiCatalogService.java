@@ -21,12 +21,14 @@ import java.util.Map;
 import java.util.NavigableMap;
 import java.util.Optional;
 import java.util.TreeMap;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
 
 public final class ShopGuiCatalogService {
     private final Logger logger;
     private volatile Map<String, ShopCatalogEntry> catalog = Map.of();
+    private final ShopAccessIndex accessIndex = new ShopAccessIndex();
 
     public ShopGuiCatalogService(Logger logger) {
         this.logger = logger;
@@ -53,6 +55,7 @@ public final class ShopGuiCatalogService {
             }
         }
         this.catalog = Map.copyOf(refreshed);
+        accessIndex.clear();
     }
 
     public boolean isReady() {
@@ -83,46 +86,41 @@ public final class ShopGuiCatalogService {
     }
 
     public List<Integer> getAccessiblePages(Player player, String shopId) {
-        Optional<ShopCatalogEntry> optionalEntry = getShop(shopId);
-        if (optionalEntry.isEmpty()) {
-            return List.of();
-        }
-        List<Integer> pages = new ArrayList<>();
-        for (Map.Entry<Integer, List<ShopItemView>> entry : optionalEntry.get().getItemsByPage().entrySet()) {
-            if (!getAccessibleItems(player, shopId, entry.getKey()).isEmpty()) {
-                pages.add(entry.getKey());
-            }
-        }
-        if (pages.isEmpty()) {
-            pages.add(1);
-        }
-        return pages;
+        ShopAccessIndex.Access access = access(player, shopId);
+        return access == null ? List.of() : access.pages();
     }
 
     public List<ShopItemView> getAccessibleItems(Player player, String shopId, int page) {
+        ShopAccessIndex.Access access = access(player, shopId);
+        return access == null ? List.of() : access.items(page);
+    }
+
+    /** Drops the cached page access of a player, e.g. on quit or after a permission change. */
+    public void invalidateAccess(UUID playerId) {
+        accessIndex.invalidate(playerId);
+    }
+
+    private ShopAccessIndex.Access access(Player player, String shopId) {
         Optional<ShopCatalogEntry> optionalEntry = getShop(shopId);
-        if (optionalEntry.isEmpty()) {
-            return List.of();
+        if (optionalEntry.isEmpty() || player == null) {
+            return null;
         }
         ShopCatalogEntry entry = optionalEntry.get();
-        List<ShopItemView> source = entry.getItemsByPage().getOrDefault(page, List.of());
-        List<ShopItemView> accessible = new ArrayList<>();
-        for (ShopItemView view : source) {
+        boolean perItemPermissions = ShopGuiReflectionSupport.booleanFlag(entry.getShop(), false, "isEnablePerItemPermissions");
+        return accessIndex.get(player.getUniqueId(), entry.getId().toLowerCase(Locale.ROOT), entry, entry.getItemsByPage(), view -> {
             ShopItem liveItem = entry.getLiveItemsById().get(view.getId());
-            if (liveItem != null && hasItemAccess(player, entry, liveItem, view)) {
-                accessible.add(view);
-            }
-        }
-        return accessible;
+            return liveItem != null && hasItemAccess(player, entry, liveItem, view, perItemPermissions);
+        });
     }
 
-    private boolean hasItemAccess(Player player, ShopCatalogEntry entry, ShopItem liveItem, ShopItemView view) {
+    private boolean hasItemAccess(Player player, ShopCatalogEntry entry, ShopItem liveItem, ShopItemView view,
+                                  boolean perItemPermissions) {
         Boolean shopVerdict = ShopGuiReflectionSupport.invokeAccessCheck(entry.getShop(), player, liveItem);
         if (shopVerdict != null) {
             return shopVerdict;
         }
         // ShopGUI+ build without a usable item-gate overload: mirror its per-item permission nodes ourselves
-        if (!ShopGuiReflectionSupport.booleanFlag(entry.getShop(), false, "isEnablePerItemPermissions")) {
+        if (!perItemPermissions) {
             return true;
         }
         return player.hasPermission("shopguiplus.item." + entry.getId() + ".*")
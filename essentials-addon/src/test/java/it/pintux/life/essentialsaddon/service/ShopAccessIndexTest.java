@@ -0,0 +1,74 @@
+package it.pintux.life.essentialsaddon.service;
+
+import it.pintux.life.essentialsaddon.model.ShopItemView;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ShopAccessIndexTest {
+
+    private static ShopItemView item(String id, int page) {
+        return new ShopItemView(id, id, "", "ITEM", page, 0, "STONE", null, 1D, 1D);
+    }
+
+    private static Map<Integer, List<ShopItemView>> pages() {
+        Map<Integer, List<ShopItemView>> pages = new TreeMap<>();
+        pages.put(1, List.of(item("a", 1), item("b", 1)));
+        pages.put(2, List.of(item("locked", 2)));
+        pages.put(3, List.of(item("c", 3)));
+        return pages;
+    }
+
+    @Test
+    void checksEveryItemOnceAndSkipsPagesWithoutAccess() {
+        ShopAccessIndex index = new ShopAccessIndex();
+        Object entry = new Object();
+        Map<Integer, List<ShopItemView>> pages = pages();
+        AtomicInteger checks = new AtomicInteger();
+        UUID player = UUID.randomUUID();
+
+        for (int i = 0; i < 3; i++) {
+            ShopAccessIndex.Access access = index.get(player, "blocks", entry, pages, view -> {
+                checks.incrementAndGet();
+                return !view.getId().equals("locked");
+            });
+            assertEquals(List.of(1, 3), access.pages());
+            assertEquals(2, access.items(1).size());
+            assertTrue(access.items(2).isEmpty());
+        }
+        assertEquals(4, checks.get());
+    }
+
+    @Test
+    void rebuildsForANewCatalogEntryOrAfterInvalidation() {
+        ShopAccessIndex index = new ShopAccessIndex();
+        Map<Integer, List<ShopItemView>> pages = pages();
+        AtomicInteger checks = new AtomicInteger();
+        UUID player = UUID.randomUUID();
+
+        index.get(player, "blocks", new Object(), pages, view -> checks.incrementAndGet() > 0);
+        index.get(player, "blocks", new Object(), pages, view -> checks.incrementAndGet() > 0);
+        assertEquals(8, checks.get());
+
+        Object entry = new Object();
+        index.get(player, "blocks", entry, pages, view -> checks.incrementAndGet() > 0);
+        index.invalidate(player);
+        index.get(player, "blocks", entry, pages, view -> checks.incrementAndGet() > 0);
+        assertEquals(16, checks.get());
+    }
+
+    @Test
+    void fallsBackToFirstPageWhenNothingIsAccessible() {
+        ShopAccessIndex index = new ShopAccessIndex();
+        ShopAccessIndex.Access access = index.get(UUID.randomUUID(), "blocks", new Object(), pages(), view -> false);
+        assertEquals(List.of(1), access.pages());
+        assertTrue(access.items(1).isEmpty());
+    }
+}
@@ -1,13 +1,14 @@
 package it.pintux.life.homesteadaddon;
 
 import it.pintux.life.common.api.BedrockGUIApi;
+import it.pintux.life.common.api.CommandDispatcher;
 import it.pintux.life.homesteadaddon.action.HomesteadFormAction;
 import it.pintux.life.homesteadaddon.api.BedrockPlayerDetector;
 import it.pintux.life.homesteadaddon.command.HomesteadAddonCommand;
 import it.pintux.life.homesteadaddon.config.HomesteadAddonConfiguration;
 import it.pintux.life.homesteadaddon.gateway.HomesteadGateway;
 import it.pintux.life.homesteadaddon.gateway.HomesteadGatewayImpl;
-import it.pintux.life.homesteadaddon.listener.HomesteadCommandListener;
+import it.pintux.life.homesteadaddon.listener.HomesteadCommandHandler;
 import it.pintux.life.homesteadaddon.service.BedrockChunkService;
 import it.pintux.life.homesteadaddon.service.BedrockFlagService;
 import it.pintux.life.homesteadaddon.service.BedrockLevelService;
@@ -18,9 +19,7 @@ import it.pintux.life.homesteadaddon.service.BedrockRegionService;
 import it.pintux.life.homesteadaddon.service.BedrockSubAreaService;
 import it.pintux.life.homesteadaddon.service.FloodgateBedrockPlayerDetector;
 import it.pintux.life.homesteadaddon.util.HomesteadActionPayloads;
-import org.bukkit.Bukkit;
 import org.bukkit.command.PluginCommand;
-import org.bukkit.event.HandlerList;
 import org.bukkit.plugin.java.JavaPlugin;
 
 public final class HomesteadAddonPlugin extends JavaPlugin {
@@ -40,7 +39,10 @@ public final class HomesteadAddonPlugin extends JavaPlugin {
     public void onEnable() {
         configuration = HomesteadAddonConfiguration.load(this);
         detector = new FloodgateBedrockPlayerDetector();
-        gateway = new HomesteadGatewayImpl(getLogger());
+        HomesteadGatewayImpl gatewayImpl = new HomesteadGatewayImpl(getLogger());
+        gateway = gatewayImpl;
+        // Leaderboards read a prebuilt ranking, refreshed a slice of regions per tick on the main thread.
+        getServer().getScheduler().runTaskTimer(this, gatewayImpl::tickRankIndex, 1L, 1L);
 
         PluginCommand command = getCommand("homesteadaddon");
         if (command != null) {
@@ -59,6 +61,7 @@ public final class HomesteadAddonPlugin extends JavaPlugin {
 
     @Override
     public void onDisable() {
+        CommandDispatcher.shared().unregisterAll(this);
         regionService = null;
         memberService = null;
         flagService = null;
@@ -82,7 +85,9 @@ public final class HomesteadAddonPlugin extends JavaPlugin {
         boolean integratedGui = configuration.integratedGuiEnabled();
 
         if (integratedGui) {
-            Bukkit.getPluginManager().registerEvents(new HomesteadCommandListener(regionService, configuration), this);
+            HomesteadCommandHandler commandHandler = new HomesteadCommandHandler(regionService, configuration);
+            CommandDispatcher.shared().register(this, CommandDispatcher.Priority.LOWEST,
+                    commandHandler.roots(), commandHandler::handle);
         } else {
             getLogger().info("Integrated GUI disabled: not intercepting Homestead commands. "
                     + "Use the hs_* actions from your own forms.");
@@ -179,7 +184,7 @@ public final class HomesteadAddonPlugin extends JavaPlugin {
     }
 
     public void reloadConfiguration() {
-        HandlerList.unregisterAll(this);
+        CommandDispatcher.shared().unregisterAll(this);
         configuration = HomesteadAddonConfiguration.load(this);
         setupModules();
     }
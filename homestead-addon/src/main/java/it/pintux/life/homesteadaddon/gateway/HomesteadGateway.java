@@ -24,8 +24,16 @@ public interface HomesteadGateway {
 
     List<RegionView> regionsFor(OfflinePlayer player);
 
+    List<RegionView> regionsFor(OfflinePlayer player, int offset, int limit);
+
+    int regionCountFor(OfflinePlayer player);
+
     List<RegionView> allRegions();
 
+    List<RegionView> allRegions(int offset, int limit);
+
+    int regionCount();
+
     Optional<RegionView> region(long regionId);
 
     boolean teleport(Player player, long regionId);
@@ -98,6 +106,10 @@ public interface HomesteadGateway {
 
     List<LogView> logs(long regionId);
 
+    List<LogView> logs(long regionId, int offset, int limit);
+
+    int logCount(long regionId);
+
     boolean markLogsRead(long regionId);
 
     boolean clearLogs(long regionId);
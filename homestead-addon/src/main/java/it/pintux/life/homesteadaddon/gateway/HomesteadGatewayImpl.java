@@ -45,17 +45,34 @@ import tfagaming.projects.minecraft.homestead.weatherandtime.RegionTime;
 import tfagaming.projects.minecraft.homestead.weatherandtime.RegionWeather;
 
 import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.HashMap;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.ListIterator;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.logging.Logger;
 
 public final class HomesteadGatewayImpl implements HomesteadGateway {
+    /**
+     * Ticks between rank index rebuilds. Homestead has no hooks for creations or bank deposits made
+     * outside this addon, so leaderboards may lag those by up to this long.
+     */
+    private static final int RANK_REBUILD_TICKS = 60 * 20;
+    // Regions ranked per tick while a rebuild runs, so no single tick walks every region.
+    private static final int RANK_REBUILD_SLICE = 500;
+
     private final Logger logger;
+    private RegionRankIndex rankIndex = new RegionRankIndex();
+    // State of the rebuild in progress, all touched only on the main thread; null when none runs.
+    private RegionRankIndex rebuilding;
+    private List<Region> rebuildQueue;
+    private final Set<Long> removedDuringRebuild = new HashSet<>();
+    private int rebuildPosition;
+    private int ticksUntilRebuild;
 
     public HomesteadGatewayImpl(Logger logger) {
         this.logger = logger;
@@ -69,15 +86,40 @@ public final class HomesteadGatewayImpl implements HomesteadGateway {
 
     @Override
     public List<RegionView> regionsFor(OfflinePlayer player) {
-        UUID id = player.getUniqueId();
-        Map<Long, RegionView> byId = new LinkedHashMap<>();
-        for (Region region : RegionManager.getRegionsOwnedByPlayer(id)) {
-            if (region != null) byId.putIfAbsent(region.getUniqueId(), toView(region));
+        List<RegionView> out = new ArrayList<>();
+        for (Region region : regionsOf(player.getUniqueId()).values()) {
+            out.add(toView(region));
+        }
+        return out;
+    }
+
+    @Override
+    public List<RegionView> regionsFor(OfflinePlayer player, int offset, int limit) {
+        List<RegionView> out = new ArrayList<>(Math.max(0, limit));
+        int skipped = 0;
+        for (Region region : regionsOf(player.getUniqueId()).values()) {
+            if (out.size() >= limit) break;
+            if (skipped++ < offset) continue;
+            out.add(toView(region));
+        }
+        return out;
+    }
+
+    @Override
+    public int regionCountFor(OfflinePlayer player) {
+        return regionsOf(player.getUniqueId()).size();
+    }
+
+    /** The player's owned regions, then those they are a member of, without converting any to a view. */
+    private Map<Long, Region> regionsOf(UUID playerId) {
+        Map<Long, Region> byId = new LinkedHashMap<>();
+        for (Region region : RegionManager.getRegionsOwnedByPlayer(playerId)) {
+            if (region != null) byId.putIfAbsent(region.getUniqueId(), region);
         }
-        for (Region region : RegionManager.getRegionsHasPlayerAsMember(id)) {
-            if (region != null) byId.putIfAbsent(region.getUniqueId(), toView(region));
+        for (Region region : RegionManager.getRegionsHasPlayerAsMember(playerId)) {
+            if (region != null) byId.putIfAbsent(region.getUniqueId(), region);
         }
-        return new ArrayList<>(byId.values());
+        return byId;
     }
 
     @Override
@@ -89,6 +131,16 @@ public final class HomesteadGatewayImpl implements HomesteadGateway {
         return out;
     }
 
+    @Override
+    public List<RegionView> allRegions(int offset, int limit) {
+        return viewsOf(rankIndex.page(RegionRankIndex.Order.CREATION_DATE, offset, limit));
+    }
+
+    @Override
+    public int regionCount() {
+        return RegionManager.getAll().size();
+    }
+
     @Override
     public Optional<RegionView> region(long regionId) {
         Region region = RegionManager.findRegion(regionId);
@@ -110,6 +162,7 @@ public final class HomesteadGatewayImpl implements HomesteadGateway {
             return false;
         }
         MemberManager.removeMemberFromRegion(player, regionId);
+        reindex(regionId);
         return true;
     }
 
@@ -191,6 +244,7 @@ public final class HomesteadGatewayImpl implements HomesteadGateway {
     @Override
     public boolean kickMember(long regionId, UUID playerId) {
         MemberManager.removeMemberFromRegion(Bukkit.getOfflinePlayer(playerId), regionId);
+        reindex(regionId);
         return true;
     }
 
@@ -368,12 +422,43 @@ public final class HomesteadGatewayImpl implements HomesteadGateway {
         List<LogView> out = new ArrayList<>();
         for (RegionLog log : LogManager.getLogs(regionId)) {
             if (log != null) {
-                out.add(new LogView(log.getAuthor(), log.getMessage(), log.getSentAt(), log.isRead()));
+                out.add(toLog(log));
             }
         }
         return out;
     }
 
+    @Override
+    public List<LogView> logs(long regionId, int offset, int limit) {
+        Collection<RegionLog> logs = LogManager.getLogs(regionId);
+        if (logs == null || limit <= 0) {
+            return List.of();
+        }
+        // Positions count from the newest entry, as logCount does, so a page starts by index without
+        // walking the entries before it. A null entry keeps its position and is left out of the page.
+        List<RegionLog> list = logs instanceof List<RegionLog> l ? l : new ArrayList<>(logs);
+        int from = list.size() - Math.max(0, offset);
+        if (from <= 0) {
+            return List.of();
+        }
+        ListIterator<RegionLog> it = list.listIterator(from);
+        List<LogView> out = new ArrayList<>(Math.min(limit, from));
+        for (int read = 0; read < limit && it.hasPrevious(); read++) {
+            RegionLog log = it.previous();
+            if (log != null) {
+                out.add(toLog(log));
+            }
+        }
+        return out;
+    }
+
+    /** The positions {@link #logs(long, int, int)} pages through; a null entry still counts as one. */
+    @Override
+    public int logCount(long regionId) {
+        Collection<RegionLog> logs = LogManager.getLogs(regionId);
+        return logs == null ? 0 : logs.size();
+    }
+
     @Override
     public boolean markLogsRead(long regionId) {
         LogManager.markAllAsRead(regionId);
@@ -402,12 +487,15 @@ public final class HomesteadGatewayImpl implements HomesteadGateway {
     @Override
     public boolean rateRegion(long regionId, OfflinePlayer player, int score) {
         RateManager.rateRegion(regionId, player, score);
+        reindex(regionId);
         return true;
     }
 
     @Override
     public boolean removeRating(long regionId, OfflinePlayer player) {
-        return RateManager.deletePlayerRating(player, regionId);
+        boolean removed = RateManager.deletePlayerRating(player, regionId);
+        reindex(regionId);
+        return removed;
     }
 
     @Override
@@ -481,6 +569,7 @@ public final class HomesteadGatewayImpl implements HomesteadGateway {
     @Override
     public boolean deleteRegion(long regionId, OfflinePlayer performedBy) {
         RegionManager.deleteRegion(regionId, performedBy);
+        unrank(regionId);
         return true;
     }
 
@@ -506,6 +595,7 @@ public final class HomesteadGatewayImpl implements HomesteadGateway {
             return false;
         }
         ChunkManager.unclaimChunk(regionId, world.getChunkAt(x, z));
+        reindex(regionId);
         return true;
     }
 
@@ -600,23 +690,7 @@ public final class HomesteadGatewayImpl implements HomesteadGateway {
 
     @Override
     public List<RegionView> topRegions(String sorting, int limit) {
-        List<RegionView> all = allRegions();
-        Comparator<RegionView> comparator;
-        switch (sorting == null ? "BANK" : sorting) {
-            case "CHUNKS_COUNT" -> comparator = Comparator.comparingInt(RegionView::chunkCount).reversed();
-            case "MEMBERS_COUNT" -> comparator = Comparator.comparingInt(RegionView::memberCount).reversed();
-            case "CREATION_DATE" -> comparator = Comparator.comparingLong(RegionView::createdAt);
-            case "RATING" -> {
-                Map<Long, Double> averages = new HashMap<>();
-                for (RegionView region : all) {
-                    averages.put(region.id(), RateManager.getAverageRating(region.id()));
-                }
-                comparator = Comparator.comparingDouble((RegionView region) -> averages.getOrDefault(region.id(), 0.0)).reversed();
-            }
-            default -> comparator = Comparator.comparingDouble(RegionView::bank).reversed();
-        }
-        all.sort(comparator);
-        return all.size() > limit ? new ArrayList<>(all.subList(0, limit)) : all;
+        return viewsOf(rankIndex.page(RegionRankIndex.Order.of(sorting), 0, limit));
     }
 
     @Override
@@ -638,6 +712,93 @@ public final class HomesteadGatewayImpl implements HomesteadGateway {
     }
 
 
+    /**
+     * Advances the rank index rebuild; the plugin calls this once per tick on the main thread. Every
+     * {@link #RANK_REBUILD_TICKS} a new index is started from Homestead's region list and filled
+     * {@link #RANK_REBUILD_SLICE} regions per tick, then swapped in whole, so pages are always served
+     * from the last complete index. Changes made through this gateway meanwhile are applied to both.
+     */
+    public void tickRankIndex() {
+        if (rebuilding == null) {
+            if (--ticksUntilRebuild > 0) {
+                return;
+            }
+            rebuilding = new RegionRankIndex();
+            rebuildQueue = new ArrayList<>(RegionManager.getAll());
+            rebuildPosition = 0;
+        }
+        int end = Math.min(rebuildPosition + RANK_REBUILD_SLICE, rebuildQueue.size());
+        try {
+            for (; rebuildPosition < end; rebuildPosition++) {
+                Region region = rebuildQueue.get(rebuildPosition);
+                if (region != null && !removedDuringRebuild.contains(region.getUniqueId())) {
+                    rebuilding.put(rankKeys(region));
+                }
+            }
+        } catch (RuntimeException e) {
+            logger.warning("Could not rebuild the Homestead region ranking, keeping the previous one: " + e);
+            finishRebuild(null);
+            return;
+        }
+        if (rebuildPosition >= rebuildQueue.size()) {
+            finishRebuild(rebuilding);
+        }
+    }
+
+    private void finishRebuild(RegionRankIndex built) {
+        if (built != null) {
+            rankIndex = built;
+        }
+        rebuilding = null;
+        rebuildQueue = null;
+        removedDuringRebuild.clear();
+        ticksUntilRebuild = RANK_REBUILD_TICKS;
+    }
+
+    /** Re-ranks one region after this gateway changed it. */
+    private void reindex(long regionId) {
+        Region region = RegionManager.findRegion(regionId);
+        if (region == null) {
+            unrank(regionId);
+            return;
+        }
+        RegionRankIndex.Keys keys = rankKeys(region);
+        rankIndex.put(keys);
+        if (rebuilding != null) {
+            rebuilding.put(keys);
+        }
+    }
+
+    private void unrank(long regionId) {
+        rankIndex.remove(regionId);
+        if (rebuilding != null) {
+            rebuilding.remove(regionId);
+            removedDuringRebuild.add(regionId);
+        }
+    }
+
+    private RegionRankIndex.Keys rankKeys(Region region) {
+        long id = region.getUniqueId();
+        return new RegionRankIndex.Keys(
+                id,
+                region.getBank(),
+                ChunkManager.getChunkCount(id),
+                MemberManager.getMemberCount(id),
+                RateManager.getAverageRating(id),
+                region.getCreatedAt()
+        );
+    }
+
+    /** Fresh views of the given regions, in order, skipping any deleted since they were ranked. */
+    private List<RegionView> viewsOf(List<Long> regionIds) {
+        List<RegionView> out = new ArrayList<>(regionIds.size());
+        for (long id : regionIds) {
+            Region region = RegionManager.findRegion(id);
+            if (region != null) out.add(toView(region));
+        }
+        return out;
+    }
+
     private RegionView toView(Region region) {
         long id = region.getUniqueId();
         return new RegionView(
@@ -661,6 +822,10 @@ public final class HomesteadGatewayImpl implements HomesteadGateway {
         );
     }
 
+    private LogView toLog(RegionLog log) {
+        return new LogView(log.getAuthor(), log.getMessage(), log.getSentAt(), log.isRead());
+    }
+
     private MemberView toMember(RegionMember member) {
         return new MemberView(
                 member.getUniqueId(),
@@ -0,0 +1,88 @@
+package it.pintux.life.homesteadaddon.gateway;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+/**
+ * Region ids kept sorted by every leaderboard ordering, so a page is read by offset instead of
+ * sorting all regions. Entries are replaced one region at a time as regions change.
+ */
+final class RegionRankIndex {
+
+    enum Order {
+        BANK(Comparator.comparingDouble(Keys::bank).reversed()),
+        CHUNKS_COUNT(Comparator.comparingInt(Keys::chunks).reversed()),
+        MEMBERS_COUNT(Comparator.comparingInt(Keys::members).reversed()),
+        RATING(Comparator.comparingDouble(Keys::rating).reversed()),
+        CREATION_DATE(Comparator.comparingLong(Keys::createdAt));
+
+        private final Comparator<Keys> comparator;
+
+        Order(Comparator<Keys> primary) {
+            // Ties fall back to the id so distinct regions never collapse into one set entry.
+            this.comparator = primary.thenComparingLong(Keys::id);
+        }
+
+        static Order of(String sorting) {
+            if (sorting != null) {
+                for (Order order : values()) {
+                    if (order.name().equals(sorting)) return order;
+                }
+            }
+            return BANK;
+        }
+    }
+
+    /** The values a region is ranked by, captured when it was last indexed. */
+    record Keys(long id, double bank, int chunks, int members, double rating, long createdAt) {
+    }
+
+    private final Map<Long, Keys> byId = new HashMap<>();
+    private final Map<Order, NavigableSet<Keys>> sorted = new EnumMap<>(Order.class);
+
+    RegionRankIndex() {
+        for (Order order : Order.values()) {
+            sorted.put(order, new TreeSet<>(order.comparator));
+        }
+    }
+
+    synchronized void put(Keys keys) {
+        Keys previous = byId.put(keys.id(), keys);
+        for (NavigableSet<Keys> set : sorted.values()) {
+            if (previous != null) set.remove(previous);
+            set.add(keys);
+        }
+    }
+
+    synchronized void remove(long regionId) {
+        Keys previous = byId.remove(regionId);
+        if (previous == null) return;
+        for (NavigableSet<Keys> set : sorted.values()) {
+            set.remove(previous);
+        }
+    }
+
+    synchronized int size() {
+        return byId.size();
+    }
+
+    /** Region ids ranked {@code offset} to {@code offset + limit - 1} by {@code order}. */
+    synchronized List<Long> page(Order order, int offset, int limit) {
+        List<Long> out = new ArrayList<>(Math.max(0, Math.min(limit, byId.size())));
+        Iterator<Keys> it = sorted.get(order).iterator();
+        for (int skipped = 0; skipped < offset && it.hasNext(); skipped++) {
+            it.next();
+        }
+        while (out.size() < limit && it.hasNext()) {
+            out.add(it.next().id());
+        }
+        return out;
+    }
+}
@@ -1,21 +1,21 @@
 package it.pintux.life.homesteadaddon.listener;
 
+import it.pintux.life.common.api.CommandDispatcher;
 import it.pintux.life.homesteadaddon.config.HomesteadAddonConfiguration;
 import it.pintux.life.homesteadaddon.service.BedrockRegionService;
 import it.pintux.life.homesteadaddon.util.CommandAliases;
 import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.EventPriority;
-import org.bukkit.event.Listener;
-import org.bukkit.event.player.PlayerCommandPreprocessEvent;
 
-public final class HomesteadCommandListener implements Listener {
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+public final class HomesteadCommandHandler {
     private final BedrockRegionService regionService;
     private final CommandAliases regionCommands;
     private final CommandAliases adminCommands;
     private final CommandAliases guiSubcommands;
 
-    public HomesteadCommandListener(BedrockRegionService regionService, HomesteadAddonConfiguration configuration) {
+    public HomesteadCommandHandler(BedrockRegionService regionService, HomesteadAddonConfiguration configuration) {
         this.regionService = regionService;
         this.regionCommands = configuration.commandAliases(
                 "commands.regions", "region", "rg", "hs", "homestead");
@@ -25,31 +25,32 @@ public final class HomesteadCommandListener implements Listener {
                 "commands.gui-subcommands", "menu", "gui");
     }
 
-    @EventHandler(priority = EventPriority.LOWEST)
-    public void onCommand(PlayerCommandPreprocessEvent event) {
-        if (event.isCancelled()) {
-            return;
-        }
-        Player player = event.getPlayer();
-        if (!regionService.shouldHandle(player)) {
-            return;
-        }
-        String root = CommandAliases.rootOf(event.getMessage());
-        if (root == null) {
-            return;
+    public Set<String> roots() {
+        Set<String> roots = new LinkedHashSet<>(regionCommands.roots());
+        roots.addAll(adminCommands.roots());
+        return roots;
+    }
+
+    public boolean handle(CommandDispatcher.Command command) {
+        Player player = command.player(Player.class);
+        if (player == null || !regionService.shouldHandle(player)) {
+            return false;
         }
-        String[] args = CommandAliases.argsOf(event.getMessage());
+        String[] args = command.args();
         boolean guiInvocation = args.length == 0 || guiSubcommands.matches(args[0]);
         if (!guiInvocation) {
-            return;
+            return false;
         }
 
+        String root = command.root();
         if (regionCommands.matches(root)) {
-            event.setCancelled(true);
             regionService.openRegionList(player, false, 1);
-        } else if (adminCommands.matches(root)) {
-            event.setCancelled(true);
+            return true;
+        }
+        if (adminCommands.matches(root)) {
             regionService.openRegionList(player, true, 1);
+            return true;
         }
+        return false;
     }
 }
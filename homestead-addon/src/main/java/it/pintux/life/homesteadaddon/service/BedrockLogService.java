@@ -33,21 +33,20 @@ public final class BedrockLogService {
         if (region == null) {
             return;
         }
-        List<LogView> logs = gateway.logs(regionId);
+        int total = gateway.logCount(regionId);
         boolean manage = canManage(player, regionId);
 
         int perPage = config.itemsPerPage();
-        int totalPages = Math.max(1, (int) Math.ceil((double) logs.size() / perPage));
+        int totalPages = Math.max(1, (int) Math.ceil((double) total / perPage));
         int current = Math.max(1, Math.min(page, totalPages));
-        int start = (current - 1) * perPage;
-        int end = Math.min(start + perPage, logs.size());
+        // Newest first; only the visible page is read from Homestead.
+        List<LogView> logs = gateway.logs(regionId, (current - 1) * perPage, perPage);
 
         StringBuilder content = new StringBuilder();
         if (logs.isEmpty()) {
             content.append(config.text("logs.empty"));
         } else {
-            for (int i = start; i < end; i++) {
-                LogView log = logs.get(i);
+            for (LogView log : logs) {
                 content.append(config.apply(config.text("logs.line"), Map.of(
                         "date", Formatting.date(log.sentAt()),
                         "author", log.author() == null ? "?" : log.author(),
@@ -67,7 +66,7 @@ public final class BedrockLogService {
             int next = current + 1;
             form.button(config.text("common.next-button"), fp -> openLogs(player, regionId, next));
         }
-        if (manage && !logs.isEmpty()) {
+        if (manage && total > 0) {
             form.button(config.text("logs.button-mark-read"), fp -> {
                 gateway.markLogsRead(regionId);
                 player.sendMessage(config.text("logs.marked-read"));
@@ -42,17 +42,20 @@ public final class BedrockRegionService {
                 || player.hasPermission("homestead.commands.homesteadadmin");
         boolean all = showAll && canShowAll;
 
-        List<RegionView> regions = all ? gateway.allRegions() : gateway.regionsFor(player);
-        if (regions.isEmpty() && !all) {
+        int perPage = config.itemsPerPage();
+        int total = all ? gateway.regionCount() : gateway.regionCountFor(player);
+        if (total == 0 && !all) {
             player.sendMessage(config.text("region.list.empty"));
             return;
         }
 
-        int perPage = config.itemsPerPage();
-        int totalPages = Math.max(1, (int) Math.ceil((double) regions.size() / perPage));
+        int totalPages = Math.max(1, (int) Math.ceil((double) total / perPage));
         int current = Math.max(1, Math.min(page, totalPages));
-        int start = (current - 1) * perPage;
-        int end = Math.min(start + perPage, regions.size());
+        // Only the visible page is converted; the full region list can be thousands long.
+        int offset = (current - 1) * perPage;
+        List<RegionView> regions = all
+                ? gateway.allRegions(offset, perPage)
+                : gateway.regionsFor(player, offset, perPage);
 
         BedrockGUIApi.SimpleFormBuilder form = api.createSimpleForm(
                 all ? config.text("region.list.all-title") : config.text("region.list.title"));
@@ -66,8 +69,7 @@ public final class BedrockRegionService {
         form.button(config.text("region.list.button-top"), fp -> openTopRegions(player, "BANK"));
         form.button(config.text("region.list.button-welcome"), fp -> openWelcomeSigns(player, 1));
 
-        for (int i = start; i < end; i++) {
-            RegionView region = regions.get(i);
+        for (RegionView region : regions) {
             form.button(config.apply(config.text("region.list.button"), placeholders(region)),
                     fp -> openRegionMenu(player, region.id()));
         }
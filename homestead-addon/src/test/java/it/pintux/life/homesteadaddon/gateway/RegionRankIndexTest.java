@@ -0,0 +1,67 @@
+package it.pintux.life.homesteadaddon.gateway;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RegionRankIndexTest {
+
+    private static RegionRankIndex.Keys keys(long id, double bank, int members, double rating, long createdAt) {
+        return new RegionRankIndex.Keys(id, bank, 1, members, rating, createdAt);
+    }
+
+    @Test
+    void pagesFollowEachOrdering() {
+        RegionRankIndex index = new RegionRankIndex();
+        index.put(keys(1, 50, 3, 4.5, 300));
+        index.put(keys(2, 900, 1, 2.0, 100));
+        index.put(keys(3, 200, 7, 3.0, 200));
+
+        assertEquals(List.of(2L, 3L, 1L), index.page(RegionRankIndex.Order.BANK, 0, 10));
+        assertEquals(List.of(3L, 1L, 2L), index.page(RegionRankIndex.Order.MEMBERS_COUNT, 0, 10));
+        assertEquals(List.of(1L, 3L, 2L), index.page(RegionRankIndex.Order.RATING, 0, 10));
+        assertEquals(List.of(2L, 3L, 1L), index.page(RegionRankIndex.Order.CREATION_DATE, 0, 10));
+    }
+
+    @Test
+    void pageReadsFromOffset() {
+        RegionRankIndex index = new RegionRankIndex();
+        for (long id = 1; id <= 5; id++) {
+            index.put(keys(id, id * 10, 0, 0, id));
+        }
+        assertEquals(List.of(3L, 2L), index.page(RegionRankIndex.Order.BANK, 2, 2));
+        assertEquals(List.of(), index.page(RegionRankIndex.Order.BANK, 5, 2));
+    }
+
+    @Test
+    void putReplacesAndRemoveDrops() {
+        RegionRankIndex index = new RegionRankIndex();
+        index.put(keys(1, 100, 0, 0, 1));
+        index.put(keys(2, 200, 0, 0, 2));
+        index.put(keys(1, 300, 0, 0, 1));
+
+        assertEquals(2, index.size());
+        assertEquals(List.of(1L, 2L), index.page(RegionRankIndex.Order.BANK, 0, 10));
+
+        index.remove(1);
+        assertEquals(List.of(2L), index.page(RegionRankIndex.Order.BANK, 0, 10));
+    }
+
+    @Test
+    void tiesKeepDistinctRegions() {
+        RegionRankIndex index = new RegionRankIndex();
+        index.put(keys(7, 100, 0, 0, 1));
+        index.put(keys(4, 100, 0, 0, 1));
+
+        assertEquals(List.of(4L, 7L), index.page(RegionRankIndex.Order.BANK, 0, 10));
+    }
+
+    @Test
+    void unknownSortingFallsBackToBank() {
+        assertEquals(RegionRankIndex.Order.BANK, RegionRankIndex.Order.of("NOPE"));
+        assertEquals(RegionRankIndex.Order.BANK, RegionRankIndex.Order.of(null));
+        assertEquals(RegionRankIndex.Order.RATING, RegionRankIndex.Order.of("RATING"));
+    }
+}
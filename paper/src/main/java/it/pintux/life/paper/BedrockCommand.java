@@ -170,8 +170,13 @@ public class BedrockCommand implements CommandExecutor, TabCompleter {
                 sender.sendMessage(plugin.getMessageData().getValue(MessageData.NO_PEX, null, null));
                 return true;
             }
-            plugin.reloadData();
-            sender.sendMessage(plugin.getMessageData().getValue(MessageData.COMMAND_RELOAD_SUCCESS, null, null));
+            plugin.reloadDataAsync().whenComplete((ignored, error) -> {
+                if (error == null) {
+                    sender.sendMessage(plugin.getMessageData().getValue(MessageData.COMMAND_RELOAD_SUCCESS, null, null));
+                } else {
+                    sender.sendMessage(plugin.getMessageData().getValue(MessageData.COMMAND_RELOAD_FAILED, null, null));
+                }
+            });
             return true;
         }
 
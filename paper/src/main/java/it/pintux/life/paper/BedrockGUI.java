@@ -1,25 +1,34 @@
 package it.pintux.life.paper;
 
 import it.pintux.life.common.api.BedrockGUIApi;
+import it.pintux.life.common.api.CommandDispatcher;
 import it.pintux.life.common.utils.AssetServer;
+import it.pintux.life.common.utils.FormFileCache;
 import it.pintux.life.common.utils.FormSender;
 import it.pintux.life.paper.placeholders.BedrockGUIExpansion;
 import it.pintux.life.paper.platform.*;
 
+import it.pintux.life.common.form.CommandRouter;
 import it.pintux.life.common.form.FormMenuUtil;
+import it.pintux.life.common.utils.BedrockPlayerRegistry;
 import it.pintux.life.common.utils.MessageConfig;
 import it.pintux.life.common.utils.MessageData;
+import it.pintux.life.common.utils.PlaceholderUtil;
 import it.pintux.life.paper.utils.PaperConfig;
 import it.pintux.life.paper.utils.PaperPlayer;
 import it.pintux.life.paper.utils.PaperMessageConfig;
+import it.pintux.life.paper.utils.PapiBridge;
 import org.bukkit.Bukkit;
 import org.bukkit.command.CommandSender;
 import org.bukkit.command.PluginCommand;
+import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerCommandPreprocessEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
 
 import org.bukkit.event.server.ServerCommandEvent;
 import org.bukkit.event.server.ServerLoadEvent;
@@ -29,7 +38,9 @@ import org.jetbrains.annotations.NotNull;
 
 import java.io.File;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 public final class BedrockGUI extends JavaPlugin implements Listener {
 
@@ -37,7 +48,9 @@ public final class BedrockGUI extends JavaPlugin implements Listener {
     private MessageData messageData;
     private BedrockGUIApi api;
     private AssetServer assetServer;
+    private PaperJavaMenuManager javaMenuManager;
     private PaperPlayerChecker playerChecker;
+    private PapiBridge papiBridge;
 
     @Override
     public void onEnable() {
@@ -46,9 +59,14 @@ public final class BedrockGUI extends JavaPlugin implements Listener {
         cmd.setExecutor(executor);
         cmd.setTabCompleter(executor);
         getServer().getPluginManager().registerEvents(this, this);
+        CommandDispatcher.shared().registerCatchAll(this, CommandDispatcher.Priority.HIGHEST, this::routeMenuCommand);
+        for (Player online : Bukkit.getOnlinePlayers()) {
+            BedrockPlayerRegistry.join(online.getUniqueId());
+        }
         boolean freshInstall = !new File(getDataFolder(), "config.yml").exists();
         saveDefaultConfig();
         this.saveResource("messages.yml", false);
+        PlaceholderUtil.setPlaceholderProvider(new PaperPlaceholderProvider());
         if (freshInstall) {
             int extracted = it.pintux.life.common.utils.DefaultFormsExtractor.extract(getDataFolder(), getLogger()::warning);
             getLogger().info("First run: extracted " + extracted + " default form file(s) to forms/");
@@ -59,6 +77,9 @@ public final class BedrockGUI extends JavaPlugin implements Listener {
 
     @Override
     public void onDisable() {
+        BedrockPlayerRegistry.clear();
+        FormFileCache.clear();
+        CommandDispatcher.shared().unregisterAll(this);
         if (api != null) {
             try {
                 api.shutdown();
@@ -78,7 +99,9 @@ public final class BedrockGUI extends JavaPlugin implements Listener {
         reloadConfig();
 
         File dataFolder = getDataFolder();
-        MessageConfig configHandler = new PaperMessageConfig(dataFolder, "messages.yml");
+        PaperConfig paperConfig = new PaperConfig(dataFolder, getConfig());
+        papiBridge = PapiBridge.fromConfig(paperConfig);
+        MessageConfig configHandler = new PaperMessageConfig(dataFolder, "messages.yml", papiBridge);
         messageData = new MessageData(configHandler);
 
         if (api != null) {
@@ -101,20 +124,13 @@ public final class BedrockGUI extends JavaPlugin implements Listener {
         PaperTitleManager titleManager = new PaperTitleManager();
         PaperPluginManager pluginManager = new PaperPluginManager();
         PaperPlayerManager playerManager = new PaperPlayerManager(this);
-        PaperConfig paperConfig = new PaperConfig(getDataFolder(), getConfig());
-        if (assetServer != null) {
-            assetServer.shutdown();
-        }
-        assetServer = AssetServer.fromConfig(paperConfig, org.bukkit.Bukkit.getIp(), 8191, getDataFolder());
-        if (assetServer != null) {
-            assetServer.start();
-        }
+        restartAssetServer(paperConfig);
 
         api = new BedrockGUIApi(paperConfig, messageData, commandExecutor, soundManager, economyManager, formSender, titleManager, pluginManager, playerManager, new it.pintux.life.paper.platform.PaperScheduler(this));
 
         formMenuUtil = api.getFormMenuUtil();
         formMenuUtil.setAssetServer(assetServer);
-        PaperJavaMenuManager javaMenuManager = new PaperJavaMenuManager(this, messageData);
+        javaMenuManager = new PaperJavaMenuManager(this, messageData);
         getServer().getPluginManager().registerEvents(javaMenuManager, this);
         formMenuUtil.setJavaMenuManager(javaMenuManager);
         playerChecker = new PaperPlayerChecker();
@@ -126,7 +142,54 @@ public final class BedrockGUI extends JavaPlugin implements Listener {
             getLogger().warning("PlaceholderAPI not found. Placeholder features disabled.");
         }
         getLogger().info("Loaded and enabled");
+        registerFormCommands();
+    }
+
+    /**
+     * What {@code /bedrockgui reload} runs: the config and messages are read fresh, the menus are built
+     * from them off the main thread, and only once that succeeds are the config, messages, asset server
+     * and form commands swapped on the main thread. Before the first load this is {@link #reloadData()}.
+     *
+     * @return completes on the main thread after the new menus are live, or exceptionally when they
+     * could not be built (the old config, messages and menus then all stay loaded)
+     */
+    public CompletableFuture<Void> reloadDataAsync() {
+        if (api == null) {
+            reloadData();
+            return CompletableFuture.completedFuture(null);
+        }
+        File dataFolder = getDataFolder();
+        YamlConfiguration freshConfig = YamlConfiguration.loadConfiguration(new File(dataFolder, "config.yml"));
+        if (getConfig().getDefaults() != null) {
+            freshConfig.setDefaults(getConfig().getDefaults());
+        }
+        PaperConfig paperConfig = new PaperConfig(dataFolder, freshConfig);
+        PapiBridge freshPapiBridge = PapiBridge.fromConfig(paperConfig);
+        MessageData freshMessageData = new MessageData(new PaperMessageConfig(dataFolder, "messages.yml", freshPapiBridge));
+        return api.reloadConfigurationAsync(paperConfig, freshMessageData).thenRun(() -> {
+            reloadConfig();
+            papiBridge = freshPapiBridge;
+            messageData = freshMessageData;
+            if (javaMenuManager != null) {
+                javaMenuManager.setMessageData(messageData);
+            }
+            restartAssetServer(paperConfig);
+            formMenuUtil.setAssetServer(assetServer);
+            registerFormCommands();
+        });
+    }
 
+    private void restartAssetServer(PaperConfig paperConfig) {
+        if (assetServer != null) {
+            assetServer.shutdown();
+        }
+        assetServer = AssetServer.fromConfig(paperConfig, org.bukkit.Bukkit.getIp(), 8191, getDataFolder());
+        if (assetServer != null) {
+            assetServer.start();
+        }
+    }
+
+    private void registerFormCommands() {
         try {
             org.bukkit.command.SimpleCommandMap commandMap = (org.bukkit.command.SimpleCommandMap)
                     org.bukkit.Bukkit.getServer().getClass().getMethod("getCommandMap").invoke(org.bukkit.Bukkit.getServer());
@@ -153,6 +216,7 @@ public final class BedrockGUI extends JavaPlugin implements Listener {
 
     @EventHandler(priority = EventPriority.HIGHEST)
     public void onCmd(ServerCommandEvent event) {
+        if (event.isCancelled()) return;
         String command = event.getCommand();
 
         Player senderPlayer = event.getSender() instanceof Player ? (Player) event.getSender() : null;
@@ -165,27 +229,19 @@ public final class BedrockGUI extends JavaPlugin implements Listener {
             return;
         }
 
-        PaperPlayer paperPlayer = new PaperPlayer(targetPlayer);
-
-        formMenuUtil.getFormMenus().forEach((key, formMenu) -> {
-            if (event.isCancelled()) return;
-
-            String intercept = formMenu.getCommandIntercept();
-            if (intercept != null && matchesInterceptPattern(command.toLowerCase(), intercept.toLowerCase())) {
-                event.setCancelled(true);
-                String[] parts = command.split(" ");
-                String[] args = Arrays.copyOfRange(parts, 1, parts.length);
-                api.openMenu(paperPlayer, key, args);
-                return;
-            }
+        CommandRouter router = formMenuUtil.getCommandRouter();
+        String key = router.matchIntercept(command);
+        if (key == null) {
+            key = router.matchCommandPrefix(command);
+        }
+        if (key == null) {
+            return;
+        }
 
-            if (formMenu.getFormCommand() != null && command.startsWith(formMenu.getFormCommand())) {
-                event.setCancelled(true);
-                String[] parts = command.split(" ");
-                String[] args = Arrays.copyOfRange(parts, 1, parts.length);
-                api.openMenu(paperPlayer, key, args);
-            }
-        });
+        event.setCancelled(true);
+        String[] parts = command.split(" ");
+        String[] args = Arrays.copyOfRange(parts, 1, parts.length);
+        api.openMenu(new PaperPlayer(targetPlayer), key, args);
     }
 
     private Player findTargetPlayerFromCommand(String commandLine) {
@@ -198,72 +254,95 @@ public final class BedrockGUI extends JavaPlugin implements Listener {
         return null;
     }
 
-    @EventHandler(priority = EventPriority.HIGHEST)
+    // One listener per priority so dispatched handlers keep their place among other plugins' listeners.
+    @EventHandler(priority = EventPriority.LOWEST, ignoreCancelled = true)
+    public void onCommandLowest(PlayerCommandPreprocessEvent event) {
+        dispatchCommand(CommandDispatcher.Priority.LOWEST, event);
+    }
+
+    @EventHandler(priority = EventPriority.LOW, ignoreCancelled = true)
+    public void onCommandLow(PlayerCommandPreprocessEvent event) {
+        dispatchCommand(CommandDispatcher.Priority.LOW, event);
+    }
+
+    @EventHandler(priority = EventPriority.NORMAL, ignoreCancelled = true)
+    public void onCommandNormal(PlayerCommandPreprocessEvent event) {
+        dispatchCommand(CommandDispatcher.Priority.NORMAL, event);
+    }
+
+    @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
+    public void onCommandHigh(PlayerCommandPreprocessEvent event) {
+        dispatchCommand(CommandDispatcher.Priority.HIGH, event);
+    }
+
+    @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
     public void onPlayerPreprocessCommand(PlayerCommandPreprocessEvent event) {
+        dispatchCommand(CommandDispatcher.Priority.HIGHEST, event);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onCommandMonitor(PlayerCommandPreprocessEvent event) {
+        // Observers only: MONITOR must not change the outcome.
         Player player = event.getPlayer();
+        CommandDispatcher.shared().dispatch(CommandDispatcher.Priority.MONITOR, player, player.getUniqueId(), event.getMessage());
+    }
 
-        if (!playerChecker.isBedrockPlayer(player.getUniqueId())) {
-            return;
+    private void dispatchCommand(CommandDispatcher.Priority priority, PlayerCommandPreprocessEvent event) {
+        Player player = event.getPlayer();
+        if (CommandDispatcher.shared().dispatch(priority, player, player.getUniqueId(), event.getMessage())) {
+            event.setCancelled(true);
         }
-        String message = event.getMessage();
-
-        String commandWithoutSlash = message.substring(1).toLowerCase();
+    }
 
-        String[] parts = commandWithoutSlash.split(" ");
-        String commandName = parts[0];
-        String[] args = Arrays.copyOfRange(parts, 1, parts.length);
+    /** Opens {@code command_intercept} and {@code command} menus for Bedrock players. */
+    private boolean routeMenuCommand(CommandDispatcher.Command command) {
+        if (!command.bedrock() || formMenuUtil == null) {
+            return false;
+        }
+        Player player = command.player(Player.class);
+        if (player == null) {
+            return false;
+        }
+        String[] args = new String[command.args().length];
+        for (int i = 0; i < args.length; i++) {
+            args[i] = command.args()[i].toLowerCase();
+        }
 
-        formMenuUtil.getFormMenus().forEach((key, formMenu) -> {
-            if (event.isCancelled()) return;
+        CommandRouter router = formMenuUtil.getCommandRouter();
+        String interceptKey = router.matchIntercept(command.line().toLowerCase());
+        if (interceptKey != null) {
+            api.openMenu(new PaperPlayer(player), interceptKey, args);
+            return true;
+        }
 
-            String intercept = formMenu.getCommandIntercept();
-            if (intercept != null && matchesInterceptPattern(commandWithoutSlash, intercept.toLowerCase())) {
-                event.setCancelled(true);
-                PaperPlayer player1 = new PaperPlayer(event.getPlayer());
-                api.openMenu(player1, key, args);
-                return;
+        List<CommandRouter.Route> routes = router.matchCommand(command.root());
+        if (routes.isEmpty()) {
+            return false;
+        }
+        for (CommandRouter.Route route : routes) {
+            if (args.length >= route.requiredArgs()) {
+                api.openMenu(new PaperPlayer(player), route.menuName(), args);
+                return true;
             }
+        }
+        int requiredArgs = routes.get(routes.size() - 1).requiredArgs();
+        player.sendMessage(messageData.getValue(MessageData.MENU_ARGS, Map.of("args", requiredArgs), null));
+        return false;
+    }
 
-            String formCommand = formMenu.getFormCommand();
-            if (formCommand != null) {
-                String[] formCommandParts = formCommand.split(" ");
-                String baseCommand = formCommandParts[0];
-
-                if (commandName.equalsIgnoreCase(baseCommand)) {
-                    int requiredArgs = formCommandParts.length - 1;
-                    if (args.length >= requiredArgs) {
-                        event.setCancelled(true);
-                        PaperPlayer player1 = new PaperPlayer(event.getPlayer());
-                        api.openMenu(player1, key, args);
-                    } else {
-                        player.sendMessage(messageData.getValue(MessageData.MENU_ARGS, Map.of("args", requiredArgs), null));
-                    }
-                }
-            }
-        });
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onJoin(PlayerJoinEvent event) {
+        BedrockPlayerRegistry.join(event.getPlayer().getUniqueId());
     }
 
-    private boolean matchesInterceptPattern(String command, String pattern) {
-        if (pattern == null || pattern.isEmpty()) return false;
-        String p = pattern.trim().toLowerCase();
-        boolean leadingWildcard = p.startsWith("%");
-        boolean trailingWildcard = p.endsWith("%");
-
-        String core = p;
-        if (leadingWildcard) core = core.substring(1).trim();
-        if (trailingWildcard) core = core.substring(0, core.length() - 1).trim();
-
-        if (core.isEmpty()) return false;
-
-        String c = command.trim().toLowerCase();
-        if (leadingWildcard && trailingWildcard) {
-            return c.contains(core);
-        } else if (trailingWildcard) {
-            return c.startsWith(core);
-        } else if (leadingWildcard) {
-            return c.endsWith(core);
-        } else {
-            return c.equals(core);
+    @EventHandler
+    public void onQuit(PlayerQuitEvent event) {
+        BedrockPlayerRegistry.quit(event.getPlayer().getUniqueId());
+        if (formMenuUtil != null) {
+            formMenuUtil.invalidatePlayer(event.getPlayer().getUniqueId());
+        }
+        if (papiBridge != null) {
+            papiBridge.invalidate(event.getPlayer().getUniqueId());
         }
     }
 
@@ -6,6 +6,7 @@ import it.pintux.life.common.form.obj.*;
 import it.pintux.life.common.platform.PlatformJavaMenuManager;
 import it.pintux.life.common.utils.FormPlayer;
 import it.pintux.life.common.utils.MessageData;
+import it.pintux.life.common.utils.PlaceholderTemplate;
 import it.pintux.life.paper.utils.PaperPlayer;
 import org.bukkit.Bukkit;
 import org.bukkit.Material;
@@ -27,7 +28,7 @@ import java.util.concurrent.ConcurrentHashMap;
 
 public class PaperJavaMenuManager implements PlatformJavaMenuManager, Listener {
     private final org.bukkit.plugin.java.JavaPlugin plugin;
-    private final MessageData messageData;
+    private volatile MessageData messageData;
 
     private static class Session {
         final UUID playerId;
@@ -35,24 +36,135 @@ public class PaperJavaMenuManager implements PlatformJavaMenuManager, Listener {
         final Map<Integer, java.util.List<ActionSystem.Action>> actions;
         final Map<String, String> placeholders;
         final FormMenuUtil util;
+        final CompiledMenu menu;
+        final FormPlayer player;
 
         Session(UUID playerId, Inventory inv, Map<Integer, java.util.List<ActionSystem.Action>> actions,
-                Map<String, String> placeholders, FormMenuUtil util) {
+                Map<String, String> placeholders, FormMenuUtil util, CompiledMenu menu, FormPlayer player) {
             this.playerId = playerId;
             this.inventory = inv;
             this.actions = actions;
             this.placeholders = placeholders;
             this.util = util;
+            this.menu = menu;
+            this.player = player;
+        }
+    }
+
+    /**
+     * An item with its Material resolved and its static name and lore rendered into a prototype stack.
+     * Only placeholder-bearing text is rendered again when the item is placed.
+     */
+    private final class CompiledItem {
+        final JavaMenuItem source;
+        final ItemStack prototype;
+        final boolean dynamicName;
+        final boolean[] dynamicLore;
+        final boolean dynamic;
+
+        CompiledItem(JavaMenuItem source) {
+            this.source = source;
+            Material mat = source.getMaterial() != null ? Material.matchMaterial(source.getMaterial()) : null;
+            if (mat == null) {
+                mat = Material.STONE;
+            }
+            ItemStack stack = new ItemStack(mat, Math.max(1, source.getAmount()));
+            ItemMeta meta = stack.getItemMeta();
+
+            this.dynamicName = source.getName() != null && hasPlaceholders(source.getName());
+            List<String> lore = source.getLore();
+            this.dynamicLore = new boolean[lore != null ? lore.size() : 0];
+            boolean anyDynamic = dynamicName;
+            for (int i = 0; i < dynamicLore.length; i++) {
+                dynamicLore[i] = hasPlaceholders(lore.get(i));
+                anyDynamic |= dynamicLore[i];
+            }
+            this.dynamic = anyDynamic && meta != null;
+
+            if (meta != null) {
+                if (source.getName() != null && !dynamicName) {
+                    meta.setDisplayName(renderText(source.getName(), null, null));
+                }
+                if (dynamicLore.length > 0) {
+                    List<String> colored = new ArrayList<>(dynamicLore.length);
+                    for (int i = 0; i < dynamicLore.length; i++) {
+                        colored.add(dynamicLore[i] ? "" : renderText(lore.get(i), null, null));
+                    }
+                    meta.setLore(colored);
+                }
+                if (source.isGlow()) {
+                    meta.addEnchant(Enchantment.LUCK, 1, true);
+                    meta.addItemFlags(ItemFlag.HIDE_ENCHANTS);
+                }
+                stack.setItemMeta(meta);
+            }
+            this.prototype = stack;
+        }
+
+        boolean isEmpty() {
+            return prototype.getType() == Material.AIR;
+        }
+
+        ItemStack render(FormPlayer player, Map<String, String> placeholders) {
+            ItemStack stack = prototype.clone();
+            if (!dynamic) {
+                return stack;
+            }
+            ItemMeta meta = stack.getItemMeta();
+            if (dynamicName) {
+                meta.setDisplayName(renderText(source.getName(), player, placeholders));
+            }
+            if (dynamicLore.length > 0) {
+                List<String> lore = new ArrayList<>(meta.getLore());
+                for (int i = 0; i < dynamicLore.length; i++) {
+                    if (dynamicLore[i]) {
+                        lore.set(i, renderText(source.getLore().get(i), player, placeholders));
+                    }
+                }
+                meta.setLore(lore);
+            }
+            stack.setItemMeta(meta);
+            return stack;
+        }
+    }
+
+    /**
+     * A menu definition laid out once: which compiled item and which actions each slot gets,
+     * with the fill passes already applied.
+     */
+    private static final class CompiledMenu {
+        final int size;
+        final CompiledItem[] items;
+        final Map<Integer, java.util.List<ActionSystem.Action>> actions;
+
+        CompiledMenu(int size, CompiledItem[] items, Map<Integer, java.util.List<ActionSystem.Action>> actions) {
+            this.size = size;
+            this.items = items;
+            this.actions = actions;
         }
     }
 
     private final Map<UUID, Session> sessions = new ConcurrentHashMap<>();
+    private final Map<JavaMenuDefinition, CompiledMenu> compiledMenus = Collections.synchronizedMap(new WeakHashMap<>());
 
     public PaperJavaMenuManager(org.bukkit.plugin.java.JavaPlugin plugin, MessageData messageData) {
         this.plugin = plugin;
         this.messageData = messageData;
     }
 
+    /** Used by the reload command, which keeps this listener and only swaps the messages. */
+    public void setMessageData(MessageData messageData) {
+        this.messageData = messageData;
+    }
+
+    @Override
+    public void precompile(FormMenu menu) {
+        JavaMenuDefinition jdef = menu.getJavaMenu();
+        if (jdef != null) {
+            compiled(jdef);
+        }
+    }
+
     @Override
     public void openJavaMenu(FormPlayer player, FormMenu menu, Map<String, String> placeholders, FormMenuUtil util) {
         if (!(player instanceof PaperPlayer)) {
@@ -67,9 +179,7 @@ public class PaperJavaMenuManager implements PlatformJavaMenuManager, Listener {
         String title = renderText(jdef.getTitle(), player, placeholders);
         Inventory inv;
         if (jdef.getType() == JavaMenuType.CHEST) {
-            int size = Math.max(9, Math.min(jdef.getSize() <= 0 ? 9 : jdef.getSize(), 54));
-            size = ((size + 8) / 9) * 9;
-            inv = Bukkit.createInventory((InventoryHolder) null, size, title);
+            inv = Bukkit.createInventory((InventoryHolder) null, chestSize(jdef), title);
         } else if (jdef.getType() == JavaMenuType.ANVIL) {
             inv = Bukkit.createInventory((InventoryHolder) null, org.bukkit.event.inventory.InventoryType.ANVIL, title);
         } else if (jdef.getType() == JavaMenuType.CRAFTING || jdef.getType() == JavaMenuType.WORKBENCH) {
@@ -84,13 +194,92 @@ public class PaperJavaMenuManager implements PlatformJavaMenuManager, Listener {
             }
         }
 
+        CompiledMenu compiled = compiled(jdef);
+        if (compiled == null || compiled.size != inv.getSize()) {
+            compiled = layout(jdef, inv.getSize());
+        }
+        ItemStack[] contents = new ItemStack[inv.getSize()];
+        for (int slot = 0; slot < contents.length; slot++) {
+            CompiledItem item = compiled.items[slot];
+            if (item != null) {
+                contents[slot] = item.render(player, placeholders);
+            }
+        }
+        inv.setContents(contents);
+
+        bukkitPlayer.openInventory(inv);
+        sessions.put(bukkitPlayer.getUniqueId(), new Session(bukkitPlayer.getUniqueId(), inv, compiled.actions, placeholders, util, compiled, player));
+    }
+
+    /**
+     * Re-renders the placeholder-bearing slots of the player's open menu and sets only the stacks
+     * that changed. Call it from the thread that owns the player.
+     */
+    @Override
+    public boolean refreshJavaMenu(FormPlayer player) {
+        if (player == null) return false;
+        Session session = sessions.get(player.getUniqueId());
+        if (session == null) return false;
+
+        CompiledItem[] items = session.menu.items;
+        int size = Math.min(items.length, session.inventory.getSize());
+        for (int slot = 0; slot < size; slot++) {
+            CompiledItem item = items[slot];
+            if (item == null || !item.dynamic) {
+                continue;
+            }
+            ItemStack fresh = item.render(session.player, session.placeholders);
+            if (!fresh.equals(session.inventory.getItem(slot))) {
+                session.inventory.setItem(slot, fresh);
+            }
+        }
+        return true;
+    }
+
+    private CompiledMenu compiled(JavaMenuDefinition jdef) {
+        CompiledMenu compiled = compiledMenus.get(jdef);
+        if (compiled == null) {
+            int size = inventorySize(jdef);
+            if (size <= 0) {
+                return null;
+            }
+            compiled = layout(jdef, size);
+            compiledMenus.put(jdef, compiled);
+        }
+        return compiled;
+    }
+
+    private static int chestSize(JavaMenuDefinition jdef) {
+        int size = Math.max(9, Math.min(jdef.getSize() <= 0 ? 9 : jdef.getSize(), 54));
+        return ((size + 8) / 9) * 9;
+    }
+
+    /** @return the slot count of the inventory this definition opens, or -1 when it opens no inventory */
+    private static int inventorySize(JavaMenuDefinition jdef) {
+        if (jdef.getType() == JavaMenuType.CHEST) {
+            return chestSize(jdef);
+        }
+        if (jdef.getType() == JavaMenuType.CRAFTING || jdef.getType() == JavaMenuType.WORKBENCH) {
+            return -1;
+        }
+        try {
+            return org.bukkit.event.inventory.InventoryType.valueOf(jdef.getType().name()).getDefaultSize();
+        } catch (Exception e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Places the items, then runs the fill passes over the slots still empty, as opening used to.
+     */
+    private CompiledMenu layout(JavaMenuDefinition jdef, int size) {
+        CompiledItem[] items = new CompiledItem[size];
         Map<Integer, java.util.List<ActionSystem.Action>> actions = new HashMap<>();
         for (Map.Entry<Integer, JavaMenuItem> e : jdef.getItems().entrySet()) {
             int slot = e.getKey();
             JavaMenuItem item = e.getValue();
-            ItemStack stack = buildItem(item, player, placeholders);
-            if (slot >= 0 && slot < inv.getSize()) {
-                inv.setItem(slot, stack);
+            if (slot >= 0 && slot < size) {
+                items[slot] = new CompiledItem(item);
             }
             if (item.getActions() != null && !item.getActions().isEmpty()) {
                 actions.put(slot, item.getActions());
@@ -98,81 +287,43 @@ public class PaperJavaMenuManager implements PlatformJavaMenuManager, Listener {
         }
 
         if (jdef.getType() == JavaMenuType.CHEST && jdef.getFills() != null && !jdef.getFills().isEmpty()) {
-            int rows = inv.getSize() / 9;
+            int rows = size / 9;
             for (JavaMenuFill fill : jdef.getFills()) {
-                ItemStack stack = buildItem(fill.getItem(), player, placeholders);
+                CompiledItem fillItem = new CompiledItem(fill.getItem());
                 java.util.List<ActionSystem.Action> fActions = fill.getActions();
+                List<Integer> slots = new ArrayList<>();
                 switch (fill.getType()) {
                     case EMPTY -> {
-                        for (int slot = 0; slot < inv.getSize(); slot++) {
-                            ItemStack existing = inv.getItem(slot);
-                            if (existing == null || existing.getType() == Material.AIR) {
-                                inv.setItem(slot, stack);
-                                if (fActions != null && !fActions.isEmpty()) actions.put(slot, fActions);
-                            }
-                        }
+                        for (int slot = 0; slot < size; slot++) slots.add(slot);
                     }
                     case ROW -> {
                         int row = fill.getRow() != null ? fill.getRow() : 1;
                         if (row < 1) row = 1;
                         if (row > rows) row = rows;
                         int start = (row - 1) * 9;
-                        for (int slot = start; slot < start + 9; slot++) {
-                            ItemStack existing = inv.getItem(slot);
-                            if (existing == null || existing.getType() == Material.AIR) {
-                                inv.setItem(slot, stack);
-                                if (fActions != null && !fActions.isEmpty()) actions.put(slot, fActions);
-                            }
-                        }
+                        for (int slot = start; slot < start + 9; slot++) slots.add(slot);
                     }
                     case COLUMN -> {
                         int col = fill.getColumn() != null ? fill.getColumn() : 1;
                         if (col < 1) col = 1;
                         if (col > 9) col = 9;
                         int base = col - 1;
-                        for (int r = 0; r < rows; r++) {
-                            int slot = base + r * 9;
-                            ItemStack existing = inv.getItem(slot);
-                            if (existing == null || existing.getType() == Material.AIR) {
-                                inv.setItem(slot, stack);
-                                if (fActions != null && !fActions.isEmpty()) actions.put(slot, fActions);
-                            }
-                        }
+                        for (int r = 0; r < rows; r++) slots.add(base + r * 9);
+                    }
+                }
+                for (int slot : slots) {
+                    if (items[slot] == null || items[slot].isEmpty()) {
+                        items[slot] = fillItem;
+                        if (fActions != null && !fActions.isEmpty()) actions.put(slot, fActions);
                     }
                 }
             }
         }
-
-        bukkitPlayer.openInventory(inv);
-        sessions.put(bukkitPlayer.getUniqueId(), new Session(bukkitPlayer.getUniqueId(), inv, actions, placeholders, util));
+        return new CompiledMenu(size, items, actions);
     }
 
-    private ItemStack buildItem(JavaMenuItem item, FormPlayer player, Map<String, String> placeholders) {
-        Material mat;
-        try {
-            mat = Material.valueOf(item.getMaterial().toUpperCase());
-        } catch (Exception e) {
-            mat = Material.STONE;
-        }
-        ItemStack stack = new ItemStack(mat, Math.max(1, item.getAmount()));
-        ItemMeta meta = stack.getItemMeta();
-        if (meta != null) {
-            if (item.getName() != null) {
-                String name = renderText(item.getName(), player, placeholders);
-                meta.setDisplayName(name);
-            }
-            if (item.getLore() != null && !item.getLore().isEmpty()) {
-                List<String> colored = new ArrayList<>();
-                for (String line : item.getLore()) colored.add(renderText(line, player, placeholders));
-                meta.setLore(colored);
-            }
-            if (item.isGlow()) {
-                meta.addEnchant(Enchantment.LUCK, 1, true);
-                meta.addItemFlags(ItemFlag.HIDE_ENCHANTS);
-            }
-            stack.setItemMeta(meta);
-        }
-        return stack;
+    private static boolean hasPlaceholders(String text) {
+        return text.indexOf('%') >= 0 || PlaceholderTemplate.of(text).hasPlaceholders();
     }
 
     private String renderText(String text, FormPlayer player, Map<String, String> placeholders) {
@@ -0,0 +1,42 @@
+package it.pintux.life.paper.platform;
+
+import it.pintux.life.common.platform.PlatformPlaceholderProvider;
+import it.pintux.life.common.utils.FormPlayer;
+import it.pintux.life.paper.utils.PaperPlayer;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+
+public class PaperPlaceholderProvider implements PlatformPlaceholderProvider {
+
+    @Override
+    public String resolve(FormPlayer player, String key) {
+        if (!(player instanceof PaperPlayer)) {
+            return null;
+        }
+        Player bukkitPlayer = ((PaperPlayer) player).getBukkitPlayer();
+        if (bukkitPlayer == null) {
+            return null;
+        }
+
+        switch (key) {
+            case "x":
+                return String.format("%.2f", bukkitPlayer.getLocation().getX());
+            case "y":
+                return String.format("%.2f", bukkitPlayer.getLocation().getY());
+            case "z":
+                return String.format("%.2f", bukkitPlayer.getLocation().getZ());
+            case "world": {
+                Location location = bukkitPlayer.getLocation();
+                World world = location.getWorld();
+                return world != null ? world.getName() : null;
+            }
+            case "health":
+                return String.format("%.1f", bukkitPlayer.getHealth());
+            case "food":
+                return String.valueOf(bukkitPlayer.getFoodLevel());
+            default:
+                return null;
+        }
+    }
+}
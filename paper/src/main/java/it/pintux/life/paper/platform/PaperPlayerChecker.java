@@ -1,7 +1,7 @@
 package it.pintux.life.paper.platform;
 
 import it.pintux.life.common.platform.PlatformPlayerChecker;
-import org.geysermc.floodgate.api.FloodgateApi;
+import it.pintux.life.common.utils.BedrockPlayerRegistry;
 
 import java.util.UUID;
 
@@ -10,19 +10,11 @@ public class PaperPlayerChecker implements PlatformPlayerChecker {
 
     @Override
     public boolean isBedrockPlayer(UUID playerUuid) {
-        try {
-            return isFloodgateAvailable() && FloodgateApi.getInstance().isFloodgatePlayer(playerUuid);
-        } catch (Exception e) {
-            return false;
-        }
+        return BedrockPlayerRegistry.isBedrockPlayer(playerUuid);
     }
 
     @Override
     public boolean isFloodgateAvailable() {
-        try {
-            return FloodgateApi.getInstance() != null;
-        } catch (Exception e) {
-            return false;
-        }
+        return BedrockPlayerRegistry.isFloodgateAvailable();
     }
 }
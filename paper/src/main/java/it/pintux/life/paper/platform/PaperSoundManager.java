@@ -6,9 +6,45 @@ import org.bukkit.Bukkit;
 import org.bukkit.Sound;
 import org.bukkit.entity.Player;
 
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 
 public class PaperSoundManager implements PlatformSoundManager {
 
+    private static final String[] IMPLIED_PREFIXES = {"entity_", "block_", "ui_"};
+    private static final int MAX_ALIASES = 1024;
+
+    /**
+     * Every accepted spelling of a sound, lower-cased: enum names, namespaced and plain dotted keys,
+     * the same without an entity/block/ui prefix, and the legacy pre-1.9 names. Spellings that only
+     * match after normalization are added the first time they are looked up.
+     */
+    private final Map<String, Sound> registry = new ConcurrentHashMap<>();
+    private final int baseSize;
+
+    public PaperSoundManager() {
+        registerLegacy();
+        for (Sound sound : Sound.values()) {
+            String name = sound.name().toLowerCase(Locale.ROOT);
+            registry.putIfAbsent(name, sound);
+            String key = sound.getKey().getKey();
+            registry.putIfAbsent(key, sound);
+            registry.putIfAbsent(sound.getKey().toString(), sound);
+        }
+        // Unprefixed names resolve in the order entity, block, ui, as the old fallbacks did.
+        for (String prefix : IMPLIED_PREFIXES) {
+            for (Sound sound : Sound.values()) {
+                String name = sound.name().toLowerCase(Locale.ROOT);
+                if (name.startsWith(prefix)) {
+                    registry.putIfAbsent(name.substring(prefix.length()), sound);
+                }
+            }
+        }
+        baseSize = registry.size();
+    }
+
     @Override
     public boolean playSound(FormPlayer player, String soundName, float volume, float pitch) {
         try {
@@ -29,95 +65,47 @@ public class PaperSoundManager implements PlatformSoundManager {
         }
     }
 
+    @Override
+    public boolean isKnownSound(String soundName) {
+        return parseSound(soundName) != null;
+    }
+
     private Sound parseSound(String soundName) {
         if (soundName == null || soundName.isEmpty()) {
             return null;
         }
 
-
-        Sound legacySound = parseLegacySound(soundName);
-        if (legacySound != null) {
-            return legacySound;
+        Sound sound = registry.get(soundName);
+        if (sound != null) {
+            return sound;
         }
 
-        try {
-
-            return Sound.valueOf(soundName.toUpperCase());
-        } catch (IllegalArgumentException e) {
-
-            String normalizedName = soundName.toUpperCase().replace(".", "_");
-
-            try {
-                return Sound.valueOf(normalizedName);
-            } catch (IllegalArgumentException e2) {
-
-                if (!normalizedName.startsWith("ENTITY_")) {
-                    try {
-                        return Sound.valueOf("ENTITY_" + normalizedName);
-                    } catch (IllegalArgumentException e3) {
-
-                        if (!normalizedName.startsWith("BLOCK_")) {
-                            try {
-                                return Sound.valueOf("BLOCK_" + normalizedName);
-                            } catch (IllegalArgumentException e4) {
-
-                                if (!normalizedName.startsWith("UI_")) {
-                                    try {
-                                        return Sound.valueOf("UI_" + normalizedName);
-                                    } catch (IllegalArgumentException e5) {
-                                        return null;
-                                    }
-                                }
-                            }
-                        }
-                    }
-                }
-                return null;
-            }
+        String normalized = soundName.trim().toLowerCase(Locale.ROOT);
+        if (normalized.startsWith("minecraft:")) {
+            normalized = normalized.substring("minecraft:".length());
+        }
+        sound = registry.get(normalized);
+        if (sound == null) {
+            sound = registry.get(normalized.replace('.', '_'));
         }
+        if (sound != null && registry.size() < baseSize + MAX_ALIASES) {
+            registry.putIfAbsent(soundName, sound);
+        }
+        return sound;
     }
 
 
-    private Sound parseLegacySound(String soundName) {
-        String lowerName = soundName.toLowerCase();
-
-
-        switch (lowerName) {
-            case "random.levelup":
-            case "entity.player.levelup":
-                return Sound.ENTITY_PLAYER_LEVELUP;
-            case "random.click":
-            case "ui.button.click":
-                return Sound.UI_BUTTON_CLICK;
-            case "random.pop":
-            case "entity.item.pickup":
-                return Sound.ENTITY_ITEM_PICKUP;
-            case "random.orb":
-            case "entity.experience_orb.pickup":
-                return Sound.ENTITY_EXPERIENCE_ORB_PICKUP;
-            case "mob.villager.yes":
-            case "entity.villager.yes":
-                return Sound.ENTITY_VILLAGER_YES;
-            case "mob.villager.no":
-            case "entity.villager.no":
-                return Sound.ENTITY_VILLAGER_NO;
-            case "note.pling":
-            case "block.note_block.pling":
-                return Sound.BLOCK_NOTE_BLOCK_PLING;
-            case "note.harp":
-            case "block.note_block.harp":
-                return Sound.BLOCK_NOTE_BLOCK_HARP;
-            case "random.break":
-            case "entity.item.break":
-                return Sound.ENTITY_ITEM_BREAK;
-            case "dig.stone":
-            case "block.stone.break":
-                return Sound.BLOCK_STONE_BREAK;
-            case "step.stone":
-            case "block.stone.step":
-                return Sound.BLOCK_STONE_STEP;
-            default:
-                return null;
-        }
+    private void registerLegacy() {
+        registry.put("random.levelup", Sound.ENTITY_PLAYER_LEVELUP);
+        registry.put("random.click", Sound.UI_BUTTON_CLICK);
+        registry.put("random.pop", Sound.ENTITY_ITEM_PICKUP);
+        registry.put("random.orb", Sound.ENTITY_EXPERIENCE_ORB_PICKUP);
+        registry.put("mob.villager.yes", Sound.ENTITY_VILLAGER_YES);
+        registry.put("mob.villager.no", Sound.ENTITY_VILLAGER_NO);
+        registry.put("note.pling", Sound.BLOCK_NOTE_BLOCK_PLING);
+        registry.put("note.harp", Sound.BLOCK_NOTE_BLOCK_HARP);
+        registry.put("random.break", Sound.ENTITY_ITEM_BREAK);
+        registry.put("dig.stone", Sound.BLOCK_STONE_BREAK);
+        registry.put("step.stone", Sound.BLOCK_STONE_STEP);
     }
 }
@@ -1,6 +1,7 @@
 package it.pintux.life.paper.utils;
 
 import it.pintux.life.common.utils.FormConfig;
+import it.pintux.life.common.utils.FormFileCache;
 import org.bukkit.configuration.file.FileConfiguration;
 
 import java.util.List;
@@ -53,7 +54,7 @@ public class PaperConfig implements FormConfig {
     public FormConfig loadFormFile(String relativePath) {
         java.io.File formsDir = new java.io.File(dataFolder, "forms");
         java.io.File file = new java.io.File(formsDir, relativePath);
-        org.bukkit.configuration.file.YamlConfiguration yaml = org.bukkit.configuration.file.YamlConfiguration.loadConfiguration(file);
-        return new PaperConfig(dataFolder, yaml);
+        return FormFileCache.load(file, f -> new PaperConfig(dataFolder,
+                org.bukkit.configuration.file.YamlConfiguration.loadConfiguration(f)));
     }
 }
@@ -0,0 +1,171 @@
+package it.pintux.life.paper.utils;
+
+import it.pintux.life.common.utils.FormConfig;
+import it.pintux.life.common.utils.FormPlayer;
+import me.clip.placeholderapi.PlaceholderAPI;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resolves PlaceholderAPI tokens one at a time and keeps each player's values for a short while.
+ *
+ * <p>Every {@code %...%} token of a text is looked up separately, so a render that shows
+ * {@code %vault_eco_balance%} on thirty buttons asks PlaceholderAPI once. Values live for
+ * {@code placeholder-cache.ttl-ms} (default 50, one tick; 0 disables caching). Expensive expansions
+ * can opt into longer lifetimes under {@code placeholder-cache.ttl-overrides}, keyed by identifier
+ * prefix, e.g. {@code vault_eco_top: 30000}; the longest matching prefix wins.
+ */
+public class PapiBridge {
+
+    private static final long DEFAULT_TTL_MS = 50L;
+    private static final int MAX_TOKENS_PER_PLAYER = 512;
+    private static final UUID NO_PLAYER = new UUID(0L, 0L);
+
+    private final long defaultTtlNanos;
+    private final Map<String, Long> ttlOverrides;
+    private final Map<UUID, Map<String, Entry>> values = new ConcurrentHashMap<>();
+
+    private record Entry(String value, long expiresAt) {
+    }
+
+    private PapiBridge(long defaultTtlMillis, Map<String, Long> ttlOverridesMillis) {
+        this.defaultTtlNanos = TimeUnit.MILLISECONDS.toNanos(defaultTtlMillis);
+        Map<String, Long> overrides = new LinkedHashMap<>();
+        ttlOverridesMillis.forEach((prefix, ttl) -> overrides.put(prefix, TimeUnit.MILLISECONDS.toNanos(ttl)));
+        this.ttlOverrides = overrides;
+    }
+
+    /**
+     * @param config the plugin config, or null for defaults
+     */
+    public static PapiBridge fromConfig(FormConfig config) {
+        if (config == null) {
+            return new PapiBridge(DEFAULT_TTL_MS, Map.of());
+        }
+        long ttl = parseMillis(config.getString("placeholder-cache.ttl-ms", ""), DEFAULT_TTL_MS);
+        Map<String, Long> overrides = new LinkedHashMap<>();
+        for (String prefix : config.getKeys("placeholder-cache.ttl-overrides")) {
+            long value = parseMillis(config.getString("placeholder-cache.ttl-overrides." + prefix, ""), -1L);
+            if (value >= 0) {
+                overrides.put(prefix.toLowerCase(Locale.ROOT), value);
+            }
+        }
+        return new PapiBridge(ttl, overrides);
+    }
+
+    private static long parseMillis(String value, long defaultValue) {
+        if (value == null || value.trim().isEmpty()) return defaultValue;
+        try {
+            long parsed = Long.parseLong(value.trim());
+            return parsed >= 0 ? parsed : defaultValue;
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    /**
+     * Replaces the PlaceholderAPI tokens of a text. A token PlaceholderAPI leaves unchanged keeps its
+     * text, and its closing '%' may open the next token, as with a full PlaceholderAPI pass.
+     */
+    public String setPlaceholders(FormPlayer player, String message) {
+        if (message == null || message.indexOf('%') < 0) {
+            return message;
+        }
+        if (!Bukkit.getPluginManager().isPluginEnabled("PlaceholderAPI")) {
+            return message;
+        }
+
+        Player bukkitPlayer = toBukkit(player);
+        Map<String, Entry> cache = values.computeIfAbsent(player != null ? player.getUniqueId() : NO_PLAYER,
+                id -> new ConcurrentHashMap<>());
+        long now = System.nanoTime();
+
+        StringBuilder sb = null;
+        int i = 0;
+        int length = message.length();
+        while (i < length) {
+            int open = message.indexOf('%', i);
+            if (open < 0) break;
+            int close = message.indexOf('%', open + 1);
+            if (close < 0) break;
+
+            String value = close > open + 1 ? resolve(cache, bukkitPlayer, message.substring(open + 1, close), now) : null;
+            if (sb == null) {
+                sb = new StringBuilder(length + 16);
+            }
+            if (value == null) {
+                sb.append(message, i, open + 1);
+                i = open + 1;
+            } else {
+                sb.append(message, i, open).append(value);
+                i = close + 1;
+            }
+        }
+        if (sb == null) {
+            return message;
+        }
+        return sb.append(message, i, length).toString();
+    }
+
+    /** @return the resolved value, or null when PlaceholderAPI does not know the token */
+    private String resolve(Map<String, Entry> cache, Player bukkitPlayer, String identifier, long now) {
+        Entry entry = cache.get(identifier);
+        if (entry != null && entry.expiresAt() - now > 0) {
+            return entry.value();
+        }
+
+        String token = "%" + identifier + "%";
+        String resolved = PlaceholderAPI.setPlaceholders(bukkitPlayer, token);
+        String value = token.equals(resolved) ? null : resolved;
+
+        long ttl = ttlFor(identifier);
+        if (ttl > 0) {
+            if (cache.size() >= MAX_TOKENS_PER_PLAYER) {
+                cache.clear();
+            }
+            cache.put(identifier, new Entry(value, now + ttl));
+        }
+        return value;
+    }
+
+    private long ttlFor(String identifier) {
+        if (ttlOverrides.isEmpty()) {
+            return defaultTtlNanos;
+        }
+        String lower = identifier.toLowerCase(Locale.ROOT);
+        long ttl = defaultTtlNanos;
+        int matched = -1;
+        for (Map.Entry<String, Long> override : ttlOverrides.entrySet()) {
+            String prefix = override.getKey();
+            if (prefix.length() > matched && lower.startsWith(prefix)) {
+                ttl = override.getValue();
+                matched = prefix.length();
+            }
+        }
+        return ttl;
+    }
+
+    private static Player toBukkit(FormPlayer player) {
+        if (player == null) {
+            return null;
+        }
+        if (player instanceof PaperPlayer) {
+            return ((PaperPlayer) player).getBukkitPlayer();
+        }
+        return Bukkit.getPlayer(player.getUniqueId());
+    }
+
+    /** Drops the cached values of a player who left. */
+    public void invalidate(UUID playerId) {
+        if (playerId != null) {
+            values.remove(playerId);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package it.pintux.life.duelsaddon;
 
 import it.pintux.life.common.api.BedrockGUIApi;
+import it.pintux.life.common.api.CommandDispatcher;
 import it.pintux.life.duelsaddon.action.DuelsFormAction;
 import it.pintux.life.duelsaddon.api.BedrockPlayerDetector;
 import it.pintux.life.duelsaddon.command.DuelsAddonCommand;
@@ -86,6 +87,7 @@ public final class DuelsAddonPlugin extends JavaPlugin {
 
     @Override
     public void onDisable() {
+        CommandDispatcher.shared().unregisterAll(this);
         unregisterActions();
         if (invitationService != null) {
             invitationService.clear();
@@ -129,9 +131,11 @@ public final class DuelsAddonPlugin extends JavaPlugin {
         }
 
         if (configuration.partyInviteFormsEnabled() || configuration.duelInviteFormsEnabled()) {
-            Bukkit.getPluginManager().registerEvents(
-                    new InvitationListener(this, configuration, gateway, invitationService, duelService),
-                    this);
+            InvitationListener invitationListener =
+                    new InvitationListener(this, configuration, gateway, invitationService, duelService);
+            Bukkit.getPluginManager().registerEvents(invitationListener, this);
+            CommandDispatcher.shared().register(this, CommandDispatcher.Priority.MONITOR,
+                    invitationListener.duelRoots(), invitationListener::onCommand);
         }
 
         BedrockGUIApi api = getApiSafely();
@@ -235,6 +239,7 @@ public final class DuelsAddonPlugin extends JavaPlugin {
 
     public void reloadConfiguration() {
         HandlerList.unregisterAll(this);
+        CommandDispatcher.shared().unregisterAll(this);
         unregisterActions();
         configuration = DuelsAddonConfiguration.load(this);
         setupModules();
@@ -6,6 +6,7 @@ import com.phoenixplugins.phoenixduels.api.events.party.PartyParticipantAddedEve
 import com.phoenixplugins.phoenixduels.api.events.party.PartyParticipantRemovedEvent;
 import com.phoenixplugins.phoenixduels.api.participable.Participant;
 import com.phoenixplugins.phoenixduels.api.party.Party;
+import it.pintux.life.common.api.CommandDispatcher;
 import it.pintux.life.duelsaddon.config.DuelsAddonConfiguration;
 import it.pintux.life.duelsaddon.gateway.DuelsGateway;
 import it.pintux.life.duelsaddon.model.InviteView;
@@ -18,22 +19,24 @@ import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
-import org.bukkit.event.player.PlayerCommandPreprocessEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.plugin.Plugin;
 import org.bukkit.scheduler.BukkitTask;
 
+import java.util.LinkedHashSet;
 import java.util.Locale;
+import java.util.Set;
 import java.util.UUID;
 
 /**
  * Watches PhoenixDuels for invitations that need a Bedrock form.
  *
  * <p>Party invitations have a real event. Duel challenges do not, and the duel command is not the
- * moment one is sent - it usually just opens the sender's builder - so the command is observed at
- * {@link EventPriority#MONITOR}, never cancelled, and used only to start watching for the
- * invitation to appear. Challenges sent through this addon's own duel form push their form
- * directly, and the duplicate guard keeps the two from doubling up.</p>
+ * moment one is sent - it usually just opens the sender's builder - so the command is observed
+ * through BedrockGUI's {@link CommandDispatcher} at {@link CommandDispatcher.Priority#MONITOR},
+ * never consumed, and used only to start watching for the invitation to appear. Challenges sent
+ * through this addon's own duel form push their form directly, and the duplicate guard keeps the
+ * two from doubling up.</p>
  *
  * <p>Not covered: a third-party plugin calling {@code ChallengeFacade} directly. Those players see
  * only the chat line.</p>
@@ -112,31 +115,34 @@ public final class InvitationListener implements Listener {
         }
     }
 
-    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
-    public void onCommand(PlayerCommandPreprocessEvent event) {
-        String message = event.getMessage();
-        if (message == null || message.length() < 2 || message.charAt(0) != '/') {
-            return;
-        }
-        String root = CommandAliases.rootOf(message);
-        String[] args = CommandAliases.argsOf(message);
-        if (root == null || args.length == 0) {
-            return;
+    /**
+     * The duel command roots to observe. PhoenixDuels' own configured command is watched on top of
+     * the configured aliases, so a renamed duel command keeps working without an edit here.
+     */
+    public Set<String> duelRoots() {
+        Set<String> roots = new LinkedHashSet<>(duelCommands.roots());
+        String configured = normalize(gateway.commandName("duel", "duel"));
+        if (configured != null && !configured.isEmpty()) {
+            roots.add(configured);
         }
-        // PhoenixDuels' own configured command is watched on top of the configured aliases, so a
-        // renamed duel command keeps working without an edit here.
-        if (!duelCommands.matches(root) && !root.equals(normalize(gateway.commandName("duel", "duel")))) {
-            return;
+        return roots;
+    }
+
+    /** Observes a duel command; never consumes it. */
+    public boolean onCommand(CommandDispatcher.Command command) {
+        String[] args = command.args();
+        Player inviter = command.player(Player.class);
+        if (inviter == null || args.length == 0) {
+            return false;
         }
         String targetName = args[0];
         if (targetName.equalsIgnoreCase("accept") || targetName.equalsIgnoreCase("decline")) {
-            return;
+            return false;
         }
-        UUID inviterId = event.getPlayer().getUniqueId();
-        String inviterName = event.getPlayer().getName();
         String modeArg = args.length > 1 ? args[1] : null;
         int roundsArg = args.length > 2 ? parseRounds(args[2]) : 0;
-        watchForChallenge(inviterId, inviterName, targetName, modeArg, roundsArg);
+        watchForChallenge(inviter.getUniqueId(), inviter.getName(), targetName, modeArg, roundsArg);
+        return false;
     }
 
     /**
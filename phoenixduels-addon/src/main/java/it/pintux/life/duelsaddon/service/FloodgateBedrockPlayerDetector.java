@@ -1,11 +1,11 @@
 package it.pintux.life.duelsaddon.service;
 
+import it.pintux.life.common.utils.BedrockPlayerRegistry;
 import it.pintux.life.duelsaddon.api.BedrockPlayerDetector;
 import org.bukkit.entity.Player;
-import org.geysermc.floodgate.api.FloodgateApi;
 
 /**
- * Floodgate-backed detector.
+ * Floodgate-backed detector, answered from the {@link BedrockPlayerRegistry} shared with the core plugin.
  *
  * <p>Reports {@code false} on any failure, so a missing or broken Floodgate means Bedrock players
  * keep PhoenixDuels' Java menus rather than losing their UI entirely.</p>
@@ -13,11 +13,6 @@ import org.geysermc.floodgate.api.FloodgateApi;
 public final class FloodgateBedrockPlayerDetector implements BedrockPlayerDetector {
     @Override
     public boolean isBedrockPlayer(Player player) {
-        try {
-            return player != null && FloodgateApi.getInstance() != null
-                    && FloodgateApi.getInstance().isFloodgatePlayer(player.getUniqueId());
-        } catch (Exception ignored) {
-            return false;
-        }
+        return player != null && BedrockPlayerRegistry.isBedrockPlayer(player.getUniqueId());
     }
 }
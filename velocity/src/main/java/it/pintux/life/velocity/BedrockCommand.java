@@ -46,9 +46,15 @@ public class BedrockCommand implements SimpleCommand {
                 }
                 
                 plugin.getLogger().info("Reloading BedrockGUI...");
-                plugin.reloadData();
-                String msg = plugin.getMessageData().getValue(MessageData.COMMAND_RELOAD_SUCCESS, null, null);
-                source.sendMessage(Component.text(msg.replace("§", ""), NamedTextColor.GREEN));
+                plugin.reloadDataAsync().whenComplete((ignored, error) -> {
+                    if (error == null) {
+                        String msg = plugin.getMessageData().getValue(MessageData.COMMAND_RELOAD_SUCCESS, null, null);
+                        source.sendMessage(Component.text(msg.replace("§", ""), NamedTextColor.GREEN));
+                    } else {
+                        String msg = plugin.getMessageData().getValue(MessageData.COMMAND_RELOAD_FAILED, null, null);
+                        source.sendMessage(Component.text(msg.replace("§", ""), NamedTextColor.RED));
+                    }
+                });
                 break;
             }
             
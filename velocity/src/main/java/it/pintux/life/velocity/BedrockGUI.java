@@ -2,6 +2,8 @@ package it.pintux.life.velocity;
 
 import com.google.inject.Inject;
 import com.velocitypowered.api.event.Subscribe;
+import com.velocitypowered.api.event.connection.DisconnectEvent;
+import com.velocitypowered.api.event.connection.PostLoginEvent;
 import com.velocitypowered.api.event.proxy.ProxyInitializeEvent;
 import com.velocitypowered.api.event.proxy.ProxyShutdownEvent;
 import com.velocitypowered.api.plugin.annotation.DataDirectory;
@@ -9,6 +11,8 @@ import com.velocitypowered.api.proxy.ProxyServer;
 import it.pintux.life.common.api.BedrockGUIApi;
 import it.pintux.life.common.form.FormMenuUtil;
 import it.pintux.life.common.utils.AssetServer;
+import it.pintux.life.common.utils.BedrockPlayerRegistry;
+import it.pintux.life.common.utils.FormFileCache;
 import it.pintux.life.common.utils.FormSender;
 import it.pintux.life.common.utils.MessageConfig;
 import it.pintux.life.common.utils.MessageData;
@@ -20,6 +24,7 @@ import org.slf4j.Logger;
 
 import java.io.File;
 import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
 
 public class BedrockGUI {
 
@@ -64,9 +69,23 @@ public class BedrockGUI {
         logger.info("BedrockGUI for Velocity enabled successfully!");
     }
 
+    @Subscribe
+    public void onPostLogin(PostLoginEvent event) {
+        BedrockPlayerRegistry.join(event.getPlayer().getUniqueId());
+    }
+
+    @Subscribe
+    public void onDisconnect(DisconnectEvent event) {
+        BedrockPlayerRegistry.quit(event.getPlayer().getUniqueId());
+        if (formMenuUtil != null) {
+            formMenuUtil.invalidatePlayer(event.getPlayer().getUniqueId());
+        }
+    }
+
     @Subscribe
     public void onProxyShutdown(ProxyShutdownEvent event) {
         logger.info("Disabling BedrockGUI for Velocity...");
+        FormFileCache.clear();
 
         if (api != null) {
             try {
@@ -110,13 +129,7 @@ public class BedrockGUI {
         VelocityTitleManager titleManager = new VelocityTitleManager();
         VelocityPluginManager pluginManager = new VelocityPluginManager(server);
         VelocityPlayerManager playerManager = new VelocityPlayerManager(server);
-        if (assetServer != null) {
-            assetServer.shutdown();
-        }
-        assetServer = AssetServer.fromConfig(config, server.getBoundAddress().getHostString(), 8192, dataFolder);
-        if (assetServer != null) {
-            assetServer.start();
-        }
+        restartAssetServer();
 
         api = new BedrockGUIApi(config, messageData, commandExecutor, null, null,
                 formSender, titleManager, pluginManager, playerManager, new it.pintux.life.velocity.platform.VelocityScheduler(getServer()));
@@ -126,7 +139,46 @@ public class BedrockGUI {
         logger.info("Using FormMenuUtil from BedrockGUIApi");
 
         logger.info("BedrockGUI for Velocity loaded and enabled");
+        registerFormCommands();
+    }
+
+    /**
+     * What {@code /bedrockgui reload} runs: the config and messages are read fresh, the menus are built
+     * from them on the action executor, and only once that succeeds are the config, messages, asset
+     * server and form commands swapped, through the scheduler. Before the first load this is
+     * {@link #reloadData()}.
+     *
+     * @return completes once the new menus are live, or exceptionally when they could not be built (the
+     * old config, messages and menus then all stay loaded)
+     */
+    public CompletableFuture<Void> reloadDataAsync() {
+        if (api == null) {
+            reloadData();
+            return CompletableFuture.completedFuture(null);
+        }
+        File dataFolder = dataDirectory.toFile();
+        VelocityConfig freshConfig = new VelocityConfig(dataFolder);
+        MessageData freshMessageData = new MessageData(new VelocityMessageConfig(dataFolder, "messages.yml"));
+        return api.reloadConfigurationAsync(freshConfig, freshMessageData).thenRun(() -> {
+            config = freshConfig;
+            messageData = freshMessageData;
+            restartAssetServer();
+            formMenuUtil.setAssetServer(assetServer);
+            registerFormCommands();
+        });
+    }
+
+    private void restartAssetServer() {
+        if (assetServer != null) {
+            assetServer.shutdown();
+        }
+        assetServer = AssetServer.fromConfig(config, server.getBoundAddress().getHostString(), 8192, dataDirectory.toFile());
+        if (assetServer != null) {
+            assetServer.start();
+        }
+    }
 
+    private void registerFormCommands() {
         try {
             formMenuUtil.getFormMenus().forEach((key, formMenu) -> {
                 String formCmd = formMenu.getFormCommand();
@@ -2,7 +2,7 @@ package it.pintux.life.velocity.platform;
 
 import com.velocitypowered.api.proxy.Player;
 import it.pintux.life.common.platform.PlatformPlayerChecker;
-import org.geysermc.floodgate.api.FloodgateApi;
+import it.pintux.life.common.utils.BedrockPlayerRegistry;
 
 import java.util.UUID;
 
@@ -10,19 +10,11 @@ public class VelocityPlayerChecker implements PlatformPlayerChecker {
 
     @Override
     public boolean isBedrockPlayer(UUID playerUuid) {
-        try {
-            return FloodgateApi.getInstance().isFloodgatePlayer(playerUuid);
-        } catch (Exception e) {
-            return false;
-        }
+        return BedrockPlayerRegistry.isBedrockPlayer(playerUuid);
     }
 
     @Override
     public boolean isFloodgateAvailable() {
-        try {
-            return FloodgateApi.getInstance() != null;
-        } catch (Exception e) {
-            return false;
-        }
+        return BedrockPlayerRegistry.isFloodgateAvailable();
     }
 }
\ No newline at end of file